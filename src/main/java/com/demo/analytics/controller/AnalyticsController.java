@@ -0,0 +1,66 @@
+package com.demo.analytics.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.demo.analytics.dto.HourlyOrderStatsResponse;
+import com.demo.analytics.service.OrderRollupService;
+import com.demo.common.exception.UnauthorizedException;
+import com.demo.common.web.RequestPriority;
+import com.demo.user.entity.Role;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpSession;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Analytics", description = "주문 통계 API")
+public class AnalyticsController {
+
+    private final OrderRollupService orderRollupService;
+
+    public AnalyticsController(OrderRollupService orderRollupService) {
+        this.orderRollupService = orderRollupService;
+    }
+
+    @GetMapping("/orders/hourly")
+    @RequestPriority(RequestPriority.Level.LOW)
+    @Operation(summary = "시간대별 주문/매출 통계 (관리자 전용)",
+            description = "상품별 시간대 주문 수, 수량, 매출을 미리 집계된 값으로 조회합니다. 최근 몇 분의 주문은 아직 반영되지 않았을 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 구간 (시작 ≥ 종료 또는 31일 초과)"),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요합니다"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    public List<HourlyOrderStatsResponse> getHourlyOrderStats(
+            @Parameter(description = "조회 시작 시각 (포함, 해당 시간대부터)", required = true) @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (제외)", required = true) @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "상품 ID (없으면 전체 상품)") @RequestParam(required = false) Long productId,
+            HttpSession session) {
+        Long sessionUserId = (Long) session.getAttribute("userId");
+        Role sessionRole = (Role) session.getAttribute("role");
+
+        if (sessionUserId == null) {
+            throw new UnauthorizedException();
+        }
+
+        if (sessionRole != Role.ROLE_ADMIN) {
+            throw new UnauthorizedException("어드민만 접근할 수 있습니다.");
+        }
+
+        return orderRollupService.getHourlyStats(productId, from, to);
+    }
+}
@@ -0,0 +1,15 @@
+package com.demo.analytics.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품별 시간대 주문 집계")
+public record HourlyOrderStatsResponse(
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "집계 시간대 (정시)", example = "2025-01-01T10:00:00") LocalDateTime hour,
+        @Schema(description = "주문 수", example = "42") long orders,
+        @Schema(description = "주문 수량", example = "57") long quantity,
+        @Schema(description = "매출 (수량 × 가격)", example = "570000") long revenue
+) {
+}
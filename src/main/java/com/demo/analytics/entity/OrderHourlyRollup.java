@@ -0,0 +1,82 @@
+package com.demo.analytics.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * 상품별 한 시간 동안의 주문 수/수량/매출. 키를 직접 정하므로(IDENTITY 아님) 새 버킷은 배치 INSERT된다.
+ * 매출은 주문 수량 × 상품 가격이다 (상품 가격은 바뀌지 않는다).
+ *
+ * 키가 미리 정해진 엔티티는 save()가 merge(SELECT 후 INSERT)로 처리하므로, Persistable로 새 버킷임을 알려 persist하게 한다.
+ */
+@Entity
+@Table(name = "order_hourly_rollups")
+public class OrderHourlyRollup implements Persistable<RollupBucket> {
+
+    @EmbeddedId
+    private RollupBucket bucket;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    @Transient
+    private boolean fresh = true;
+
+    protected OrderHourlyRollup() {
+    }
+
+    public OrderHourlyRollup(RollupBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    public void add(long orders, long quantity, long revenue) {
+        this.orderCount += orders;
+        this.quantity += quantity;
+        this.revenue += revenue;
+    }
+
+    @Override
+    public RollupBucket getId() {
+        return bucket;
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.fresh = false;
+    }
+
+    public RollupBucket getBucket() {
+        return bucket;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public long getRevenue() {
+        return revenue;
+    }
+}
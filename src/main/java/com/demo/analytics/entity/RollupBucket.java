@@ -0,0 +1,47 @@
+package com.demo.analytics.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * 집계 버킷 키: (상품, 정시로 자른 주문 시각).
+ */
+@Embeddable
+public class RollupBucket implements Serializable {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime hour;
+
+    protected RollupBucket() {
+    }
+
+    public RollupBucket(Long productId, LocalDateTime hour) {
+        this.productId = productId;
+        this.hour = hour;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public LocalDateTime getHour() {
+        return hour;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RollupBucket other && productId.equals(other.productId) && hour.equals(other.hour);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, hour);
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.analytics.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 원천 테이블(orders, cart_orders)별로 집계를 마친 마지막 id.
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+public class RollupWatermark {
+
+    @Id
+    private String source;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected RollupWatermark() {
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void advanceTo(long lastId) {
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
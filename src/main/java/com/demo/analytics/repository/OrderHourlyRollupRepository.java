@@ -0,0 +1,33 @@
+package com.demo.analytics.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.demo.analytics.entity.OrderHourlyRollup;
+import com.demo.analytics.entity.RollupBucket;
+
+public interface OrderHourlyRollupRepository extends JpaRepository<OrderHourlyRollup, RollupBucket> {
+
+    /**
+     * 배치에 등장한 버킷들을 한 번에 읽는다. (복합 키라 findAllById는 키마다 조회하므로 쓰지 않는다)
+     * 상품 × 시간의 조합이라 요청하지 않은 버킷이 섞일 수 있으므로 호출자가 키로 거른다.
+     */
+    @Query("SELECT r FROM OrderHourlyRollup r WHERE r.bucket.productId IN :productIds AND r.bucket.hour IN :hours")
+    List<OrderHourlyRollup> findInBuckets(@Param("productIds") Collection<Long> productIds,
+                                          @Param("hours") Collection<LocalDateTime> hours);
+
+    @Query("SELECT r FROM OrderHourlyRollup r WHERE r.bucket.productId = :productId "
+            + "AND r.bucket.hour >= :from AND r.bucket.hour < :to ORDER BY r.bucket.hour")
+    List<OrderHourlyRollup> findByProductIdAndHourRange(@Param("productId") Long productId,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM OrderHourlyRollup r WHERE r.bucket.hour >= :from AND r.bucket.hour < :to "
+            + "ORDER BY r.bucket.hour, r.bucket.productId")
+    List<OrderHourlyRollup> findByHourRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
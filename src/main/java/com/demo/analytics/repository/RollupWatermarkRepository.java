@@ -0,0 +1,22 @@
+package com.demo.analytics.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.demo.analytics.entity.RollupWatermark;
+
+import jakarta.persistence.LockModeType;
+
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+
+    /**
+     * 워터마크를 잠가서 여러 인스턴스의 집계기가 같은 주문을 두 번 더하지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM RollupWatermark w WHERE w.source = :source")
+    Optional<RollupWatermark> findByIdWithPessimisticLock(@Param("source") String source);
+}
@@ -0,0 +1,51 @@
+package com.demo.analytics.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.demo.config.SchedulingConfig;
+
+/**
+ * 새로 들어온 주문을 주기적으로 시간대 집계에 더한다.
+ * 배치마다 트랜잭션을 나눠서 워터마크 락을 짧게 잡는다.
+ */
+@Component
+public class OrderRollupAggregator {
+
+    static final int BATCH_SIZE = 5000;
+    private static final List<String> SOURCES = List.of(OrderRollupService.ORDERS, OrderRollupService.CART_ORDERS);
+
+    private final OrderRollupService orderRollupService;
+    private final Duration settleLag;
+
+    public OrderRollupAggregator(OrderRollupService orderRollupService,
+                                 @Value("${app.analytics.settle-lag:10s}") Duration settleLag) {
+        this.orderRollupService = orderRollupService;
+        this.settleLag = settleLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.rollup-interval:1m}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void rollupNewOrders() {
+        rollupOrdersBefore(LocalDateTime.now().minus(settleLag));
+    }
+
+    /**
+     * @return 집계한 원천 행 수
+     */
+    public int rollupOrdersBefore(LocalDateTime settledBefore) {
+        int total = 0;
+        for (String source : SOURCES) {
+            int rolled;
+            do {
+                rolled = orderRollupService.rollupBatch(source, BATCH_SIZE, settledBefore);
+                total += rolled;
+            } while (rolled > 0);
+        }
+        return total;
+    }
+}
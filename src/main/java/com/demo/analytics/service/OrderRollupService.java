@@ -0,0 +1,173 @@
+package com.demo.analytics.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.analytics.dto.HourlyOrderStatsResponse;
+import com.demo.analytics.entity.OrderHourlyRollup;
+import com.demo.analytics.entity.RollupBucket;
+import com.demo.analytics.entity.RollupWatermark;
+import com.demo.analytics.repository.OrderHourlyRollupRepository;
+import com.demo.analytics.repository.RollupWatermarkRepository;
+import com.demo.order.repository.OrderRepository;
+import com.demo.product.repository.ProductRepository;
+
+/**
+ * 주문을 (상품, 시간) 버킷으로 미리 집계한다. 대시보드는 orders를 GROUP BY 하지 않고 버킷만 읽는다.
+ *
+ * 원천 테이블마다 "여기까지 더했다"는 id 워터마크를 두고, 그 뒤의 주문만 배치로 읽어 더한다.
+ * 장바구니 품목도 orders 행이지만 cart_orders 원천으로 분리해 장바구니 주문 id를 워터마크로 쓴다. (orders 원천은 단건 주문만 읽는다)
+ * 버킷 갱신과 워터마크 이동이 한 트랜잭션이라 배치가 실패해도 두 번 더해지지 않는다.
+ * 주문 수는 접수 기준(총량)이다. 이후 취소는 빼지 않는다.
+ */
+@Service
+@Transactional
+public class OrderRollupService {
+
+    public static final String ORDERS = "orders";
+    public static final String CART_ORDERS = "cart_orders";
+
+    static final Duration MAX_RANGE = Duration.ofDays(31);
+
+    private final RollupWatermarkRepository watermarkRepository;
+    private final OrderHourlyRollupRepository rollupRepository;
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+
+    public OrderRollupService(RollupWatermarkRepository watermarkRepository,
+                              OrderHourlyRollupRepository rollupRepository,
+                              OrderRepository orderRepository,
+                              ProductRepository productRepository) {
+        this.watermarkRepository = watermarkRepository;
+        this.rollupRepository = rollupRepository;
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * 워터마크 뒤의 주문 중 settledBefore 이전에 접수된 것을 최대 batchSize행까지 집계에 더한다.
+     *
+     * id는 INSERT 순서로 발급되지만 커밋 순서는 다를 수 있다. 막 접수된 주문은 건너뛰고 settledBefore에서 멈춰서,
+     * 아직 커밋되지 않은 더 작은 id를 워터마크가 지나쳐 버리지 않게 한다.
+     *
+     * @return 집계한 원천 행 수 (0이면 더 집계할 주문이 없다)
+     */
+    public int rollupBatch(String source, int batchSize, LocalDateTime settledBefore) {
+        RollupWatermark watermark = watermarkRepository.findByIdWithPessimisticLock(source)
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 집계 원천입니다: " + source));
+
+        PageRequest page = PageRequest.of(0, batchSize);
+        List<RollupSource> rows = switch (source) {
+            case ORDERS -> orderRepository.findRollupSources(watermark.getLastId(), page);
+            case CART_ORDERS -> orderRepository.findCartRollupSources(watermark.getLastId(), page);
+            default -> throw new IllegalStateException("알 수 없는 집계 원천입니다: " + source);
+        };
+        List<RollupSource> settled = settledPrefix(rows, batchSize, settledBefore);
+        if (settled.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        for (RollupSource row : settled) {
+            productIds.add(row.productId());
+        }
+        Map<Long, Integer> prices = new HashMap<>();
+        for (ProductPrice price : productRepository.findPrices(productIds)) {
+            prices.put(price.productId(), price.price());
+        }
+
+        Map<RollupBucket, long[]> deltas = new HashMap<>();
+        for (RollupSource row : settled) {
+            RollupBucket bucket = new RollupBucket(row.productId(), row.orderedAt().truncatedTo(ChronoUnit.HOURS));
+            long[] delta = deltas.computeIfAbsent(bucket, key -> new long[3]);
+            delta[0]++;
+            delta[1] += row.quantity();
+            delta[2] += (long) row.quantity() * prices.getOrDefault(row.productId(), 0);
+        }
+        merge(deltas);
+
+        watermark.advanceTo(settled.getLast().sourceId());
+        return settled.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<HourlyOrderStatsResponse> getHourlyStats(Long productId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalStateException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new IllegalStateException("한 번에 최대 31일까지 조회할 수 있습니다.");
+        }
+        // from이 걸친 시간대도 포함한다
+        LocalDateTime fromHour = from.truncatedTo(ChronoUnit.HOURS);
+        List<OrderHourlyRollup> rollups = productId != null
+                ? rollupRepository.findByProductIdAndHourRange(productId, fromHour, to)
+                : rollupRepository.findByHourRange(fromHour, to);
+        return rollups.stream()
+                .map(rollup -> new HourlyOrderStatsResponse(
+                        rollup.getBucket().getProductId(),
+                        rollup.getBucket().getHour(),
+                        rollup.getOrderCount(),
+                        rollup.getQuantity(),
+                        rollup.getRevenue()))
+                .toList();
+    }
+
+    private void merge(Map<RollupBucket, long[]> deltas) {
+        Set<Long> productIds = new HashSet<>();
+        Set<LocalDateTime> hours = new HashSet<>();
+        for (RollupBucket bucket : deltas.keySet()) {
+            productIds.add(bucket.getProductId());
+            hours.add(bucket.getHour());
+        }
+        Map<RollupBucket, OrderHourlyRollup> existing = new HashMap<>();
+        for (OrderHourlyRollup rollup : rollupRepository.findInBuckets(productIds, hours)) {
+            existing.put(rollup.getBucket(), rollup);
+        }
+
+        List<OrderHourlyRollup> created = new ArrayList<>();
+        deltas.forEach((bucket, delta) -> {
+            OrderHourlyRollup rollup = existing.get(bucket);
+            if (rollup == null) {
+                rollup = new OrderHourlyRollup(bucket);
+                created.add(rollup);
+            }
+            rollup.add(delta[0], delta[1], delta[2]);
+        });
+        rollupRepository.saveAll(created);
+    }
+
+    /**
+     * 접수 시각이 settledBefore 이전인 앞부분. 페이지가 꽉 찼다면 마지막 원천 행(장바구니 주문)의 품목이
+     * 잘렸을 수 있으므로 그 주문은 다음 배치로 넘긴다.
+     */
+    static List<RollupSource> settledPrefix(List<RollupSource> rows, int batchSize, LocalDateTime settledBefore) {
+        int end = 0;
+        while (end < rows.size() && rows.get(end).orderedAt().isBefore(settledBefore)) {
+            end++;
+        }
+        if (end == rows.size() && rows.size() == batchSize) {
+            Long lastId = rows.getLast().sourceId();
+            int cut = end;
+            while (cut > 0 && rows.get(cut - 1).sourceId().equals(lastId)) {
+                cut--;
+            }
+            // 한 주문의 품목만으로 페이지가 찬 경우(배치 크기 이상의 품목)는 멈추지 않도록 그대로 넘긴다
+            if (cut > 0) {
+                end = cut;
+            }
+        }
+        return rows.subList(0, end);
+    }
+}
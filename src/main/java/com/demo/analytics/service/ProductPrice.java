@@ -0,0 +1,7 @@
+package com.demo.analytics.service;
+
+/**
+ * 매출 계산용 상품 가격.
+ */
+public record ProductPrice(Long productId, int price) {
+}
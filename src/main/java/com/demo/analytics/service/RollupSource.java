@@ -0,0 +1,9 @@
+package com.demo.analytics.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 원천 한 행. sourceId는 원천(orders: 주문 id, cart_orders: 장바구니 주문 id)의 id로, 워터마크가 이 값을 따라간다.
+ */
+public record RollupSource(Long sourceId, Long productId, int quantity, LocalDateTime orderedAt) {
+}
@@ -0,0 +1,15 @@
+package com.demo.common.cache;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 노드 로컬 캐시의 무효화 메시지 채널.
+ * 캐시는 데이터가 바뀌면 직접 지우지 않고 여기에 발행하며, 구독해 둔 리스너(자기 노드 포함)가 받아서 지운다.
+ * 여러 노드로 늘릴 때는 메시지 브로커(pub/sub) 구현으로 바꾸면 캐시 코드는 그대로 쓸 수 있다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(String channel, long key);
+
+    void subscribe(String channel, LongConsumer listener);
+}
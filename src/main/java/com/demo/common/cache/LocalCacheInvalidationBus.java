@@ -0,0 +1,31 @@
+package com.demo.common.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 CacheInvalidationBus. 발행한 스레드에서 같은 JVM의 구독자에게 바로 전달한다.
+ * 다른 노드에는 전달되지 않으므로, 다중 노드 배포에서는 브로커 기반 구현으로 바꿔야 한다.
+ */
+@Component
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final Map<String, List<LongConsumer>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, long key) {
+        for (LongConsumer listener : listeners.getOrDefault(channel, List.of())) {
+            listener.accept(key);
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, LongConsumer listener) {
+        listeners.computeIfAbsent(channel, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
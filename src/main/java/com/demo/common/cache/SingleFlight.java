@@ -0,0 +1,84 @@
+package com.demo.common.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.demo.common.datasource.ReadRoutingContext;
+import com.demo.common.datasource.ReadYourWritesTracker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합친다 (single-flight).
+ * 먼저 온 요청만 loader를 실행하고, 그 사이 들어온 요청은 같은 결과(예외 포함)를 기다려 받는다.
+ * 인기 상품 하나에 요청이 몰려도 진행 중인 조회가 끝날 때까지 DB 조회는 키당 한 번이다.
+ *
+ * - 키에 엔티티 변경 버전(EntityVersionRegistry)을 넣는다. 커밋된 변경이 있으면 버전이 바뀌므로,
+ *   변경 전에 시작한 조회에는 합류하지 않는다. 방금 쓴 사용자가 자기 변경 전 값을 받지 않는다.
+ * - 호출자가 이미 트랜잭션 안에 있으면 합치지 않는다. 그 트랜잭션에서만 보이는 변경이 있을 수 있다.
+ * - primary에서 읽어야 하는 사용자(ReadYourWritesTracker)도 합치지 않는다.
+ *   먼저 온 요청이 replica로 갔을 수 있기 때문이다.
+ * - 결과를 보관하지 않는다. 조회가 끝나면 키를 지우므로 다음 요청은 다시 조회한다.
+ */
+@Component
+public class SingleFlight {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, long id, long version, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || readYourWritesTracker.mustReadPrimary(ReadRoutingContext.currentUserId())) {
+            return loader.get();
+        }
+
+        Key key = new Key(name, id, version);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            meterRegistry.counter("read.coalesced", "name", name).increment();
+            return (V) await(leader);
+        }
+
+        try {
+            V value = loader.get();
+            inFlight.remove(key, flight);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // 먼저 온 요청이 던진 예외를 그대로 다시 던진다 (OrderNotFoundException 등).
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String name, long id, long version) {
+    }
+}
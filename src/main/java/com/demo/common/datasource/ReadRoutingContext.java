@@ -0,0 +1,25 @@
+package com.demo.common.datasource;
+
+/**
+ * 현재 요청의 사용자 ID를 스레드에 묶어 둔다.
+ * 라우팅 DataSource가 "방금 쓰기를 한 사용자"인지 판단할 때 사용한다.
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Long> CURRENT_USER_ID = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static void bindUser(Long userId) {
+        CURRENT_USER_ID.set(userId);
+    }
+
+    public static Long currentUserId() {
+        return CURRENT_USER_ID.get();
+    }
+
+    public static void clear() {
+        CURRENT_USER_ID.remove();
+    }
+}
@@ -0,0 +1,27 @@
+package com.demo.common.datasource;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 로그인 세션의 userId를 ReadRoutingContext에 바인딩한다.
+ */
+public class ReadRoutingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute("userId") instanceof Long userId) {
+            ReadRoutingContext.bindUser(userId);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadRoutingContext.clear();
+    }
+}
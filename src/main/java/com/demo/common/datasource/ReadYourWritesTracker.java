@@ -0,0 +1,50 @@
+package com.demo.common.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기억해서, 직후 일정 시간(window) 동안은 그 사용자의 읽기를 primary로 보낸다.
+ * → 주문 직후 내 주문 목록을 조회했는데 복제 지연 때문에 주문이 안 보이는 문제를 막는다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final ConcurrentHashMap<Long, Long> stickyUntilMillis = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(@Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    public void markWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        stickyUntilMillis.put(userId, now + windowMillis);
+        if (stickyUntilMillis.size() > PURGE_THRESHOLD) {
+            stickyUntilMillis.values().removeIf(until -> until < now);
+        }
+    }
+
+    public boolean mustReadPrimary(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long until = stickyUntilMillis.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntilMillis.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+}
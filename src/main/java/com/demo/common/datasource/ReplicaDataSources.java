@@ -0,0 +1,16 @@
+package com.demo.common.datasource;
+
+import java.util.List;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * replica 커넥션 풀 목록. (List 빈으로 등록하면 DataSource 타입 빈 전체가 주입되므로 감싸서 등록한다.)
+ */
+public record ReplicaDataSources(List<HikariDataSource> pools) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
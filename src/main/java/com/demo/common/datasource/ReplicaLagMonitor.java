@@ -0,0 +1,104 @@
+package com.demo.common.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 하트비트 테이블로 replica 복제 지연을 측정하고, 지연이 허용치 이내인 replica만 라운드로빈으로 고른다.
+ *
+ * - primary의 replication_heartbeat(V8 마이그레이션)에 현재 시각(ms)을 주기적으로 기록한다.
+ * - 각 replica에서 같은 row를 읽어 (현재 시각 - 기록된 시각)을 지연으로 본다.
+ * - 읽기 실패/지연 초과 replica는 다음 측정 때까지 제외된다. 모두 제외되면 primary로 읽는다.
+ * - 측정 시각도 함께 둔다. 마지막 측정이 허용 지연보다 오래됐으면(측정 작업이 멈췄거나 밀림) 그 replica도 제외한다.
+ *   측정이 멈춘 동안 마지막 "정상" 값만 믿고 계속 replica로 보내지 않기 위해서다.
+ * - 이 빈은 Flyway 마이그레이션보다 먼저 만들어지므로 생성자에서는 측정하지 않는다.
+ *   첫 측정(기동 직후 스케줄)까지는 모든 replica가 제외되어 primary로 읽는다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String UPDATE_SQL = "UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?)";
+    private static final String SELECT_SQL = "SELECT beat_millis FROM replication_heartbeat WHERE id = 1";
+
+    private static final long UNHEALTHY = Long.MAX_VALUE;
+
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> replicas;
+    private final long maxLagMillis;
+    private final AtomicLongArray lagMillis;
+    private final AtomicLongArray measuredAtMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaLagMonitor(DataSource primary, List<DataSource> replicas, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas.stream().map(JdbcTemplate::new).toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        this.measuredAtMillis = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, UNHEALTHY);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update(UPDATE_SQL, now) == 0) {
+                primary.update(INSERT_SQL, now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("replication heartbeat write failed", e);
+        }
+
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, measureLag(replicas.get(i), now));
+            measuredAtMillis.set(i, now);
+        }
+    }
+
+    private long measureLag(JdbcTemplate replica, long now) {
+        try {
+            List<Long> beats = replica.queryForList(SELECT_SQL, Long.class);
+            return beats.isEmpty() ? UNHEALTHY : Math.max(0, now - beats.get(0));
+        } catch (RuntimeException e) {
+            log.debug("replica heartbeat read failed", e);
+            return UNHEALTHY;
+        }
+    }
+
+    /**
+     * 지연이 허용치 이내인 replica 인덱스를 라운드로빈으로 고른다. 없으면 empty (primary 사용).
+     */
+    public Optional<Integer> nextHealthyReplica() {
+        return nextHealthyReplica(System.currentTimeMillis());
+    }
+
+    Optional<Integer> nextHealthyReplica(long nowMillis) {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int offset = 0; offset < size; offset++) {
+            int index = (start + offset) % size;
+            if (lagMillis.get(index) <= maxLagMillis && nowMillis - measuredAtMillis.get(index) <= maxLagMillis) {
+                return Optional.of(index);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public long lagMillis(int replicaIndex) {
+        return lagMillis.get(replicaIndex);
+    }
+}
@@ -0,0 +1,53 @@
+package com.demo.common.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica로, 그 외는 primary로 보내는 라우팅 DataSource.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 커넥션을 고르게 해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.mustReadPrimary(ReadRoutingContext.currentUserId())) {
+            return PRIMARY;
+        }
+        return lagMonitor.nextHealthyReplica()
+                .<Object>map(index -> REPLICA_PREFIX + index)
+                .orElse(PRIMARY);
+    }
+}
@@ -5,4 +5,8 @@ public class InsufficientStockException extends RuntimeException {
     public InsufficientStockException(String productName, int currentStock) {
         super("재고가 부족합니다. 상품: " + productName + ", 현재 재고: " + currentStock);
     }
+
+    public InsufficientStockException(Long productId, int currentStock) {
+        super("재고가 부족합니다. 상품 id=" + productId + ", 현재 재고: " + currentStock);
+    }
 }
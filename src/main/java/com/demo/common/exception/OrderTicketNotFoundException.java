@@ -0,0 +1,8 @@
+package com.demo.common.exception;
+
+public class OrderTicketNotFoundException extends RuntimeException {
+
+    public OrderTicketNotFoundException(String ticketId) {
+        super("주문 접수 티켓을 찾을 수 없습니다. id=" + ticketId);
+    }
+}
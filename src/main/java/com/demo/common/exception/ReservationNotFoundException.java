@@ -0,0 +1,8 @@
+package com.demo.common.exception;
+
+public class ReservationNotFoundException extends RuntimeException {
+
+    public ReservationNotFoundException(Long reservationId) {
+        super("예약을 찾을 수 없습니다. id=" + reservationId);
+    }
+}
@@ -0,0 +1,68 @@
+package com.demo.common.json;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * LocalDateTime을 ISO_LOCAL_DATE_TIME 형식으로 쓴다. (Jackson 기본 출력과 같은 문자열)
+ * DateTimeFormatter를 거치지 않고 스레드별 char 버퍼에 숫자를 직접 채워 넣으므로 문자열을 만들지 않는다.
+ *
+ * - 초는 항상 쓰고, 나노초는 0이 아니면 뒤쪽 0을 뺀 자릿수만 쓴다.
+ * - 0~9999년 밖의 값은 드물기 때문에 표준 포매터로 넘긴다.
+ */
+final class IsoTimestampWriter {
+
+    private static final int MAX_LENGTH = "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn".length();
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private IsoTimestampWriter() {
+    }
+
+    static void write(JsonGenerator gen, LocalDateTime value) {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+
+        char[] buf = BUFFER.get();
+        digits(buf, 0, year, 4);
+        buf[4] = '-';
+        digits(buf, 5, value.getMonthValue(), 2);
+        buf[7] = '-';
+        digits(buf, 8, value.getDayOfMonth(), 2);
+        buf[10] = 'T';
+        digits(buf, 11, value.getHour(), 2);
+        buf[13] = ':';
+        digits(buf, 14, value.getMinute(), 2);
+        buf[16] = ':';
+        digits(buf, 17, value.getSecond(), 2);
+
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buf[19] = '.';
+            digits(buf, 20, nano, width);
+            length = 20 + width;
+        }
+        gen.writeString(buf, 0, length);
+    }
+
+    private static void digits(char[] buf, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
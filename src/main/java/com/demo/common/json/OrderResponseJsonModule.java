@@ -0,0 +1,202 @@
+package com.demo.common.json;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.UserDeliveryStatusResponse;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.user.dto.UserOrdersResponse;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * 주문 관련 응답 DTO 전용 직렬화기 모음.
+ * 주문 목록처럼 건수가 많은 응답에서 리플렉션 기반 프로퍼티 탐색, 필드명 인코딩,
+ * DateTimeFormatter 포맷팅이 건마다 반복되지 않도록 필드를 직접 쓴다.
+ *
+ * - 필드명과 배송 상태 값은 미리 인코딩해 둔 SerializedString을 재사용한다.
+ * - 출력은 기본 Jackson 직렬화와 같아야 한다(필드 순서, null 출력, 날짜 형식). DTO에 필드를 추가하면 여기도 고친다.
+ * - Spring Boot가 JacksonModule 빈을 자동으로 등록한다.
+ */
+@Component
+public class OrderResponseJsonModule extends SimpleModule {
+
+    private static final SerializableString ORDER_ID = new SerializedString("orderId");
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString USER_NAME = new SerializedString("userName");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializableString QUANTITY = new SerializedString("quantity");
+    private static final SerializableString SHIPPING_ADDRESS = new SerializedString("shippingAddress");
+    private static final SerializableString DELIVERY_STATUS = new SerializedString("deliveryStatus");
+    private static final SerializableString ORDERED_AT = new SerializedString("orderedAt");
+    private static final SerializableString TOTAL_ORDERS = new SerializedString("totalOrders");
+    private static final SerializableString ORDERS = new SerializedString("orders");
+    private static final SerializableString DELIVERIES = new SerializedString("deliveries");
+
+    private static final Map<DeliveryStatus, SerializableString> STATUS_VALUES = new EnumMap<>(DeliveryStatus.class);
+
+    static {
+        for (DeliveryStatus status : DeliveryStatus.values()) {
+            STATUS_VALUES.put(status, new SerializedString(status.name()));
+        }
+    }
+
+    public OrderResponseJsonModule() {
+        super("order-response");
+        addSerializer(CreateOrderResponse.class, new CreateOrderResponseSerializer());
+        addSerializer(DeliveryStatusResponse.class, new DeliveryStatusResponseSerializer());
+        addSerializer(UserDeliveryStatusResponse.class, new UserDeliveryStatusResponseSerializer());
+        addSerializer(UserOrdersResponse.class, new UserOrdersResponseSerializer());
+    }
+
+    private static void writeOrder(JsonGenerator gen, CreateOrderResponse order) {
+        if (order == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeName(ORDER_ID);
+        writeLong(gen, order.orderId());
+        gen.writeName(USER_ID);
+        writeLong(gen, order.userId());
+        gen.writeName(PRODUCT_NAME);
+        gen.writeString(order.productName());
+        gen.writeName(QUANTITY);
+        gen.writeNumber(order.quantity());
+        gen.writeName(SHIPPING_ADDRESS);
+        gen.writeString(order.shippingAddress());
+        gen.writeName(DELIVERY_STATUS);
+        writeStatus(gen, order.deliveryStatus());
+        gen.writeName(ORDERED_AT);
+        IsoTimestampWriter.write(gen, order.orderedAt());
+        gen.writeEndObject();
+    }
+
+    private static void writeDelivery(JsonGenerator gen, DeliveryStatusResponse delivery) {
+        if (delivery == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeName(ORDER_ID);
+        writeLong(gen, delivery.orderId());
+        gen.writeName(DELIVERY_STATUS);
+        writeStatus(gen, delivery.deliveryStatus());
+        gen.writeName(ORDERED_AT);
+        IsoTimestampWriter.write(gen, delivery.orderedAt());
+        gen.writeEndObject();
+    }
+
+    private static void writeLong(JsonGenerator gen, Long value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeStatus(JsonGenerator gen, DeliveryStatus status) {
+        if (status == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(STATUS_VALUES.get(status));
+        }
+    }
+
+    private static final class CreateOrderResponseSerializer extends StdSerializer<CreateOrderResponse> {
+
+        CreateOrderResponseSerializer() {
+            super(CreateOrderResponse.class);
+        }
+
+        @Override
+        public void serialize(CreateOrderResponse value, JsonGenerator gen, SerializationContext context) {
+            writeOrder(gen, value);
+        }
+    }
+
+    private static final class DeliveryStatusResponseSerializer extends StdSerializer<DeliveryStatusResponse> {
+
+        DeliveryStatusResponseSerializer() {
+            super(DeliveryStatusResponse.class);
+        }
+
+        @Override
+        public void serialize(DeliveryStatusResponse value, JsonGenerator gen, SerializationContext context) {
+            writeDelivery(gen, value);
+        }
+    }
+
+    private static final class UserDeliveryStatusResponseSerializer extends StdSerializer<UserDeliveryStatusResponse> {
+
+        UserDeliveryStatusResponseSerializer() {
+            super(UserDeliveryStatusResponse.class);
+        }
+
+        @Override
+        public void serialize(UserDeliveryStatusResponse value, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject();
+            gen.writeName(USER_ID);
+            writeLong(gen, value.userId());
+            gen.writeName(USER_NAME);
+            gen.writeString(value.userName());
+            gen.writeName(EMAIL);
+            gen.writeString(value.email());
+            gen.writeName(TOTAL_ORDERS);
+            gen.writeNumber(value.totalOrders());
+            gen.writeName(DELIVERIES);
+            List<DeliveryStatusResponse> deliveries = value.deliveries();
+            if (deliveries == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray();
+                for (DeliveryStatusResponse delivery : deliveries) {
+                    writeDelivery(gen, delivery);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class UserOrdersResponseSerializer extends StdSerializer<UserOrdersResponse> {
+
+        UserOrdersResponseSerializer() {
+            super(UserOrdersResponse.class);
+        }
+
+        @Override
+        public void serialize(UserOrdersResponse value, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartObject();
+            gen.writeName(USER_ID);
+            writeLong(gen, value.userId());
+            gen.writeName(USER_NAME);
+            gen.writeString(value.userName());
+            gen.writeName(TOTAL_ORDERS);
+            gen.writeNumber(value.totalOrders());
+            gen.writeName(ORDERS);
+            List<CreateOrderResponse> orders = value.orders();
+            if (orders == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray();
+                for (CreateOrderResponse order : orders) {
+                    writeOrder(gen, order);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+}
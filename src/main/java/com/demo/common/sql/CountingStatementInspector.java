@@ -0,0 +1,16 @@
+package com.demo.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 모든 SQL을 SqlStatementCounter에 기록한다 (문장 수, 켜져 있으면 원문). SQL은 바꾸지 않는다.
+ * hibernate.session_factory.statement_inspector 설정으로 등록한다.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.record(sql);
+        return sql;
+    }
+}
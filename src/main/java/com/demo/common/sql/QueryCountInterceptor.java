@@ -0,0 +1,47 @@
+package com.demo.common.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 세고, 기준을 넘으면 핸들러 이름과 함께 경고 로그를 남긴다.
+ * N+1 같은 쿼리 수 증가를 운영 로그에서 바로 찾기 위한 것이다.
+ */
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountInterceptor.class);
+
+    private static final String STARTED_AT = QueryCountInterceptor.class.getName() + ".startedAt";
+
+    private final long warnThreshold;
+
+    public QueryCountInterceptor(long warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.reset();
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        long statements = SqlStatementCounter.current();
+        if (statements <= warnThreshold) {
+            return;
+        }
+        Object startedAt = request.getAttribute(STARTED_AT);
+        long elapsedMillis = startedAt instanceof Long started ? (System.nanoTime() - started) / 1_000_000 : -1;
+        String handlerName = handler instanceof HandlerMethod method ? method.getShortLogMessage() : String.valueOf(handler);
+        log.warn("{} {} executed {} SQL statements in {} ms (threshold {}) - {}",
+                request.getMethod(), request.getRequestURI(), statements, elapsedMillis, warnThreshold, handlerName);
+    }
+}
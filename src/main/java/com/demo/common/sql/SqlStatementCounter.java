@@ -0,0 +1,55 @@
+package com.demo.common.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수를 센다.
+ * 요청 단위(QueryCountInterceptor)와 테스트 단위(QueryCountExtension)로 0부터 다시 센다.
+ *
+ * - 스레드 로컬 카운터 하나만 올리므로 운영에서도 켜 둘 수 있다.
+ * - Hibernate가 문장을 준비할 때마다 센다. JDBC 배치로 묶인 같은 문장은 배치당 한 번으로 센다.
+ * - startCapture ~ stopCapture 사이에는 SQL 원문도 모은다 (실행 계획 테스트용). 평소에는 모으지 않는다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Counter> COUNTER = ThreadLocal.withInitial(Counter::new);
+
+    private SqlStatementCounter() {
+    }
+
+    static void record(String sql) {
+        Counter counter = COUNTER.get();
+        counter.count++;
+        if (counter.captured != null) {
+            counter.captured.add(sql);
+        }
+    }
+
+    public static void reset() {
+        COUNTER.get().count = 0;
+    }
+
+    public static long current() {
+        return COUNTER.get().count;
+    }
+
+    public static void startCapture() {
+        COUNTER.get().captured = new ArrayList<>();
+    }
+
+    /**
+     * @return startCapture 이후 이 스레드에서 실행된 SQL (실행 순, 바인드 파라미터는 ? 그대로)
+     */
+    public static List<String> stopCapture() {
+        Counter counter = COUNTER.get();
+        List<String> captured = counter.captured == null ? List.of() : List.copyOf(counter.captured);
+        counter.captured = null;
+        return captured;
+    }
+
+    private static final class Counter {
+        private long count;
+        private List<String> captured;
+    }
+}
@@ -0,0 +1,116 @@
+package com.demo.common.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.demo.common.web.RequestPriority.Level;
+import com.demo.config.ConcurrencyLimitProperties;
+
+/**
+ * 측정한 응답 시간으로 동시 처리 한도를 계속 조정한다 (gradient 방식).
+ * 과부하에서 요청이 줄을 서며 모두 함께 느려지는 대신, 한도를 넘는 요청은 바로 거절한다.
+ *
+ * [한도 조정] 요청이 끝날 때마다:
+ *   gradient = clamp(rttTolerance * longRtt / shortRtt, 0.5, 1.0)
+ *   newLimit = limit * gradient + sqrt(limit)
+ *   - 지연이 평소(longRtt) 수준이면 gradient = 1 → 한도를 조금씩 늘린다.
+ *   - 지연이 늘어나면(DB 락/커넥션 대기) gradient < 1 → 한도를 비율로 줄인다.
+ *   - 요청이 실패(예외, 5xx)하면 한도를 10% 줄인다.
+ *   - 동시 요청이 한도의 절반도 안 되면 한도를 늘리지 않는다 (부하가 없는 상태의 측정으로 커지지 않게).
+ * [우선순위] 등급별로 쓸 수 있는 한도 비율이 다르다 (CRITICAL 100%, NORMAL normalShare, LOW lowShare).
+ *   한도가 줄면 LOW부터 거절되고, CRITICAL은 마지막까지 자리를 가진다.
+ *
+ * - 자리 확인/반납은 AtomicInteger CAS, 한도 갱신만 짧은 synchronized 구간이다.
+ * - 응답 시간은 핸들러 전체(서비스 + 리포지토리 호출)를 잰다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_ALPHA = 0.1;
+    private static final double LONG_RTT_ALPHA = 0.002;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+    }
+
+    /**
+     * 자리가 있으면 차지하고 true. 반드시 {@link #release(long, boolean)}로 반납한다.
+     */
+    public boolean tryAcquire(Level priority) {
+        if (!properties.enabled()) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos 요청 처리 시간
+     * @param failed   예외 또는 5xx로 끝났는지
+     */
+    public void release(long rttNanos, boolean failed) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        if (properties.enabled()) {
+            update(rttNanos, inFlightAtRelease, failed);
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private int allowed(Level priority) {
+        double share = switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> properties.normalShare();
+            case LOW -> properties.lowShare();
+        };
+        return Math.max(1, (int) (limit * share));
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtRelease, boolean failed) {
+        double current = limit;
+        double next;
+        if (failed) {
+            next = current * 0.9;
+        } else {
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            } else {
+                shortRtt += (rttNanos - shortRtt) * SHORT_RTT_ALPHA;
+                longRtt += (rttNanos - longRtt) * LONG_RTT_ALPHA;
+            }
+            // 지연이 크게 줄었으면(과부하 해소) 기준 지연도 빨리 따라 내려간다.
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            if (inFlightAtRelease < current / 2) {
+                return;
+            }
+            double gradient = Math.clamp(properties.rttTolerance() * longRtt / shortRtt, 0.5, 1.0);
+            next = current * gradient + Math.sqrt(current);
+        }
+        double smoothed = current * (1 - properties.smoothing()) + next * properties.smoothing();
+        limit = Math.clamp(smoothed, properties.minLimit(), properties.maxLimit());
+    }
+}
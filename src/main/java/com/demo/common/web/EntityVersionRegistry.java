@@ -0,0 +1,105 @@
+package com.demo.common.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.order.event.OrderChangedEvent;
+import com.demo.product.event.ProductChangedEvent;
+
+/**
+ * 조건부 GET(ETag)을 위한 인메모리 변경 카운터.
+ * DB를 조회하지 않고 ETag를 만들 수 있으므로 304 응답은 메모리 조회만으로 끝난다.
+ *
+ * - id를 STRIPES개 슬롯으로 나눠 슬롯별 카운터를 둔다. 주문이 수백만 건이어도 메모리는 고정이다.
+ *   같은 슬롯의 다른 id가 바뀌어도 ETag가 바뀌지만, 이는 불필요한 200일 뿐 잘못된 304는 아니다.
+ * - 커밋 직전과 직후에 한 번씩 올린다. 커밋 전 데이터를 새 ETag로 받아 간 클라이언트도
+ *   커밋 후 한 번 더 바뀐 ETag 때문에 다시 받게 된다.
+ * - 기동 시각(bootId)을 ETag에 넣어 재시작 후 카운터가 0부터 시작해도 이전 ETag와 겹치지 않는다.
+ * - 커밋 직후의 증가는 CacheInvalidationBus로 발행하고, 구독해서 올린다(자기 노드 포함).
+ *   다른 노드에서 바뀐 상품/주문도 이 노드의 ETag를 바꾸므로, 여러 노드로 배포해도 오래된 데이터에 304를 주지 않는다.
+ *   커밋 직전 증가는 그 노드에서 커밋 전 데이터를 읽은 요청만 대상이므로 로컬에서만 올린다.
+ */
+@Component
+public class EntityVersionRegistry {
+
+    private static final int STRIPES = 1 << 16;
+    private static final String PRODUCT_CHANNEL = "product-version";
+    private static final String ORDER_CHANNEL = "order-version";
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLongArray productVersions = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray orderVersions = new AtomicLongArray(STRIPES);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final CacheInvalidationBus invalidationBus;
+
+    public EntityVersionRegistry(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(PRODUCT_CHANNEL, this::bumpProduct);
+        invalidationBus.subscribe(ORDER_CHANNEL, this::bumpOrder);
+    }
+
+    public String productEtag(Long productId) {
+        return etag("p", productId, productVersions.get(stripe(productId)));
+    }
+
+    public String orderEtag(Long orderId) {
+        return etag("o", orderId, orderVersions.get(stripe(orderId)));
+    }
+
+    /**
+     * 변경될 때마다 커지는 값. 같은 값이면 그 사이 커밋된 변경이 없다 (같은 슬롯의 다른 id 변경으로 바뀔 수는 있다).
+     */
+    public long productVersion(Long productId) {
+        return productVersions.get(stripe(productId));
+    }
+
+    public long orderVersion(Long orderId) {
+        return orderVersions.get(stripe(orderId));
+    }
+
+    public String catalogEtag() {
+        return "\"c-" + bootId + "-" + catalogVersion.get() + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void beforeProductCommit(ProductChangedEvent event) {
+        bumpProduct(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterProductCommit(ProductChangedEvent event) {
+        invalidationBus.publish(PRODUCT_CHANNEL, event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void beforeOrderCommit(OrderChangedEvent event) {
+        bumpOrder(event.orderId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterOrderCommit(OrderChangedEvent event) {
+        invalidationBus.publish(ORDER_CHANNEL, event.orderId());
+    }
+
+    private void bumpProduct(long productId) {
+        productVersions.incrementAndGet(stripe(productId));
+        catalogVersion.incrementAndGet();
+    }
+
+    private void bumpOrder(long orderId) {
+        orderVersions.incrementAndGet(stripe(orderId));
+    }
+
+    private String etag(String type, Long id, long version) {
+        return "\"" + type + id + "-" + bootId + "-" + version + "\"";
+    }
+
+    private static int stripe(long id) {
+        return (int) (id & (STRIPES - 1));
+    }
+}
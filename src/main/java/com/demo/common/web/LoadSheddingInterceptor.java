@@ -0,0 +1,54 @@
+package com.demo.common.web;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.demo.common.exception.ServiceOverloadedException;
+import com.demo.common.web.RequestPriority.Level;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 컨트롤러 앞에서 AdaptiveConcurrencyLimiter 자리를 잡는다. 자리가 없으면 바로 503.
+ * 요청의 우선순위는 핸들러의 @RequestPriority로 정한다.
+ */
+public class LoadSheddingInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = LoadSheddingInterceptor.class.getName() + ".startedAt";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public LoadSheddingInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire(priorityOf(handler))) {
+            throw new ServiceOverloadedException();
+        }
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            limiter.release(System.nanoTime() - startedAt, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    static Level priorityOf(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return Level.NORMAL;
+        }
+        RequestPriority priority = method.getMethodAnnotation(RequestPriority.class);
+        if (priority == null) {
+            priority = method.getBeanType().getAnnotation(RequestPriority.class);
+        }
+        return priority == null ? Level.NORMAL : priority.value();
+    }
+}
@@ -0,0 +1,26 @@
+package com.demo.common.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 과부하 시 요청을 버리는 순서를 정한다. 붙이지 않은 핸들러는 NORMAL이다.
+ * 메서드에 붙인 값이 클래스에 붙인 값보다 우선한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestPriority {
+
+    Level value();
+
+    enum Level {
+        /** 주문 생성/예약 등 매출 경로. 동시 처리 한도 전체를 쓸 수 있다. */
+        CRITICAL,
+        /** 배송 상태 조회, 상품 조회 등 일반 조회. */
+        NORMAL,
+        /** 관리자 리포트 등 미뤄도 되는 요청. 가장 먼저 버린다. */
+        LOW
+    }
+}
@@ -0,0 +1,33 @@
+package com.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * app.web.concurrency-limit.* 설정. API 전체의 적응형 동시 처리 한도.
+ *
+ * <pre>
+ * app:
+ *   web:
+ *     concurrency-limit:
+ *       initial-limit: 40
+ *       min-limit: 4
+ *       max-limit: 400
+ *       rtt-tolerance: 1.5   # 지연이 평소의 몇 배까지 늘어도 한도를 줄이지 않을지
+ *       smoothing: 0.2       # 새 한도를 얼마나 빨리 반영할지 (0~1)
+ *       normal-share: 0.8    # NORMAL 요청이 쓸 수 있는 한도 비율
+ *       low-share: 0.5       # LOW 요청이 쓸 수 있는 한도 비율
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "app.web.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("40") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("400") int maxLimit,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.8") double normalShare,
+        @DefaultValue("0.5") double lowShare
+) {
+}
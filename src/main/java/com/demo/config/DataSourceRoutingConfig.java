@@ -0,0 +1,79 @@
+package com.demo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.demo.common.datasource.ReadYourWritesTracker;
+import com.demo.common.datasource.ReplicaDataSources;
+import com.demo.common.datasource.ReplicaLagMonitor;
+import com.demo.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * app.datasource.replica.enabled=true 일 때만 primary/replica 라우팅 DataSource를 구성한다.
+ * 설정이 없으면 Spring Boot 기본 DataSource(primary 단일)를 그대로 사용한다.
+ *
+ * JPA가 사용하는 DataSource = LazyConnectionDataSourceProxy(ReplicaRoutingDataSource(primary, replicas...))
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password) {
+        return pool("primary", url, username, password);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSources replicaDataSources(ReplicaDataSourceProperties properties) {
+        List<ReplicaDataSourceProperties.Node> nodes = properties.nodes();
+        List<HikariDataSource> pools = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaDataSourceProperties.Node node = nodes.get(i);
+            pools.add(pool("replica-" + i, node.url(), node.username(), node.password()));
+        }
+        return new ReplicaDataSources(List.copyOf(pools));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               ReplicaDataSources replicaDataSources,
+                                               ReplicaDataSourceProperties properties) {
+        return new ReplicaLagMonitor(primaryDataSource, List.copyOf(replicaDataSources.pools()), properties.maxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaDataSources replicaDataSources,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primaryDataSource, List.copyOf(replicaDataSources.pools()), replicaLagMonitor, readYourWritesTracker
+        );
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+}
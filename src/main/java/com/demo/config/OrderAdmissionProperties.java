@@ -0,0 +1,33 @@
+package com.demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * app.order.admission.* 설정. 주문 생성 요청의 유입 제한.
+ *
+ * <pre>
+ * app:
+ *   order:
+ *     admission:
+ *       user-rate-per-second: 5      # 사용자별 초당 주문 수
+ *       user-burst: 10               # 사용자별 순간 허용량
+ *       product-rate-per-second: 200 # 상품별 초당 주문 수 (상품별 세 값은 재고 샤드 수만큼 곱해진다)
+ *       product-burst: 400
+ *       product-concurrency: 4       # 상품별로 동시에 DB 락을 기다릴 수 있는 요청 수 (커넥션 풀보다 작게)
+ *       queue-timeout: 100ms         # 동시 처리 한도를 넘었을 때 자리를 기다리는 최대 시간
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "app.order.admission")
+public record OrderAdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5") double userRatePerSecond,
+        @DefaultValue("10") int userBurst,
+        @DefaultValue("200") double productRatePerSecond,
+        @DefaultValue("400") int productBurst,
+        @DefaultValue("4") int productConcurrency,
+        @DefaultValue("100ms") Duration queueTimeout
+) {
+}
@@ -0,0 +1,26 @@
+package com.demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * app.order.async.* 설정. 비동기 주문 접수 대기열.
+ *
+ * <pre>
+ * app:
+ *   order:
+ *     async:
+ *       queue-capacity: 10000   # 가득 차면 접수를 429로 거절한다
+ *       workers: 4              # 대기열을 처리하는 작업자 수 (= 주문 처리에 쓰는 최대 DB 커넥션 수)
+ *       result-retention: 10m   # 처리가 끝난 티켓을 조회할 수 있는 기간
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "app.order.async")
+public record OrderSubmissionProperties(
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("4") int workers,
+        @DefaultValue("10m") Duration resultRetention
+) {
+}
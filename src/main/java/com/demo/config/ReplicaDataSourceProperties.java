@@ -0,0 +1,35 @@
+package com.demo.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * app.datasource.replica.* 설정.
+ *
+ * <pre>
+ * app:
+ *   datasource:
+ *     replica:
+ *       enabled: true
+ *       max-lag: 2s
+ *       read-your-writes-window: 5s
+ *       nodes:
+ *         - url: jdbc:mysql://replica-1:3306/orderdb
+ *           username: reader
+ *           password: ...
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        @DefaultValue List<Node> nodes,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("5s") Duration readYourWritesWindow
+) {
+
+    public record Node(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러를 둘로 나눈다.
+ *
+ * - taskScheduler: 짧게 자주 도는 작업(이력 flush, 예약 스위퍼, replica 지연 측정, 샤드 리밸런서, 순위판 등).
+ *   기본 스케줄러는 스레드가 1개라 한 작업이 늦어지면 나머지가 모두 밀리므로 여러 스레드로 돌린다.
+ * - batchTaskScheduler: 오래 걸릴 수 있는 배치(아카이브, 시간대별 집계). @Scheduled(scheduler = ...)로 지정한다.
+ *   배치가 몇 분씩 돌아도 짧은 작업의 주기가 밀리지 않는다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String BATCH_SCHEDULER = "batchTaskScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    @Bean(BATCH_SCHEDULER)
+    public ThreadPoolTaskScheduler batchTaskScheduler(@Value("${app.scheduling.batch-pool-size:2}") int poolSize) {
+        return scheduler("batch-", poolSize);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setPoolSize(poolSize);
+        return scheduler;
+    }
+}
@@ -0,0 +1,24 @@
+package com.demo.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.main.lazy-initialization이 켜진 프로필(prod)에서 어떤 빈을 기동 시 만들지 정한다.
+ *
+ * 애플리케이션 빈(com.demo)은 모두 기동 시 만든다. 첫 주문/조회 요청이 JPA 초기화나
+ * 메모리 인덱스 생성을 떠안지 않게 하기 위해서다. (리포지토리가 EntityManagerFactory와 DataSource를 끌어온다)
+ * 지연 생성되는 것은 Swagger 설정과 요청 경로에서 참조하지 않는 인프라 빈이다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter applicationBeansEagerFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null
+                        && beanType.getPackageName().startsWith("com.demo")
+                        && beanType != SwaggerConfig.class;
+    }
+}
@@ -5,8 +5,13 @@ import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
+/**
+ * 운영(prod) 프로필에서는 springdoc과 함께 꺼진다.
+ */
 @Configuration
+@Profile("!prod")
 public class SwaggerConfig {
 
     @Bean
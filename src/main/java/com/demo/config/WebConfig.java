@@ -0,0 +1,41 @@
+package com.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.demo.common.datasource.ReadRoutingInterceptor;
+import com.demo.common.sql.QueryCountInterceptor;
+import com.demo.common.web.AdaptiveConcurrencyLimiter;
+import com.demo.common.web.LoadSheddingInterceptor;
+
+@Configuration
+@EnableConfigurationProperties({OrderAdmissionProperties.class, OrderSubmissionProperties.class,
+        ConcurrencyLimitProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    private final long requestStatementThreshold;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    public WebConfig(@Value("${app.sql.request-statement-threshold:20}") long requestStatementThreshold,
+                     ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.requestStatementThreshold = requestStatementThreshold;
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter(concurrencyLimitProperties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 과부하로 버릴 요청은 다른 인터셉터보다 먼저 거절한다.
+        registry.addInterceptor(new LoadSheddingInterceptor(adaptiveConcurrencyLimiter())).addPathPatterns("/api/**");
+        registry.addInterceptor(new ReadRoutingInterceptor()).addPathPatterns("/api/**");
+        registry.addInterceptor(new QueryCountInterceptor(requestStatementThreshold)).addPathPatterns("/api/**");
+    }
+}
@@ -1,5 +1,7 @@
 package com.demo.order.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -9,18 +11,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.common.exception.UnauthorizedException;
+import com.demo.common.web.RequestPriority;
+import com.demo.common.web.EntityVersionRegistry;
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutRequest;
+import com.demo.order.dto.CheckoutResponse;
 import com.demo.order.dto.CreateOrderRequest;
 import com.demo.order.dto.CreateOrderResponse;
 import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.OrderTimelineResponse;
+import com.demo.order.dto.ProductRecallRequest;
+import com.demo.order.dto.ProductRecallResponse;
 import com.demo.order.dto.UpdateDeliveryStatusRequest;
+import com.demo.order.service.OrderAdmission;
 import com.demo.order.service.OrderService;
+import com.demo.order.service.ProductRecall;
+import com.demo.product.service.SoldOutRegistry;
+import com.demo.user.entity.Role;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 
 @RestController
@@ -29,35 +47,91 @@ import jakarta.validation.Valid;
 public class OrderController {
 
     private final OrderService orderService;
+    private final SoldOutRegistry soldOutRegistry;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final OrderAdmission orderAdmission;
+    private final ProductRecall productRecall;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, SoldOutRegistry soldOutRegistry,
+                           EntityVersionRegistry entityVersionRegistry, OrderAdmission orderAdmission,
+                           ProductRecall productRecall) {
         this.orderService = orderService;
+        this.soldOutRegistry = soldOutRegistry;
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.orderAdmission = orderAdmission;
+        this.productRecall = productRecall;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
+    @RequestPriority(RequestPriority.Level.CRITICAL)
     @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다. 재고가 충분해야 합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "주문 생성 성공"),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 상품을 찾을 수 없음"),
-            @ApiResponse(responseCode = "409", description = "재고 부족")
+            @ApiResponse(responseCode = "409", description = "재고 부족"),
+            @ApiResponse(responseCode = "429", description = "사용자 또는 상품별 주문 요청 한도 초과")
     })
     public CreateOrderResponse placeOrder(@Valid @RequestBody CreateOrderRequest request) {
-        return orderService.placeOrder(request);
+        // 이미 품절로 확인된 상품은 트랜잭션을 열지 않고 바로 거절한다. (최종 판단은 OrderService의 비관적 락)
+        if (soldOutRegistry.isObviouslyUnavailable(request.productId(), request.quantity())) {
+            throw new InsufficientStockException(request.productId(), soldOutRegistry.knownStock(request.productId()));
+        }
+        try (OrderAdmission.Permit permit = orderAdmission.admit(request.userId(), List.of(request.productId()))) {
+            return orderService.placeOrder(request);
+        }
+    }
+
+    @PostMapping("/checkout")
+    @ResponseStatus(HttpStatus.CREATED)
+    @RequestPriority(RequestPriority.Level.CRITICAL)
+    @Operation(summary = "장바구니 주문", description = "여러 상품을 하나의 주문으로 생성합니다. 모든 품목의 재고가 충분해야 합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "주문 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터 또는 재고 부족"),
+            @ApiResponse(responseCode = "404", description = "사용자 또는 상품을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "사용자 또는 상품별 주문 요청 한도 초과")
+    })
+    public CheckoutResponse checkout(@Valid @RequestBody CheckoutRequest request) {
+        for (CheckoutItemRequest item : request.items()) {
+            if (soldOutRegistry.isObviouslyUnavailable(item.productId(), item.quantity())) {
+                throw new InsufficientStockException(item.productId(), soldOutRegistry.knownStock(item.productId()));
+            }
+        }
+        List<Long> productIds = request.items().stream().map(CheckoutItemRequest::productId).toList();
+        try (OrderAdmission.Permit permit = orderAdmission.admit(request.userId(), productIds)) {
+            return orderService.checkout(request);
+        }
     }
 
     @GetMapping("/{orderId}/delivery")
     @Operation(summary = "배송 상태 조회", description = "특정 주문의 현재 배송 상태를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
     })
     public DeliveryStatusResponse checkDeliveryStatus(
-            @Parameter(description = "조회할 주문 ID", required = true) @PathVariable Long orderId) {
+            @Parameter(description = "조회할 주문 ID", required = true) @PathVariable Long orderId,
+            WebRequest request) {
+        if (request.checkNotModified(entityVersionRegistry.orderEtag(orderId))) {
+            return null;
+        }
         return orderService.checkDeliveryStatus(orderId);
     }
 
+    @GetMapping("/{orderId}/timeline")
+    @Operation(summary = "배송 타임라인 조회", description = "주문의 현재 배송 상태와 지금까지의 상태 변경 이력을 조회합니다. 방금 바뀐 상태는 이력에 잠시 늦게 나타날 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+    })
+    public OrderTimelineResponse getTimeline(
+            @Parameter(description = "조회할 주문 ID", required = true) @PathVariable Long orderId) {
+        return orderService.getTimeline(orderId);
+    }
+
     @PatchMapping("/{orderId}/delivery")
     @Operation(summary = "배송 상태 업데이트", description = "특정 주문의 배송 상태를 업데이트합니다.")
     @ApiResponses({
@@ -83,4 +157,29 @@ public class OrderController {
             @Parameter(description = "취소할 주문 ID", required = true) @PathVariable Long orderId) {
         return orderService.cancelOrder(orderId);
     }
+
+    @PostMapping("/recall")
+    @RequestPriority(RequestPriority.Level.LOW)
+    @Operation(summary = "상품 리콜 (관리자 전용)", description = "상품의 ORDERED 주문을 모두 취소하고 수량을 재고로 되돌립니다. 관리자만 실행할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "취소 완료"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요합니다"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    public ProductRecallResponse recall(@Valid @RequestBody ProductRecallRequest request, HttpSession session) {
+        Long sessionUserId = (Long) session.getAttribute("userId");
+        Role sessionRole = (Role) session.getAttribute("role");
+
+        if (sessionUserId == null) {
+            throw new UnauthorizedException();
+        }
+
+        if (sessionRole != Role.ROLE_ADMIN) {
+            throw new UnauthorizedException("어드민만 접근할 수 있습니다.");
+        }
+
+        return productRecall.cancelAllOrdered(request.productId());
+    }
 }
@@ -0,0 +1,88 @@
+package com.demo.order.controller;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.common.web.RequestPriority;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.OrderTicketResponse;
+import com.demo.order.service.OrderAdmission;
+import com.demo.order.service.OrderSubmissionQueue;
+import com.demo.order.service.OrderTicketStatus;
+import com.demo.product.service.SoldOutRegistry;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/orders/async")
+@Tag(name = "Order", description = "주문 관리 API")
+public class OrderSubmissionController {
+
+    /** 처리 중인 티켓을 다시 조회할 때까지 기다릴 시간(초). */
+    private static final String POLL_AFTER_SECONDS = "1";
+
+    private final OrderSubmissionQueue orderSubmissionQueue;
+    private final SoldOutRegistry soldOutRegistry;
+    private final OrderAdmission orderAdmission;
+
+    public OrderSubmissionController(OrderSubmissionQueue orderSubmissionQueue, SoldOutRegistry soldOutRegistry,
+                                     OrderAdmission orderAdmission) {
+        this.orderSubmissionQueue = orderSubmissionQueue;
+        this.soldOutRegistry = soldOutRegistry;
+        this.orderAdmission = orderAdmission;
+    }
+
+    @PostMapping
+    @RequestPriority(RequestPriority.Level.CRITICAL)
+    @Operation(summary = "비동기 주문 접수", description = "주문을 대기열에 넣고 바로 티켓을 반환합니다. 결과는 티켓 조회로 확인합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "접수됨 (Location: 티켓 조회 경로)"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터 또는 재고 부족"),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과 또는 대기열 가득 참")
+    })
+    public ResponseEntity<OrderTicketResponse> submit(@Valid @RequestBody CreateOrderRequest request) {
+        if (soldOutRegistry.isObviouslyUnavailable(request.productId(), request.quantity())) {
+            throw new InsufficientStockException(request.productId(), soldOutRegistry.knownStock(request.productId()));
+        }
+        // 동시 처리 수는 작업자 수로 제한되므로 속도 제한만 확인한다.
+        orderAdmission.throttle(request.userId(), List.of(request.productId()));
+
+        OrderTicketResponse ticket = orderSubmissionQueue.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/async/" + ticket.ticketId()))
+                .header(HttpHeaders.RETRY_AFTER, POLL_AFTER_SECONDS)
+                .body(ticket);
+    }
+
+    @GetMapping("/{ticketId}")
+    @Operation(summary = "비동기 주문 결과 조회", description = "접수 티켓의 처리 상태와 결과를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (QUEUED/PROCESSING이면 Retry-After 후 다시 조회)"),
+            @ApiResponse(responseCode = "404", description = "티켓을 찾을 수 없음 (만료 포함)")
+    })
+    public ResponseEntity<OrderTicketResponse> getTicket(
+            @Parameter(description = "접수 티켓 ID", required = true) @PathVariable String ticketId) {
+        OrderTicketResponse ticket = orderSubmissionQueue.getTicket(ticketId);
+        boolean pending = ticket.status() == OrderTicketStatus.QUEUED || ticket.status() == OrderTicketStatus.PROCESSING;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (pending) {
+            response.header(HttpHeaders.RETRY_AFTER, POLL_AFTER_SECONDS);
+        }
+        return response.body(ticket);
+    }
+}
@@ -0,0 +1,12 @@
+package com.demo.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "장바구니 주문 품목")
+public record CheckoutItemRequest(
+        @Schema(description = "주문할 상품 ID", example = "1") @NotNull Long productId,
+        @Schema(description = "주문 수량 (최소 1)", example = "2") @Min(1) int quantity
+) {
+}
@@ -0,0 +1,12 @@
+package com.demo.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "장바구니 주문 품목 응답")
+public record CheckoutLineResponse(
+        @Schema(description = "품목의 주문 ID (배송 상태 조회/변경, 취소에 쓴다)", example = "1") Long orderId,
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "상품명", example = "노트북") String productName,
+        @Schema(description = "주문 수량", example = "2") int quantity
+) {
+}
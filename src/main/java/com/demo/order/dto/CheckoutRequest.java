@@ -0,0 +1,18 @@
+package com.demo.order.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "장바구니 주문(체크아웃) 요청")
+public record CheckoutRequest(
+        @Schema(description = "주문자 사용자 ID", example = "1") @NotNull Long userId,
+        @Schema(description = "주문 품목 목록") @NotEmpty List<@Valid @NotNull CheckoutItemRequest> items,
+        @Schema(description = "배송 주소 (최대 255자)", example = "서울특별시 강남구 테헤란로 123") @NotBlank @Size(max = 255) String shippingAddress
+) {
+}
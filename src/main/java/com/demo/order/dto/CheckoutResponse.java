@@ -0,0 +1,18 @@
+package com.demo.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.demo.order.entity.DeliveryStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "장바구니 주문(체크아웃) 응답")
+public record CheckoutResponse(
+        @Schema(description = "장바구니 주문 ID", example = "1") Long cartOrderId,
+        @Schema(description = "사용자 ID", example = "1") Long userId,
+        @Schema(description = "주문 품목 목록") List<CheckoutLineResponse> lines,
+        @Schema(description = "배송 주소", example = "서울특별시 강남구 테헤란로 123") String shippingAddress,
+        @Schema(description = "접수 시 배송 상태 (이후에는 품목별 주문마다 바뀐다)") DeliveryStatus deliveryStatus,
+        @Schema(description = "주문 일시") LocalDateTime orderedAt
+) {
+}
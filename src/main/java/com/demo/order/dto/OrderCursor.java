@@ -0,0 +1,12 @@
+package com.demo.order.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주문 목록 페이지 커서 (이 주문보다 오래된 주문부터 조회)")
+public record OrderCursor(
+        @Schema(description = "마지막으로 받은 주문의 주문 일시") LocalDateTime orderedAt,
+        @Schema(description = "마지막으로 받은 주문 ID", example = "1") Long orderId
+) {
+}
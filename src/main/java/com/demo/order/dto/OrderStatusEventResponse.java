@@ -0,0 +1,13 @@
+package com.demo.order.dto;
+
+import java.time.LocalDateTime;
+
+import com.demo.order.entity.DeliveryStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "배송 상태 변경 이력 항목")
+public record OrderStatusEventResponse(
+        @Schema(description = "바뀐 배송 상태") DeliveryStatus status,
+        @Schema(description = "변경 일시") LocalDateTime at
+) {
+}
@@ -0,0 +1,14 @@
+package com.demo.order.dto;
+
+import com.demo.order.service.OrderTicketStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 주문 접수 티켓")
+public record OrderTicketResponse(
+        @Schema(description = "티켓 ID", example = "4f1c2a9e-5b7d-4e3a-9c1f-2d8b6a0e7f31") String ticketId,
+        @Schema(description = "처리 상태", example = "QUEUED") OrderTicketStatus status,
+        @Schema(description = "현재 대기열 길이", example = "120") int queueDepth,
+        @Schema(description = "생성된 주문 (COMPLETED일 때만)") CreateOrderResponse order,
+        @Schema(description = "실패 사유 (FAILED일 때만)") String message
+) {
+}
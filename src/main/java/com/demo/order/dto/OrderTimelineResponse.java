@@ -0,0 +1,14 @@
+package com.demo.order.dto;
+
+import java.util.List;
+
+import com.demo.order.entity.DeliveryStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주문 배송 타임라인")
+public record OrderTimelineResponse(
+        @Schema(description = "주문 ID", example = "1") Long orderId,
+        @Schema(description = "현재 배송 상태") DeliveryStatus currentStatus,
+        @Schema(description = "상태 변경 이력 (오래된 순)") List<OrderStatusEventResponse> events
+) {
+}
@@ -0,0 +1,10 @@
+package com.demo.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "상품 리콜(주문 일괄 취소) 요청")
+public record ProductRecallRequest(
+        @Schema(description = "리콜할 상품 ID", example = "1") @NotNull Long productId
+) {
+}
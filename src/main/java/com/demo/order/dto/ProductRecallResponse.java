@@ -0,0 +1,11 @@
+package com.demo.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 리콜 결과")
+public record ProductRecallResponse(
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "취소된 주문 수", example = "120") int cancelledOrders,
+        @Schema(description = "재고로 되돌린 수량", example = "150") int restockedQuantity
+) {
+}
@@ -0,0 +1,11 @@
+package com.demo.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "판매 순위 항목")
+public record TopSellerResponse(
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "상품명", example = "맥북 프로") String name,
+        @Schema(description = "누적 판매 수량 (취소 제외)", example = "1520") long soldQuantity
+) {
+}
@@ -0,0 +1,93 @@
+package com.demo.order.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 보관 기간이 지난 종료 주문(DELIVERED/CANCELLED)을 옮겨 두는 콜드 테이블.
+ * orders(핫 테이블)와 같은 id를 그대로 쓰며, 연관관계 없이 id 컬럼만 보관한다. (읽기 전용)
+ */
+@Entity
+@Table(name = "orders_archive")
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private String shippingAddress;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryStatus deliveryStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime orderedAt;
+
+    @Column(name = "cart_order_id")
+    private Long cartOrderId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected ArchivedOrder() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public String getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public DeliveryStatus getDeliveryStatus() {
+        return deliveryStatus;
+    }
+
+    public LocalDateTime getOrderedAt() {
+        return orderedAt;
+    }
+
+    public Long getCartOrderId() {
+        return cartOrderId;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.demo.order.entity;
+
+import java.time.LocalDateTime;
+
+import com.demo.user.entity.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * 여러 상품을 한 번에 주문하는 장바구니 주문의 헤더.
+ * 품목은 cart_order_id로 이 헤더를 가리키는 orders 행이다. 배송 상태와 취소는 품목(주문)마다 따로 관리된다.
+ */
+@Entity
+@Table(name = "cart_orders")
+public class CartOrder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String shippingAddress;
+
+    @Column(nullable = false)
+    private LocalDateTime orderedAt;
+
+    protected CartOrder() {
+    }
+
+    public CartOrder(User user, String shippingAddress) {
+        this.user = user;
+        this.shippingAddress = shippingAddress;
+        this.orderedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public LocalDateTime getOrderedAt() {
+        return orderedAt;
+    }
+}
@@ -49,13 +49,24 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime orderedAt;
 
+    /** 장바구니 주문의 품목이면 그 헤더(cart_orders) id, 단건 주문이면 null. */
+    @Column(name = "cart_order_id")
+    private Long cartOrderId;
+
     protected Order() {
     }
 
     public Order(User user, Product product, int quantity, String shippingAddress) {
+        this(user, product, product.getName(), quantity, shippingAddress);
+    }
+
+    /**
+     * user/product는 getReference 프록시여도 된다. 상품명을 따로 받으므로 상품 행을 읽지 않는다.
+     */
+    public Order(User user, Product product, String productName, int quantity, String shippingAddress) {
         this.user = user;
         this.product = product;
-        this.productName = product.getName();
+        this.productName = productName;
         this.quantity = quantity;
         this.shippingAddress = shippingAddress;
         this.deliveryStatus = DeliveryStatus.ORDERED;
@@ -94,6 +105,10 @@ public class Order {
         return orderedAt;
     }
 
+    public Long getCartOrderId() {
+        return cartOrderId;
+    }
+
     public void changeDeliveryStatus(DeliveryStatus deliveryStatus) {
         this.deliveryStatus = deliveryStatus;
     }
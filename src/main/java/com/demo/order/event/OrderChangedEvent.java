@@ -0,0 +1,7 @@
+package com.demo.order.event;
+
+/**
+ * 주문이 생성되거나 배송 상태가 바뀌었을 때 발행한다.
+ */
+public record OrderChangedEvent(Long orderId, Long userId) {
+}
@@ -0,0 +1,56 @@
+package com.demo.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.demo.order.entity.ArchivedOrder;
+import com.demo.order.service.ProductSales;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    List<ArchivedOrder> findByUserIdOrderByOrderedAtDesc(Long userId);
+
+    @Query("SELECT a FROM ArchivedOrder a WHERE a.userId = :userId ORDER BY a.orderedAt DESC, a.id DESC")
+    List<ArchivedOrder> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT a FROM ArchivedOrder a WHERE a.userId = :userId "
+            + "AND (a.orderedAt < :orderedAt OR (a.orderedAt = :orderedAt AND a.id < :orderId)) "
+            + "ORDER BY a.orderedAt DESC, a.id DESC")
+    List<ArchivedOrder> findPageByUserIdBefore(@Param("userId") Long userId,
+                                               @Param("orderedAt") LocalDateTime orderedAt,
+                                               @Param("orderId") Long orderId,
+                                               Pageable pageable);
+
+    /**
+     * 핫 테이블의 주문을 한 번의 INSERT ... SELECT로 아카이브에 복사한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive "
+            + "(id, user_id, product_id, product_name, quantity, shipping_address, delivery_status, ordered_at, cart_order_id, archived_at) "
+            + "SELECT id, user_id, product_id, product_name, quantity, shipping_address, delivery_status, ordered_at, cart_order_id, "
+            + "CURRENT_TIMESTAMP "
+            + "FROM orders WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromOrders(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 판매 순위 재구성용 상품별 판매 수량 (기동 시 한 번, 전체를 읽는다).
+     */
+    @Query("SELECT new com.demo.order.service.ProductSales(a.productId, SUM(a.quantity)) FROM ArchivedOrder a "
+            + "WHERE a.deliveryStatus <> com.demo.order.entity.DeliveryStatus.CANCELLED GROUP BY a.productId")
+    List<ProductSales> sumSoldQuantities();
+
+    /**
+     * 판매 순위 갱신용. 변경된 상품들의 판매 수량만 (product_id, delivery_status) 인덱스 범위로 다시 합산한다.
+     */
+    @Query("SELECT new com.demo.order.service.ProductSales(a.productId, SUM(a.quantity)) FROM ArchivedOrder a "
+            + "WHERE a.productId IN :productIds "
+            + "AND a.deliveryStatus <> com.demo.order.entity.DeliveryStatus.CANCELLED GROUP BY a.productId")
+    List<ProductSales> sumSoldQuantities(@Param("productIds") Collection<Long> productIds);
+}
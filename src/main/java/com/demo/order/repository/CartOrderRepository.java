@@ -0,0 +1,8 @@
+package com.demo.order.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.demo.order.entity.CartOrder;
+
+public interface CartOrderRepository extends JpaRepository<CartOrder, Long> {
+}
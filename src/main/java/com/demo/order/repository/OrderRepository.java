@@ -1,12 +1,116 @@
 package com.demo.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.demo.analytics.service.RollupSource;
+import com.demo.order.entity.DeliveryStatus;
 import com.demo.order.entity.Order;
+import com.demo.order.service.OrderCancellation;
+import com.demo.order.service.ProductSales;
+import com.demo.order.service.UserDeliveryRow;
+
+import jakarta.persistence.LockModeType;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     List<Order> findByUserIdOrderByOrderedAtDesc(Long userId);
+
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Order> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * (orderedAt, id) 키셋 커서 이후의 주문 페이지. OFFSET 없이 인덱스 범위 스캔으로 읽는다.
+     */
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId "
+            + "AND (o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND o.id < :orderId)) "
+            + "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Order> findPageByUserIdBefore(@Param("userId") Long userId,
+                                       @Param("orderedAt") LocalDateTime orderedAt,
+                                       @Param("orderId") Long orderId,
+                                       Pageable pageable);
+
+    /**
+     * 아카이브 대상(종료 상태 + 기준 시각 이전) 주문 id를 오래된 순으로 한 배치만큼 읽는다.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.deliveryStatus IN :statuses AND o.orderedAt < :cutoff ORDER BY o.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<DeliveryStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    /**
+     * 전체 사용자 배송 현황용. 사용자별로 나눠 조회하지 않고(N+1) 한 번에 읽는다.
+     */
+    @Query("SELECT new com.demo.order.service.UserDeliveryRow(o.user.id, o.id, o.deliveryStatus, o.orderedAt) "
+            + "FROM Order o ORDER BY o.orderedAt DESC")
+    List<UserDeliveryRow> findAllDeliveryRows();
+
+    /**
+     * 시간대별 집계용. 워터마크 이후 단건 주문을 id 순으로 한 배치만큼 읽는다 (PK 범위 스캔).
+     * 장바구니 품목은 findCartRollupSources가 장바구니 주문 id 워터마크로 따로 읽는다.
+     */
+    @Query("SELECT new com.demo.analytics.service.RollupSource(o.id, o.product.id, o.quantity, o.orderedAt) "
+            + "FROM Order o WHERE o.id > :afterId AND o.cartOrderId IS NULL ORDER BY o.id")
+    List<RollupSource> findRollupSources(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 시간대별 집계용. 워터마크 이후 장바구니 주문의 품목을 장바구니 주문 id 순으로 읽는다 (품목마다 한 행).
+     */
+    @Query("SELECT new com.demo.analytics.service.RollupSource(o.cartOrderId, o.product.id, o.quantity, o.orderedAt) "
+            + "FROM Order o WHERE o.cartOrderId > :afterId ORDER BY o.cartOrderId, o.id")
+    List<RollupSource> findCartRollupSources(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 체크아웃 직후 JDBC 배치로 INSERT한 품목 주문을 다시 읽는다.
+     */
+    @Query("SELECT o FROM Order o WHERE o.cartOrderId = :cartOrderId ORDER BY o.id")
+    List<Order> findByCartOrderId(@Param("cartOrderId") Long cartOrderId);
+
+    @Query("SELECT new com.demo.order.service.OrderCancellation("
+            + "o.id, o.user.id, o.product.id, o.quantity, o.deliveryStatus, o.orderedAt) "
+            + "FROM Order o WHERE o.id = :id")
+    Optional<OrderCancellation> findCancellation(@Param("id") Long id);
+
+    /**
+     * 상품 리콜용. 아직 ORDERED인 주문을 id 오름차순으로 한 배치만큼 잠근다.
+     * (단건 취소/배송 상태 변경과 경합해도 잠근 주문은 모두 이 트랜잭션이 취소한다.)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.product.id = :productId AND o.deliveryStatus = :status ORDER BY o.id")
+    List<Order> findByProductIdAndStatusWithPessimisticLock(@Param("productId") Long productId,
+                                                            @Param("status") DeliveryStatus status,
+                                                            Pageable pageable);
+
+    /**
+     * ORDERED인 주문만 CANCELLED로 바꾼다. 바뀐 행 수로 이 트랜잭션이 취소한 주문 수를 알 수 있다.
+     * 이미 다른 요청이 상태를 바꾼 주문은 건드리지 않는다 → 같은 주문의 재고를 두 번 되돌리지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.deliveryStatus = com.demo.order.entity.DeliveryStatus.CANCELLED "
+            + "WHERE o.id IN :ids AND o.deliveryStatus = com.demo.order.entity.DeliveryStatus.ORDERED")
+    int cancelOrdered(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 판매 순위 재구성용 상품별 판매 수량 (기동 시 한 번, 전체를 읽는다).
+     */
+    @Query("SELECT new com.demo.order.service.ProductSales(o.product.id, SUM(o.quantity)) FROM Order o "
+            + "WHERE o.deliveryStatus <> com.demo.order.entity.DeliveryStatus.CANCELLED GROUP BY o.product.id")
+    List<ProductSales> sumSoldQuantities();
+
+    /**
+     * 판매 순위 갱신용. 변경된 상품들의 판매 수량만 (product_id, delivery_status) 인덱스 범위로 다시 합산한다.
+     */
+    @Query("SELECT new com.demo.order.service.ProductSales(o.product.id, SUM(o.quantity)) FROM Order o "
+            + "WHERE o.product.id IN :productIds "
+            + "AND o.deliveryStatus <> com.demo.order.entity.DeliveryStatus.CANCELLED GROUP BY o.product.id")
+    List<ProductSales> sumSoldQuantities(@Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,20 @@
+package com.demo.order.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.demo.order.dto.OrderStatusEventResponse;
+import com.demo.order.entity.OrderStatusEvent;
+
+public interface OrderStatusEventRepository extends JpaRepository<OrderStatusEvent, Long> {
+
+    /**
+     * 한 주문의 상태 변경 이력 (기록된 순). (order_id, id) 인덱스만으로 찾고 정렬한다.
+     */
+    @Query("SELECT new com.demo.order.dto.OrderStatusEventResponse(e.status, e.occurredAt) "
+            + "FROM OrderStatusEvent e WHERE e.orderId = :orderId ORDER BY e.id")
+    List<OrderStatusEventResponse> findTimeline(@Param("orderId") Long orderId);
+}
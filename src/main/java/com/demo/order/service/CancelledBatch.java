@@ -0,0 +1,7 @@
+package com.demo.order.service;
+
+/**
+ * 일괄 취소 한 배치의 결과.
+ */
+public record CancelledBatch(int orders, int quantity) {
+}
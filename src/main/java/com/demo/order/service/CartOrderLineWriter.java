@@ -0,0 +1,60 @@
+package com.demo.order.service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.order.entity.CartOrder;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.entity.Order;
+import com.demo.order.repository.OrderRepository;
+
+/**
+ * 장바구니 주문의 품목을 orders 행으로 INSERT한다.
+ * orders는 IDENTITY 키라 JPA로는 배치가 안 되므로 JDBC 배치 INSERT 한 번으로 넣고,
+ * 생성된 주문은 cart_order_id 인덱스로 한 번 더 읽는다 (드라이버마다 다른 배치 생성 키 반환에 기대지 않는다).
+ */
+@Component
+public class CartOrderLineWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO orders (user_id, product_id, product_name, quantity, "
+            + "shipping_address, delivery_status, ordered_at, cart_order_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderRepository orderRepository;
+
+    public CartOrderLineWriter(DataSource dataSource, OrderRepository orderRepository) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * 체크아웃 트랜잭션 안에서 호출한다. 헤더는 이미 INSERT되어 id가 있어야 한다.
+     *
+     * @return 품목마다 만들어진 주문 (id 순)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Order> insert(CartOrder cartOrder, List<Line> lines) {
+        Timestamp orderedAt = Timestamp.valueOf(cartOrder.getOrderedAt());
+        jdbcTemplate.batchUpdate(INSERT_SQL, lines, lines.size(), (statement, line) -> {
+            statement.setLong(1, cartOrder.getUser().getId());
+            statement.setLong(2, line.productId());
+            statement.setString(3, line.productName());
+            statement.setInt(4, line.quantity());
+            statement.setString(5, cartOrder.getShippingAddress());
+            statement.setString(6, DeliveryStatus.ORDERED.name());
+            statement.setTimestamp(7, orderedAt);
+            statement.setLong(8, cartOrder.getId());
+        });
+        return orderRepository.findByCartOrderId(cartOrder.getId());
+    }
+
+    public record Line(Long productId, String productName, int quantity) {
+    }
+}
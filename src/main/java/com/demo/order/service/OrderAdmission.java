@@ -0,0 +1,228 @@
+package com.demo.order.service;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.demo.common.exception.TooManyRequestsException;
+import com.demo.config.OrderAdmissionProperties;
+import com.demo.product.service.StockShardRegistry;
+
+/**
+ * 주문 생성 요청의 유입 제한 (컨트롤러에서 트랜잭션을 열기 전에 호출한다).
+ * 한 클라이언트나 한 인기 상품이 DB 커넥션을 모두 차지해 다른 상품 주문까지 막는 것을 방지한다.
+ *
+ * [속도 제한] 사용자별, 상품별 토큰 버킷. 넘으면 바로 429 (Retry-After 포함).
+ * [동시 처리 제한] 상품별로 동시에 처리(= 같은 행 락 대기)할 수 있는 요청 수를 제한한다.
+ *   자리가 없으면 queue-timeout 동안 순서대로 기다리고, 그래도 없으면 429.
+ *
+ * - 토큰 버킷은 "다음 토큰이 차는 시각" 하나를 AtomicLong CAS로 갱신한다 (GCRA). 락이 없다.
+ * - 오래 쓰이지 않아 가득 찬 버킷은 주기적으로 정리한다. 정리 직후 같은 키의 요청은 새 버킷(가득 참)을 받는다.
+ * - 여러 상품을 잡을 때는 상품 id 오름차순으로 잡아 서로 기다리며 막히지 않게 한다.
+ * - 재고 샤드가 있는 상품은 상품별 속도/순간 허용량/동시 처리 한도에 샤드 수를 곱한다.
+ *   샤드마다 락이 따로 있으므로 샤드를 늘린 만큼 처리량도 늘 수 있어야 한다.
+ *   샤드 수가 바뀌면 그 상품의 버킷과 자리를 새 배율로 다시 만든다.
+ */
+@Component
+public class OrderAdmission {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final OrderAdmissionProperties properties;
+    private final ToIntFunction<Long> shardCounts;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<Long, RateLimiter> userLimiters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, RateLimiter> productLimiters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Slots> productSlots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OrderAdmission(OrderAdmissionProperties properties, StockShardRegistry stockShardRegistry) {
+        this(properties, stockShardRegistry::shardCount, System::nanoTime);
+    }
+
+    OrderAdmission(OrderAdmissionProperties properties, ToIntFunction<Long> shardCounts, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.shardCounts = shardCounts;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 요청을 받아들이면 Permit을 돌려준다. 처리가 끝나면 반드시 close()한다 (try-with-resources).
+     *
+     * @throws TooManyRequestsException 속도 또는 동시 처리 한도를 넘은 경우
+     */
+    public Permit admit(Long userId, Collection<Long> productIds) {
+        if (!properties.enabled()) {
+            return Permit.NONE;
+        }
+        TreeSet<Long> orderedProductIds = new TreeSet<>(productIds);
+        throttle(userId, orderedProductIds);
+        return acquireSlots(orderedProductIds);
+    }
+
+    /**
+     * 속도 제한(토큰 버킷)만 확인한다. 동시 처리 수가 따로 제한되는 경로(비동기 주문 작업자)에서 쓴다.
+     *
+     * @throws TooManyRequestsException 속도 한도를 넘은 경우
+     */
+    public void throttle(Long userId, Collection<Long> productIds) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        RateLimiter userLimiter = userLimiters.computeIfAbsent(userId, id ->
+                new RateLimiter(properties.userRatePerSecond(), properties.userBurst(), 1, now));
+        long userWait = userLimiter.tryAcquire(now);
+        if (userWait > 0) {
+            throw new TooManyRequestsException("주문 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", toRetryAfterSeconds(userWait));
+        }
+        // 뒤의 상품 한도에 걸려 거절되면 앞에서 쓴 토큰(사용자, 앞선 상품)을 돌려준다.
+        // 거절된 요청이 다른 한도까지 깎아 먹지 않게 하기 위해서다.
+        Deque<RateLimiter> acquired = new ArrayDeque<>(productIds.size() + 1);
+        acquired.push(userLimiter);
+        for (Long productId : productIds) {
+            RateLimiter productLimiter = productLimiter(productId, now);
+            long productWait = productLimiter.tryAcquire(now);
+            if (productWait > 0) {
+                acquired.forEach(RateLimiter::refund);
+                throw new TooManyRequestsException(
+                        "주문이 몰리고 있는 상품입니다. 상품 id=" + productId, toRetryAfterSeconds(productWait));
+            }
+            acquired.push(productLimiter);
+        }
+    }
+
+    private Permit acquireSlots(TreeSet<Long> productIds) {
+        Deque<Semaphore> acquired = new ArrayDeque<>(productIds.size());
+        try {
+            for (Long productId : productIds) {
+                Semaphore slots = productSlots(productId);
+                if (!slots.tryAcquire(properties.queueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new TooManyRequestsException("주문이 몰리고 있는 상품입니다. 상품 id=" + productId, 1);
+                }
+                acquired.push(slots);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired.forEach(Semaphore::release);
+            throw new TooManyRequestsException("주문 요청이 중단되었습니다.", 1);
+        } catch (RuntimeException e) {
+            acquired.forEach(Semaphore::release);
+            throw e;
+        }
+        return () -> acquired.forEach(Semaphore::release);
+    }
+
+    private RateLimiter productLimiter(Long productId, long now) {
+        int scale = scale(productId);
+        RateLimiter limiter = productLimiters.get(productId);
+        if (limiter != null && limiter.scale == scale) {
+            return limiter;
+        }
+        return productLimiters.compute(productId, (id, current) -> current != null && current.scale == scale
+                ? current
+                : new RateLimiter(properties.productRatePerSecond() * scale, properties.productBurst() * scale, scale, now));
+    }
+
+    private Semaphore productSlots(Long productId) {
+        int scale = scale(productId);
+        Slots slots = productSlots.get(productId);
+        if (slots != null && slots.scale() == scale) {
+            return slots.semaphore();
+        }
+        // 배율이 바뀌기 전에 받은 자리는 이전 Semaphore로 반납되므로 새 Semaphore에 영향이 없다.
+        return productSlots.compute(productId, (id, current) -> current != null && current.scale() == scale
+                ? current
+                : new Slots(scale, new Semaphore(properties.productConcurrency() * scale, true))).semaphore();
+    }
+
+    private int scale(Long productId) {
+        return Math.max(1, shardCounts.applyAsInt(productId));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        userLimiters.values().removeIf(limiter -> limiter.isFull(now));
+        productLimiters.values().removeIf(limiter -> limiter.isFull(now));
+    }
+
+    int trackedLimiters() {
+        return userLimiters.size() + productLimiters.size();
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        Permit NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+
+    private record Slots(int scale, Semaphore semaphore) {
+    }
+
+    /**
+     * GCRA 방식 토큰 버킷. theoreticalArrival은 버킷이 다시 가득 차는 시각이다.
+     * 요청 하나는 이 시각을 interval만큼 미루고, 현재 시각보다 burst * interval 넘게 앞서면 거절한다.
+     */
+    private static final class RateLimiter {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final int scale;
+        private final AtomicLong theoreticalArrival;
+
+        RateLimiter(double ratePerSecond, int burst, int scale, long now) {
+            this.scale = scale;
+            this.intervalNanos = Math.max(1, (long) (NANOS_PER_SECOND / ratePerSecond));
+            this.toleranceNanos = intervalNanos * Math.max(1, burst);
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        /**
+         * @return 0이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long ahead = next - now;
+                if (ahead > toleranceNanos) {
+                    return ahead - toleranceNanos;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * tryAcquire로 받은 토큰 하나를 돌려준다 (요청이 다른 한도에 걸려 거절된 경우).
+         */
+        void refund() {
+            theoreticalArrival.addAndGet(-intervalNanos);
+        }
+
+        boolean isFull(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
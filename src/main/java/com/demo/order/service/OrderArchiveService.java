@@ -0,0 +1,69 @@
+package com.demo.order.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.repository.ArchivedOrderRepository;
+import com.demo.order.repository.OrderRepository;
+
+/**
+ * 오래된 종료 주문을 orders(핫) → orders_archive(콜드)로 옮긴다.
+ *
+ * [왜 파티셔닝이 아니라 아카이브 테이블인가?]
+ * - MySQL 파티션 테이블은 파티션 키가 모든 유니크 키(PK 포함)에 들어가야 하고 FK를 지원하지 않는다.
+ * - 아카이브 테이블로 옮기면 orders와 그 인덱스가 "최근 주문 + 진행 중 주문"만큼만 유지되어
+ *   버퍼 풀에 올라가는 작업 집합이 작게 유지된다.
+ */
+@Service
+@Transactional
+public class OrderArchiveService {
+
+    /** 주문 일시 기준으로 이 기간이 지난 종료 주문을 아카이브한다. */
+    public static final Duration RETENTION = Duration.ofDays(90);
+
+    static final List<DeliveryStatus> ARCHIVABLE_STATUSES = List.of(DeliveryStatus.DELIVERED, DeliveryStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public OrderArchiveService(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    /**
+     * cutoff 이전의 종료 주문을 최대 batchSize건 옮긴다. (INSERT ... SELECT 1회 + DELETE 1회)
+     * cutoff는 coldWatermark를 넘지 않도록 잘라서, 핫/콜드 라우팅의 전제가 깨지지 않게 한다.
+     *
+     * @return 옮긴 주문 수
+     */
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        LocalDateTime watermark = coldWatermark(LocalDateTime.now());
+        LocalDateTime safeCutoff = cutoff.isAfter(watermark) ? watermark : cutoff;
+
+        List<Long> ids = orderRepository.findArchivableIds(ARCHIVABLE_STATUSES, safeCutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedOrderRepository.copyFromOrders(ids);
+        orderRepository.deleteAllByIdInBatch(ids);
+
+        return ids.size();
+    }
+
+    /**
+     * 아카이브에 있을 수 있는 가장 최근 주문 일시의 상한.
+     * 아카이브 기준 시각은 항상 (now - RETENTION) 이전이므로, 이보다 최근 주문은 핫 테이블에만 있다.
+     * → 여러 노드에서 상태 공유 없이 같은 값을 계산할 수 있다.
+     */
+    public static LocalDateTime coldWatermark(LocalDateTime now) {
+        return now.minus(RETENTION);
+    }
+}
@@ -0,0 +1,42 @@
+package com.demo.order.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.demo.config.SchedulingConfig;
+
+/**
+ * 매일 새벽 보관 기간이 지난 종료 주문을 배치 단위로 아카이브한다.
+ * 배치마다 트랜잭션을 나눠서 한 번에 오래 락을 잡지 않는다.
+ */
+@Component
+public class OrderArchiver {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderArchiver(OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @Scheduled(cron = "0 0 4 * * *", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+    public void archiveExpiredOrders() {
+        archiveOrdersBefore(OrderArchiveService.coldWatermark(LocalDateTime.now()));
+    }
+
+    /**
+     * @return 아카이브된 주문 수
+     */
+    public int archiveOrdersBefore(LocalDateTime cutoff) {
+        int archived = 0;
+        int moved;
+        do {
+            moved = orderArchiveService.archiveBatch(cutoff, BATCH_SIZE);
+            archived += moved;
+        } while (moved == BATCH_SIZE);
+        return archived;
+    }
+}
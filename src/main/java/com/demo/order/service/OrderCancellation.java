@@ -0,0 +1,12 @@
+package com.demo.order.service;
+
+import java.time.LocalDateTime;
+
+import com.demo.order.entity.DeliveryStatus;
+
+/**
+ * 주문 취소에 필요한 최소 정보. 주문/상품 엔티티를 읽지 않고 한 번에 조회한다.
+ */
+public record OrderCancellation(Long orderId, Long userId, Long productId, int quantity,
+                                DeliveryStatus deliveryStatus, LocalDateTime orderedAt) {
+}
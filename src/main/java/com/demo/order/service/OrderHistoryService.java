@@ -0,0 +1,111 @@
+package com.demo.order.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.dto.OrderCursor;
+import com.demo.order.entity.ArchivedOrder;
+import com.demo.order.entity.Order;
+import com.demo.order.repository.ArchivedOrderRepository;
+import com.demo.order.repository.OrderRepository;
+
+/**
+ * 사용자 주문 이력을 핫(orders) → 콜드(orders_archive) 순서로 읽는다.
+ * 커서가 아카이브 경계(coldWatermark)를 넘어가기 전까지는 핫 테이블만 조회한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderHistoryService {
+
+    private static final Comparator<CreateOrderResponse> NEWEST_FIRST =
+            Comparator.comparing(CreateOrderResponse::orderedAt)
+                    .thenComparing(CreateOrderResponse::orderId)
+                    .reversed();
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public OrderHistoryService(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    /**
+     * 전체 이력 (핫 + 콜드). 최신순.
+     */
+    public List<CreateOrderResponse> findAllUserOrders(Long userId) {
+        List<CreateOrderResponse> hot = orderRepository.findByUserIdOrderByOrderedAtDesc(userId).stream()
+                .map(OrderHistoryService::toResponse)
+                .toList();
+        List<CreateOrderResponse> cold = archivedOrderRepository.findByUserIdOrderByOrderedAtDesc(userId).stream()
+                .map(OrderHistoryService::toResponse)
+                .toList();
+
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        return Stream.concat(hot.stream(), cold.stream())
+                .sorted(NEWEST_FIRST)
+                .toList();
+    }
+
+    /**
+     * 커서 기반 페이지 조회. 핫 테이블에서 size건을 읽고,
+     * 페이지가 꽉 찼고 마지막 주문이 아카이브 경계보다 최근이면 콜드 테이블은 건드리지 않는다.
+     */
+    public List<CreateOrderResponse> findUserOrders(Long userId, OrderCursor cursor, int size) {
+        PageRequest page = PageRequest.of(0, size);
+
+        List<Order> hot = cursor == null
+                ? orderRepository.findFirstPageByUserId(userId, page)
+                : orderRepository.findPageByUserIdBefore(userId, cursor.orderedAt(), cursor.orderId(), page);
+
+        LocalDateTime coldWatermark = OrderArchiveService.coldWatermark(LocalDateTime.now());
+        if (hot.size() == size && hot.get(hot.size() - 1).getOrderedAt().isAfter(coldWatermark)) {
+            return hot.stream().map(OrderHistoryService::toResponse).toList();
+        }
+
+        List<ArchivedOrder> cold = cursor == null
+                ? archivedOrderRepository.findFirstPageByUserId(userId, page)
+                : archivedOrderRepository.findPageByUserIdBefore(userId, cursor.orderedAt(), cursor.orderId(), page);
+
+        List<CreateOrderResponse> merged = new ArrayList<>(hot.size() + cold.size());
+        hot.forEach(order -> merged.add(toResponse(order)));
+        cold.forEach(order -> merged.add(toResponse(order)));
+        merged.sort(NEWEST_FIRST);
+
+        return merged.size() > size ? List.copyOf(merged.subList(0, size)) : merged;
+    }
+
+    private static CreateOrderResponse toResponse(Order order) {
+        return new CreateOrderResponse(
+                order.getId(),
+                order.getUser().getId(),
+                order.getProductName(),
+                order.getQuantity(),
+                order.getShippingAddress(),
+                order.getDeliveryStatus(),
+                order.getOrderedAt()
+        );
+    }
+
+    private static CreateOrderResponse toResponse(ArchivedOrder order) {
+        return new CreateOrderResponse(
+                order.getId(),
+                order.getUserId(),
+                order.getProductName(),
+                order.getQuantity(),
+                order.getShippingAddress(),
+                order.getDeliveryStatus(),
+                order.getOrderedAt()
+        );
+    }
+}
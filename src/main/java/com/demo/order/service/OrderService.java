@@ -1,41 +1,167 @@
 package com.demo.order.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.demo.common.cache.SingleFlight;
+import com.demo.common.datasource.ReadYourWritesTracker;
 import com.demo.common.exception.InsufficientStockException;
 import com.demo.common.exception.OrderNotFoundException;
 import com.demo.common.exception.ProductNotFoundException;
 import com.demo.common.exception.UserNotFoundException;
+import com.demo.common.web.EntityVersionRegistry;
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutLineResponse;
+import com.demo.order.dto.CheckoutRequest;
+import com.demo.order.dto.CheckoutResponse;
 import com.demo.order.dto.CreateOrderRequest;
 import com.demo.order.dto.CreateOrderResponse;
 import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.OrderTimelineResponse;
 import com.demo.order.dto.UpdateDeliveryStatusRequest;
+import com.demo.order.entity.CartOrder;
 import com.demo.order.entity.DeliveryStatus;
 import com.demo.order.entity.Order;
+import com.demo.order.event.OrderChangedEvent;
+import com.demo.order.repository.ArchivedOrderRepository;
+import com.demo.order.repository.CartOrderRepository;
 import com.demo.order.repository.OrderRepository;
+import com.demo.order.repository.OrderStatusEventRepository;
 import com.demo.product.entity.Product;
+import com.demo.product.entity.ProductStockShard;
+import com.demo.product.event.ProductChangedEvent;
 import com.demo.product.repository.ProductRepository;
+import com.demo.product.service.ProductSearchIndex;
+import com.demo.product.service.SoldOutRegistry;
+import com.demo.product.service.StockShardService;
 import com.demo.user.entity.User;
 import com.demo.user.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 @Transactional
 public class OrderService {
 
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
+    private final CartOrderRepository cartOrderRepository;
+    private final CartOrderLineWriter cartOrderLineWriter;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderStatusEventRepository orderStatusEventRepository;
     private final ProductRepository productRepository;
+    private final SoldOutRegistry soldOutRegistry;
+    private final StockShardService stockShardService;
+    private final ProductSearchIndex productSearchIndex;
+    private final TopSellerBoard topSellerBoard;
+    private final OrderStatusJournal orderStatusJournal;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate placement;
+    private final TransactionTemplate primaryRead;
+    private final Timer lookupTimer;
+    private final Timer transactionTimer;
+    private final Timer stockLockTimer;
 
-    public OrderService(UserRepository userRepository, OrderRepository orderRepository, ProductRepository productRepository) {
+    public OrderService(UserRepository userRepository, OrderRepository orderRepository,
+                        CartOrderRepository cartOrderRepository, CartOrderLineWriter cartOrderLineWriter,
+                        ArchivedOrderRepository archivedOrderRepository,
+                        OrderStatusEventRepository orderStatusEventRepository,
+                        ProductRepository productRepository, SoldOutRegistry soldOutRegistry,
+                        StockShardService stockShardService, ProductSearchIndex productSearchIndex,
+                        TopSellerBoard topSellerBoard, OrderStatusJournal orderStatusJournal,
+                        ReadYourWritesTracker readYourWritesTracker, EntityVersionRegistry entityVersionRegistry,
+                        SingleFlight singleFlight, ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.orderRepository = orderRepository;
+        this.cartOrderRepository = cartOrderRepository;
+        this.cartOrderLineWriter = cartOrderLineWriter;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderStatusEventRepository = orderStatusEventRepository;
         this.productRepository = productRepository;
+        this.soldOutRegistry = soldOutRegistry;
+        this.stockShardService = stockShardService;
+        this.productSearchIndex = productSearchIndex;
+        this.topSellerBoard = topSellerBoard;
+        this.orderStatusJournal = orderStatusJournal;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.singleFlight = singleFlight;
+        this.eventPublisher = eventPublisher;
+        this.placement = new TransactionTemplate(transactionManager);
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.lookupTimer = phaseTimer(meterRegistry, "lookup");
+        this.transactionTimer = phaseTimer(meterRegistry, "transaction");
+        this.stockLockTimer = phaseTimer(meterRegistry, "stock-lock");
     }
 
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("order.place.phase")
+                .description("단건 주문 단계별 시간 (lookup: 트랜잭션 밖 조회, transaction: 커넥션 점유, stock-lock: 재고 행 락 점유)")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 주문.
+     * [빠른 경로] 재고 샤드(샤딩한 상품) 또는 상품 행의 조건부 UPDATE 한 번으로 차감하고, 주문 행을 바로 INSERT한다.
+     *   사용자/상품 엔티티를 읽지 않는다 → SQL 2회. 사용자 존재는 orders.user_id FK가 확인한다.
+     * [느린 경로] UPDATE가 0건(상품 없음/재고 부족)이면 기존처럼 상품 행을 잠그고 읽어서
+     *   정확한 예외를 던지고 품절 게이트에 관측 재고를 남긴다. (잠그는 사이 재고가 복구됐으면 그대로 주문한다)
+     *   샤딩한 상품은 샤드 → 상품 행 순으로 잠그고 샤드 재고를 풀로 모아 오므로, 조회에 보이는 재고(풀 + 샤드)는 모두 팔 수 있다.
+     * [트랜잭션 범위] 바뀌지 않는 상품명은 트랜잭션 밖에서 먼저 구한다. 트랜잭션(커넥션 점유)은 차감 + INSERT만 감싸고,
+     *   재고 행 락은 차감부터 커밋까지만 잡힌다. 응답 DTO는 커밋 뒤에 만든다.
+     *   단계별 시간은 order.place.phase 타이머(lookup/transaction/stock-lock)로 남는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CreateOrderResponse placeOrder(CreateOrderRequest request) {
-        User user = userRepository.findById(request.userId())
-                .orElseThrow(() -> new UserNotFoundException(request.userId()));
+        String productName = lookupTimer.record(() -> productName(request.productId()));
+        Order order = transactionTimer.record(() -> placement.execute(status -> placeLocked(request, productName)));
+
+        return new CreateOrderResponse(
+                order.getId(),
+                request.userId(),
+                order.getProductName(),
+                order.getQuantity(),
+                order.getShippingAddress(),
+                order.getDeliveryStatus(),
+                order.getOrderedAt()
+        );
+    }
+
+    private Order placeLocked(CreateOrderRequest request, String productName) {
+        // 재고 샤드가 있는 인기 상품은 샤드 한 행만 차감한다. 샤드가 모두 모자라면 풀 UPDATE는 건너뛰고 느린 경로로 간다
+        // (실패한 풀 UPDATE가 상품 행 락을 남긴 채 샤드를 잠그면 락 순서 샤드 → 상품이 뒤집힌다).
+        boolean sharded = stockShardService.isSharded(request.productId());
+        if (sharded
+                ? stockShardService.tryTake(request.productId(), request.userId(), request.quantity())
+                : productRepository.tryDecreaseStock(request.productId(), request.quantity()) == 1) {
+            timeStockLock();
+            return insertOrder(request, productName);
+        }
+
+        if (!userRepository.existsById(request.userId())) {
+            throw new UserNotFoundException(request.userId());
+        }
 
         /*
          * 비관적 락(PESSIMISTIC_WRITE)으로 상품을 조회한다.
@@ -43,39 +169,176 @@ public class OrderService {
          * 순차적으로 처리되도록 보장한다.
          * → 재고 차감의 정합성을 보장하여 초과 판매(over-selling)를 방지한다.
          */
+        // 샤딩된 상품은 장바구니처럼 샤드를 먼저 잠그고, 한 샤드로는 모자란 수량을 풀로 모아 온다.
+        List<ProductStockShard> shards = stockShardService.lockShards(List.of(request.productId()))
+                .getOrDefault(request.productId(), List.of());
         Product product = productRepository.findByIdWithPessimisticLock(request.productId())
                 .orElseThrow(() -> new ProductNotFoundException(request.productId()));
+        stockShardService.refillPool(product, shards, request.quantity());
 
         if (product.getStock() < request.quantity()) {
+            soldOutRegistry.recordObservedStock(product.getId(), product.getStock());
             throw new InsufficientStockException(product.getName(), product.getStock());
         }
 
         product.decreaseStock(request.quantity());
+        soldOutRegistry.recordStock(product.getId(), product.getStock());
+        timeStockLock();
 
-        Order order = orderRepository.save(new Order(
-                user,
-                product,
-                request.quantity(),
-                request.shippingAddress()
-        ));
+        return insertOrder(request, productName);
+    }
 
-        return new CreateOrderResponse(
-                order.getId(),
+    /**
+     * 차감한 재고 행(샤드 또는 상품)의 락은 트랜잭션이 끝날 때 풀린다. 그때까지의 시간을 잰다.
+     */
+    private void timeStockLock() {
+        long lockedAt = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stockLockTimer.record(System.nanoTime() - lockedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * 주문 행을 INSERT한다. 사용자/상품은 getReference 프록시라 SELECT가 나가지 않는다.
+     */
+    private Order insertOrder(CreateOrderRequest request, String productName) {
+        Order order;
+        try {
+            order = orderRepository.save(new Order(
+                    userRepository.getReferenceById(request.userId()),
+                    productRepository.getReferenceById(request.productId()),
+                    productName,
+                    request.quantity(),
+                    request.shippingAddress()
+            ));
+        } catch (DataIntegrityViolationException e) {
+            // 사용자가 없어서 난 FK 위반만 404로 바꾼다. 그 밖의 제약 위반(컬럼 길이 등)은 그대로 던진다.
+            // 어느 쪽이든 예외로 트랜잭션이 롤백되어 차감도 되돌아간다.
+            if (!userRepository.existsById(request.userId())) {
+                throw new UserNotFoundException(request.userId());
+            }
+            throw e;
+        }
+
+        // 직후 이 사용자의 조회는 복제 지연과 무관하게 primary에서 읽는다.
+        readYourWritesTracker.markWrite(request.userId());
+        topSellerBoard.recordSalesChanged(request.productId());
+        orderStatusJournal.record(order.getId(), order.getDeliveryStatus(), order.getOrderedAt());
+        eventPublisher.publishEvent(new ProductChangedEvent(request.productId()));
+        eventPublisher.publishEvent(new OrderChangedEvent(order.getId(), request.userId()));
+        return order;
+    }
+
+    /**
+     * 상품명은 바뀌지 않으므로 검색 색인의 값을 쓰고, 색인 전인 상품만 이름 컬럼을 조회한다.
+     */
+    private String productName(Long productId) {
+        return productSearchIndex.name(productId)
+                .or(() -> productRepository.findNameById(productId))
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    public CheckoutResponse checkout(CheckoutRequest request) {
+        User user = userRepository.findById(request.userId())
+                .orElseThrow(() -> new UserNotFoundException(request.userId()));
+
+        // 같은 상품이 여러 줄로 들어와도 한 번만 잠그도록 상품 ID 오름차순으로 수량을 합친다.
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CheckoutItemRequest item : request.items()) {
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+
+        // 재고 샤드가 있는 상품은 풀이 모자랄 때 샤드에서 옮겨 올 수 있도록 샤드를 먼저 잠근다 (락 순서: 샤드 → 상품).
+        Map<Long, List<ProductStockShard>> shards = stockShardService.lockShards(quantities.keySet());
+
+        /*
+         * 장바구니의 모든 상품을 SELECT ... FOR UPDATE 한 번으로, id 오름차순으로 잠근다.
+         * → 품목 수와 관계없이 락 획득은 쿼리 1회이며,
+         *   모든 트랜잭션이 같은 순서로 잠그므로 교착 상태가 발생하지 않는다.
+         */
+        List<Product> products = productRepository.findAllByIdWithPessimisticLock(quantities.keySet());
+        if (products.size() != quantities.size()) {
+            Long missingId = quantities.keySet().stream()
+                    .filter(id -> products.stream().noneMatch(product -> product.getId().equals(id)))
+                    .findFirst()
+                    .orElseThrow();
+            throw new ProductNotFoundException(missingId);
+        }
+
+        for (Product product : products) {
+            int quantity = quantities.get(product.getId());
+            stockShardService.refillPool(product, shards.getOrDefault(product.getId(), List.of()), quantity);
+            if (product.getStock() < quantity) {
+                soldOutRegistry.recordObservedStock(product.getId(), product.getStock());
+                throw new InsufficientStockException(product.getName(), product.getStock());
+            }
+        }
+
+        CartOrder cartOrder = cartOrderRepository.save(new CartOrder(user, request.shippingAddress()));
+        List<CartOrderLineWriter.Line> lines = new ArrayList<>(products.size());
+        for (Product product : products) {
+            int quantity = quantities.get(product.getId());
+            product.decreaseStock(quantity);
+            soldOutRegistry.recordStock(product.getId(), product.getStock());
+            topSellerBoard.recordSalesChanged(product.getId());
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+            lines.add(new CartOrderLineWriter.Line(product.getId(), product.getName(), quantity));
+        }
+
+        // 품목은 cart_order_id가 붙은 orders 행이다. 이후 조회/상태 변경/취소/아카이브는 단건 주문과 같은 경로를 탄다.
+        List<Order> orders = cartOrderLineWriter.insert(cartOrder, lines);
+        readYourWritesTracker.markWrite(user.getId());
+        for (Order order : orders) {
+            orderStatusJournal.record(order.getId(), order.getDeliveryStatus(), order.getOrderedAt());
+            eventPublisher.publishEvent(new OrderChangedEvent(order.getId(), user.getId()));
+        }
+
+        List<CheckoutLineResponse> lineResponses = orders.stream()
+                .map(order -> new CheckoutLineResponse(
+                        order.getId(), order.getProduct().getId(), order.getProductName(), order.getQuantity()))
+                .toList();
+
+        return new CheckoutResponse(
+                cartOrder.getId(),
                 user.getId(),
-                order.getProductName(),
-                order.getQuantity(),
-                order.getShippingAddress(),
-                order.getDeliveryStatus(),
-                order.getOrderedAt()
+                lineResponses,
+                cartOrder.getShippingAddress(),
+                DeliveryStatus.ORDERED,
+                cartOrder.getOrderedAt()
         );
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 같은 주문의 동시 조회는 SingleFlight로 합친다. 기다리는 요청은 트랜잭션(커넥션)을 잡지 않는다.
+     * 응답에 커밋 기준 버전으로 만든 ETag가 붙으므로 replica가 아닌 primary에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DeliveryStatusResponse checkDeliveryStatus(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        return singleFlight.execute("order-status", orderId, entityVersionRegistry.orderVersion(orderId),
+                () -> primaryRead.execute(status -> loadDeliveryStatus(orderId)));
+    }
+
+    private DeliveryStatusResponse loadDeliveryStatus(Long orderId) {
+        // 핫 테이블에 없을 때만 아카이브를 조회한다.
+        return orderRepository.findById(orderId)
+                .map(order -> new DeliveryStatusResponse(order.getId(), order.getDeliveryStatus(), order.getOrderedAt()))
+                .or(() -> archivedOrderRepository.findById(orderId)
+                        .map(order -> new DeliveryStatusResponse(order.getId(), order.getDeliveryStatus(), order.getOrderedAt())))
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
 
-        return new DeliveryStatusResponse(order.getId(), order.getDeliveryStatus(), order.getOrderedAt());
+    /**
+     * 현재 상태는 orders(아카이브)에서, 지나온 상태는 이력 테이블에서 읽는다.
+     * 이력은 OrderStatusJournal의 flush 주기만큼 늦을 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public OrderTimelineResponse getTimeline(Long orderId) {
+        DeliveryStatusResponse current = checkDeliveryStatus(orderId);
+        return new OrderTimelineResponse(orderId, current.deliveryStatus(),
+                orderStatusEventRepository.findTimeline(orderId));
     }
 
     public DeliveryStatusResponse updateDeliveryStatus(Long orderId, UpdateDeliveryStatusRequest request) {
@@ -83,23 +346,70 @@ public class OrderService {
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         order.changeDeliveryStatus(request.deliveryStatus());
+        orderStatusJournal.record(order.getId(), order.getDeliveryStatus(), LocalDateTime.now());
+        eventPublisher.publishEvent(new OrderChangedEvent(order.getId(), order.getUser().getId()));
 
         return new DeliveryStatusResponse(order.getId(), order.getDeliveryStatus(), order.getOrderedAt());
     }
 
+    /**
+     * 주문 취소. 주문/상품 엔티티를 읽지 않고 세 문장으로 처리한다.
+     * 취소 정보 조회 → ORDERED일 때만 상태 변경(조건부 UPDATE) → stock = stock + ? 로 재고 복구.
+     * 동시에 같은 주문을 취소하면 상태를 바꾼 쪽만 재고를 되돌린다.
+     */
     public DeliveryStatusResponse cancelOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        OrderCancellation order = orderRepository.findCancellation(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-        if (order.getDeliveryStatus() != DeliveryStatus.ORDERED) {
+        if (order.deliveryStatus() != DeliveryStatus.ORDERED) {
             throw new IllegalStateException(
-                    "주문 취소는 ORDERED 상태에서만 가능합니다. 현재 상태: " + order.getDeliveryStatus()
+                    "주문 취소는 ORDERED 상태에서만 가능합니다. 현재 상태: " + order.deliveryStatus()
             );
         }
+        if (orderRepository.cancelOrdered(List.of(orderId)) == 0) {
+            throw new IllegalStateException("주문 취소는 ORDERED 상태에서만 가능합니다. 다른 요청이 먼저 상태를 바꿨습니다.");
+        }
 
-        order.changeDeliveryStatus(DeliveryStatus.CANCELLED);
-        order.getProduct().increaseStock(order.getQuantity());
+        productRepository.increaseStock(order.productId(), order.quantity());
+        soldOutRegistry.recordRestock(order.productId());
+        topSellerBoard.recordSalesChanged(order.productId());
+        orderStatusJournal.record(orderId, DeliveryStatus.CANCELLED, LocalDateTime.now());
+        eventPublisher.publishEvent(new OrderChangedEvent(orderId, order.userId()));
+        eventPublisher.publishEvent(new ProductChangedEvent(order.productId()));
 
-        return new DeliveryStatusResponse(order.getId(), order.getDeliveryStatus(), order.getOrderedAt());
+        return new DeliveryStatusResponse(orderId, DeliveryStatus.CANCELLED, order.orderedAt());
+    }
+
+    /**
+     * 상품 리콜: 아직 ORDERED인 주문을 최대 batchSize건 취소하고 수량 합계를 한 번에 재고로 되돌린다.
+     * 단건 취소와 같은 조건부 상태 변경 + stock = stock + ? 경로를 쓴다.
+     */
+    public CancelledBatch cancelOrderedBatch(Long productId, int batchSize) {
+        if (!productRepository.existsById(productId)) {
+            throw new ProductNotFoundException(productId);
+        }
+        List<Order> orders = orderRepository.findByProductIdAndStatusWithPessimisticLock(
+                productId, DeliveryStatus.ORDERED, PageRequest.of(0, batchSize));
+        if (orders.isEmpty()) {
+            return new CancelledBatch(0, 0);
+        }
+
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        int quantity = orders.stream().mapToInt(Order::getQuantity).sum();
+        List<OrderChangedEvent> events = orders.stream()
+                .map(order -> new OrderChangedEvent(order.getId(), order.getUser().getId()))
+                .toList();
+
+        // 잠근 주문이므로 모두 바뀐다.
+        orderRepository.cancelOrdered(orderIds);
+        LocalDateTime cancelledAt = LocalDateTime.now();
+        orderIds.forEach(orderId -> orderStatusJournal.record(orderId, DeliveryStatus.CANCELLED, cancelledAt));
+        productRepository.increaseStock(productId, quantity);
+        soldOutRegistry.recordRestock(productId);
+        topSellerBoard.recordSalesChanged(productId);
+        events.forEach(eventPublisher::publishEvent);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
+
+        return new CancelledBatch(orders.size(), quantity);
     }
 }
@@ -0,0 +1,136 @@
+package com.demo.order.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.order.entity.DeliveryStatus;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 주문 배송 상태 변경 이력(order_status_events) 기록기.
+ * 상태를 바꾸는 트랜잭션은 이력을 직접 INSERT하지 않고, 커밋된 뒤 메모리 버퍼에 넣기만 한다.
+ * 백그라운드 flush가 버퍼를 BATCH_SIZE 단위로 모아 JDBC 배치 INSERT한다 (IDENTITY 키라 JPA로는 배치가 안 된다).
+ *
+ * - 상태 변경 경로의 비용은 버퍼에 넣는 것뿐이다. 버퍼가 가득 차면 그 스레드가 직접 flush해서 속도를 맞춘다.
+ * - 이력은 flush 주기만큼 늦게 보인다. 현재 상태는 항상 orders에서 읽으므로 영향이 없다.
+ * - INSERT가 실패한 배치는 다음 flush에서 새 이력보다 먼저 다시 쓴다 (주문별 순서 유지).
+ *   DB 장애가 길어져 버퍼까지 가득 차면 새 이력은 버리고 경고를 남긴다. 상태 변경 자체는 막지 않는다.
+ * - 프로세스가 죽으면 flush 전 이력은 잃는다 (정상 종료 시에는 모두 flush).
+ */
+@Component
+public class OrderStatusJournal {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusJournal.class);
+    private static final String INSERT_SQL =
+            "INSERT INTO order_status_events (order_id, status, occurred_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final BlockingQueue<Entry> buffer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private List<Entry> failedBatch = List.of();
+
+    public OrderStatusJournal(DataSource dataSource, PlatformTransactionManager transactionManager,
+                              @Value("${app.order-history.buffer-capacity:100000}") int bufferCapacity) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        // 버퍼가 가득 차면 커밋 콜백(afterCommit) 안에서 flush한다. 이미 커밋된 바깥 트랜잭션에 참여하면
+        // 배치가 커밋되지 않고 사라지므로 항상 새 트랜잭션으로 쓴다.
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new LinkedBlockingQueue<>(bufferCapacity);
+    }
+
+    /**
+     * 상태를 바꾸는 트랜잭션 안에서 호출한다. 커밋된 뒤에만 버퍼에 넣는다.
+     */
+    public void record(Long orderId, DeliveryStatus status, LocalDateTime occurredAt) {
+        Entry entry = new Entry(orderId, status, occurredAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(entry);
+            }
+        });
+    }
+
+    /**
+     * @return 기록한 이력 수
+     */
+    @Scheduled(fixedDelayString = "${app.order-history.flush-interval:200ms}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            int written = 0;
+            List<Entry> batch = new ArrayList<>(failedBatch);
+            failedBatch = List.of();
+            while (!batch.isEmpty() || buffer.drainTo(batch, BATCH_SIZE) > 0) {
+                try {
+                    insert(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Order status events flush failed, {} events kept for retry", batch.size(), e);
+                    failedBatch = List.copyOf(batch);
+                    return written;
+                }
+                written += batch.size();
+                batch.clear();
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void append(Entry entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        flush();
+        if (!buffer.offer(entry)) {
+            log.warn("Order status event buffer full, dropped {} for order {}", entry.status(), entry.orderId());
+        }
+    }
+
+    private void insert(List<Entry> batch) {
+        batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                (statement, entry) -> {
+                    statement.setLong(1, entry.orderId());
+                    statement.setString(2, entry.status().name());
+                    statement.setTimestamp(3, Timestamp.valueOf(entry.occurredAt()));
+                }));
+    }
+
+    private record Entry(Long orderId, DeliveryStatus status, LocalDateTime occurredAt) {
+    }
+}
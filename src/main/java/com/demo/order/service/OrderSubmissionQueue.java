@@ -0,0 +1,172 @@
+package com.demo.order.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.common.exception.OrderTicketNotFoundException;
+import com.demo.common.exception.ProductNotFoundException;
+import com.demo.common.exception.TooManyRequestsException;
+import com.demo.common.exception.UserNotFoundException;
+import com.demo.config.OrderSubmissionProperties;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.dto.OrderTicketResponse;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비동기 주문 접수 대기열 (플래시 세일용).
+ * 접수는 대기열에 넣고 티켓만 돌려주며, 작업자 스레드가 순서대로 OrderService.placeOrder를 호출한다.
+ * 응답 지연과 DB 경합을 분리한다: 동시에 DB 락을 잡는 주문은 작업자 수를 넘지 않는다.
+ *
+ * - 대기열은 크기가 정해져 있다. 가득 차면 접수를 429로 거절한다 (대기열 길이가 곧 부하 신호).
+ * - 처리 결과는 티켓으로 조회한다. 끝난 티켓은 result-retention이 지나면 지운다.
+ * - 프로세스 메모리 대기열이므로 재시작하면 처리 전 티켓은 사라진다. 클라이언트는 티켓 조회가 404면 주문 이력으로 확인한다.
+ */
+@Component
+public class OrderSubmissionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSubmissionQueue.class);
+
+    private final OrderService orderService;
+    private final OrderSubmissionProperties properties;
+    private final BlockingQueue<OrderTicket> queue;
+    private final ConcurrentHashMap<String, OrderTicket> tickets = new ConcurrentHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public OrderSubmissionQueue(OrderService orderService, OrderSubmissionProperties properties) {
+        this.orderService = orderService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.add(Thread.ofPlatform().name("order-worker-" + i).daemon(true).start(this::drain));
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            worker.join(5_000);
+        }
+        workers.clear();
+    }
+
+    /**
+     * @throws TooManyRequestsException 대기열이 가득 찬 경우
+     */
+    public OrderTicketResponse submit(CreateOrderRequest request) {
+        OrderTicket ticket = new OrderTicket(UUID.randomUUID().toString(), request);
+        tickets.put(ticket.id, ticket);
+        if (!queue.offer(ticket)) {
+            tickets.remove(ticket.id);
+            throw new TooManyRequestsException("주문 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.", 1);
+        }
+        return ticket.toResponse(queue.size());
+    }
+
+    public OrderTicketResponse getTicket(String ticketId) {
+        OrderTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new OrderTicketNotFoundException(ticketId);
+        }
+        return ticket.toResponse(queue.size());
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinished() {
+        long cutoff = System.nanoTime() - properties.resultRetention().toNanos();
+        tickets.values().removeIf(ticket -> ticket.finishedBefore(cutoff));
+    }
+
+    private void drain() {
+        while (running) {
+            OrderTicket ticket;
+            try {
+                ticket = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            process(ticket);
+        }
+    }
+
+    private void process(OrderTicket ticket) {
+        ticket.status = OrderTicketStatus.PROCESSING;
+        try {
+            ticket.complete(orderService.placeOrder(ticket.request));
+        } catch (UserNotFoundException | ProductNotFoundException | InsufficientStockException
+                 | IllegalStateException e) {
+            ticket.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Async order {} failed", ticket.id, e);
+            ticket.fail("주문 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static final class OrderTicket {
+
+        private final String id;
+        private final CreateOrderRequest request;
+        private volatile OrderTicketStatus status = OrderTicketStatus.QUEUED;
+        private volatile CreateOrderResponse order;
+        private volatile String message;
+        private volatile long finishedAt;
+
+        OrderTicket(String id, CreateOrderRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        void complete(CreateOrderResponse order) {
+            this.order = order;
+            this.finishedAt = System.nanoTime();
+            this.status = OrderTicketStatus.COMPLETED;
+        }
+
+        void fail(String message) {
+            this.message = message;
+            this.finishedAt = System.nanoTime();
+            this.status = OrderTicketStatus.FAILED;
+        }
+
+        boolean finishedBefore(long nanoTime) {
+            OrderTicketStatus current = status;
+            return (current == OrderTicketStatus.COMPLETED || current == OrderTicketStatus.FAILED)
+                    && finishedAt - nanoTime < 0;
+        }
+
+        OrderTicketResponse toResponse(int queueDepth) {
+            // status를 마지막에 쓰므로 먼저 읽으면 결과 필드도 함께 보인다.
+            OrderTicketStatus current = status;
+            return new OrderTicketResponse(id, current, queueDepth, order, message);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.demo.order.service;
+
+public enum OrderTicketStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
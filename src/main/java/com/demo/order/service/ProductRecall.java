@@ -0,0 +1,33 @@
+package com.demo.order.service;
+
+import org.springframework.stereotype.Component;
+
+import com.demo.order.dto.ProductRecallResponse;
+
+/**
+ * 상품 리콜: 한 상품의 ORDERED 주문을 배치 단위로 모두 취소한다.
+ * 배치마다 트랜잭션을 나눠서 주문/상품 행 락을 오래 잡지 않는다.
+ */
+@Component
+public class ProductRecall {
+
+    static final int BATCH_SIZE = 500;
+
+    private final OrderService orderService;
+
+    public ProductRecall(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    public ProductRecallResponse cancelAllOrdered(Long productId) {
+        int orders = 0;
+        int quantity = 0;
+        CancelledBatch batch;
+        do {
+            batch = orderService.cancelOrderedBatch(productId, BATCH_SIZE);
+            orders += batch.orders();
+            quantity += batch.quantity();
+        } while (batch.orders() == BATCH_SIZE);
+        return new ProductRecallResponse(productId, orders, quantity);
+    }
+}
@@ -0,0 +1,7 @@
+package com.demo.order.service;
+
+/**
+ * 상품별 판매 수량 합계 (취소 제외).
+ */
+public record ProductSales(Long productId, Long quantity) {
+}
@@ -0,0 +1,183 @@
+package com.demo.order.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.order.dto.TopSellerResponse;
+import com.demo.order.repository.ArchivedOrderRepository;
+import com.demo.order.repository.OrderRepository;
+import com.demo.product.service.ProductSearchIndex;
+
+/**
+ * 누적 판매 수량(취소 제외) 상위 상품. 요청은 미리 만들어 둔 목록만 읽고 DB를 조회하지 않는다.
+ *
+ * - 상품별 판매 수량을 메모리에 두고, 주문/취소가 커밋되면 상품 id만 변경 목록에 기록한다.
+ *   변경된 상품 id는 CacheInvalidationBus로 발행하고 구독해서 기록하므로(자기 노드 포함) 다른 노드의 주문/취소도 반영된다.
+ * - 주기적으로 변경된 상품만 primary에서 주문/아카이브 테이블을 다시 합산한다 (상품별 인덱스 범위).
+ *   증감을 더하지 않고 합계를 다시 읽으므로 메시지가 중복되거나 순서가 바뀌어도 어긋나지 않는다.
+ * - 상위 목록은 변경이 있을 때만 크기 MAX_SIZE의 최소 힙으로 다시 고른다.
+ *   상품명은 검색 색인에서 얻고, 색인에 없는 상품(다른 노드에서 추가)은 DB에서 읽어 색인한 뒤 넣는다.
+ * - 기동 시 주문/아카이브 테이블을 상품별로 합산해 다시 만든다. 기동 중 커밋된 주문은 몇 건 어긋날 수 있다.
+ * - 상품 수는 카탈로그 크기로 제한되므로 근사 스케치 대신 정확한 카운터를 둔다.
+ */
+@Component
+public class TopSellerBoard {
+
+    public static final int MAX_SIZE = 100;
+
+    static final String CHANNEL = "top-sellers";
+
+    private static final Comparator<Map.Entry<Long, Long>> RANKING =
+            Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate primaryRead;
+
+    private final Map<Long, Long> sold = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+    private boolean changed;
+
+    private volatile List<TopSellerResponse> ranking = List.of();
+
+    public TopSellerBoard(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                          ProductSearchIndex productSearchIndex, CacheInvalidationBus invalidationBus,
+                          PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.invalidationBus = invalidationBus;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        invalidationBus.subscribe(CHANNEL, dirtyProductIds::add);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        dirtyProductIds.clear();
+        sold.clear();
+        primaryRead.executeWithoutResult(status -> {
+            add(orderRepository.sumSoldQuantities());
+            add(archivedOrderRepository.sumSoldQuantities());
+        });
+        changed = true;
+        refresh();
+    }
+
+    /**
+     * 주문/취소 트랜잭션 안에서 호출한다. 커밋된 뒤에 모든 노드에 이 상품의 판매 수량을 다시 읽게 한다.
+     */
+    public void recordSalesChanged(Long productId) {
+        afterCommit(() -> invalidationBus.publish(CHANNEL, productId));
+    }
+
+    /**
+     * 판매 수량 상위 limit개 (최대 MAX_SIZE). 최근 refresh 시점의 값이다.
+     */
+    public List<TopSellerResponse> top(int limit) {
+        List<TopSellerResponse> current = ranking;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.leaderboard.refresh-interval:1s}")
+    public synchronized void refresh() {
+        reloadDirty();
+        if (!changed) {
+            return;
+        }
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(MAX_SIZE + 1, RANKING);
+        sold.forEach((productId, quantity) -> {
+            if (quantity <= 0) {
+                return;
+            }
+            heap.offer(Map.entry(productId, quantity));
+            if (heap.size() > MAX_SIZE) {
+                heap.poll();
+            }
+        });
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            entries.add(heap.poll());
+        }
+        // 다른 노드에서 추가되어 아직 이 노드의 색인에 없는 상품은 DB에서 읽어 색인한다.
+        productSearchIndex.indexMissing(entries.stream().map(Map.Entry::getKey).toList());
+
+        List<TopSellerResponse> ranked = new ArrayList<>(entries.size());
+        boolean complete = true;
+        for (Map.Entry<Long, Long> entry : entries) {
+            Optional<String> name = productSearchIndex.name(entry.getKey());
+            if (name.isPresent()) {
+                ranked.add(new TopSellerResponse(entry.getKey(), name.get(), entry.getValue()));
+            } else {
+                complete = false;
+            }
+        }
+        ranking = List.copyOf(ranked.reversed());
+        // 이름을 못 구한 상품이 있으면(예: replica에 아직 없음) 다음 주기에 다시 고른다.
+        changed = !complete;
+    }
+
+    private void reloadDirty() {
+        if (dirtyProductIds.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = new ArrayList<>();
+        Iterator<Long> iterator = dirtyProductIds.iterator();
+        while (iterator.hasNext()) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        try {
+            primaryRead.executeWithoutResult(status -> {
+                // 판매가 모두 취소된 상품은 합계 행이 없으므로 0부터 다시 더한다.
+                productIds.forEach(productId -> sold.put(productId, 0L));
+                add(orderRepository.sumSoldQuantities(productIds));
+                add(archivedOrderRepository.sumSoldQuantities(productIds));
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 읽도록 변경 목록을 되돌린다.
+            dirtyProductIds.addAll(productIds);
+            throw e;
+        }
+        changed = true;
+    }
+
+    private void add(List<ProductSales> totals) {
+        for (ProductSales sales : totals) {
+            sold.merge(sales.productId(), sales.quantity(), Long::sum);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.demo.order.service;
+
+import java.time.LocalDateTime;
+
+import com.demo.order.entity.DeliveryStatus;
+
+/**
+ * 전체 배송 현황 조회용 최소 정보. 주문 엔티티 대신 필요한 컬럼만 한 번에 읽는다.
+ */
+public record UserDeliveryRow(Long userId, Long orderId, DeliveryStatus deliveryStatus, LocalDateTime orderedAt) {
+}
@@ -2,21 +2,40 @@ package com.demo.product.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.demo.common.web.EntityVersionRegistry;
+import com.demo.order.dto.TopSellerResponse;
+import com.demo.order.service.TopSellerBoard;
 import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.dto.LowStockResponse;
 import com.demo.product.dto.ProductResponse;
+import com.demo.product.dto.ProductSearchResponse;
+import com.demo.product.dto.StockShardRequest;
+import com.demo.product.dto.StockShardResponse;
+import com.demo.product.service.CatalogSnapshot;
+import com.demo.product.service.LowStockBoard;
 import com.demo.product.service.ProductService;
+import com.demo.product.service.StockShardService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,9 +47,21 @@ import jakarta.validation.Valid;
 public class ProductController {
 
     private final ProductService productService;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final CatalogSnapshot catalogSnapshot;
+    private final StockShardService stockShardService;
+    private final TopSellerBoard topSellerBoard;
+    private final LowStockBoard lowStockBoard;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, EntityVersionRegistry entityVersionRegistry,
+                             CatalogSnapshot catalogSnapshot, StockShardService stockShardService,
+                             TopSellerBoard topSellerBoard, LowStockBoard lowStockBoard) {
         this.productService = productService;
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.catalogSnapshot = catalogSnapshot;
+        this.stockShardService = stockShardService;
+        this.topSellerBoard = topSellerBoard;
+        this.lowStockBoard = lowStockBoard;
     }
 
     @PostMapping
@@ -45,21 +76,117 @@ public class ProductController {
         return productService.addProduct(request);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "상품 검색", description = "상품명으로 검색합니다. 부분 일치와 오타 허용 검색을 지원하며 점수순으로 정렬됩니다.")
+    @ApiResponse(responseCode = "200", description = "검색 성공")
+    public ProductSearchResponse searchProducts(
+            @Parameter(description = "검색어", required = true) @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "오타 허용 여부") @RequestParam(defaultValue = "true") boolean typo) {
+        return productService.searchProducts(q, Math.max(page, 0), Math.clamp(size, 1, 100), typo);
+    }
+
+    @GetMapping("/top-sellers")
+    @Operation(summary = "판매 순위", description = "누적 판매 수량(취소 제외) 상위 상품을 조회합니다. 메모리의 순위를 그대로 반환하며 몇 초 늦을 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    public List<TopSellerResponse> getTopSellers(
+            @Parameter(description = "개수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
+        return topSellerBoard.top(Math.clamp(limit, 1, TopSellerBoard.MAX_SIZE));
+    }
+
+    @GetMapping("/low-stock")
+    @Operation(summary = "품절 임박 상품", description = "판매 가능 재고가 적은 순서로 상품을 조회합니다 (품절 상품 제외). 메모리의 목록을 그대로 반환하며 몇 초 늦을 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    public List<LowStockResponse> getLowStock(
+            @Parameter(description = "개수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
+        return lowStockBoard.lowest(Math.clamp(limit, 1, LowStockBoard.MAX_SIZE));
+    }
+
     @GetMapping("/{productId}")
     @Operation(summary = "상품 단건 조회", description = "특정 상품의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
     })
     public ProductResponse getProduct(
-            @Parameter(description = "조회할 상품 ID", required = true) @PathVariable Long productId) {
+            @Parameter(description = "조회할 상품 ID", required = true) @PathVariable Long productId,
+            WebRequest request) {
+        // ETag는 상품을 읽기 전에 계산한다. 읽는 도중 변경되면 다음 요청에서 ETag가 달라진다.
+        if (request.checkNotModified(entityVersionRegistry.productEtag(productId))) {
+            return null;
+        }
         return productService.getProduct(productId);
     }
 
+    @GetMapping("/{productId}/stock-shards")
+    @Operation(summary = "재고 샤드 현황 조회", description = "상품 행(풀)과 샤드별 재고를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    public StockShardResponse getStockShards(
+            @Parameter(description = "조회할 상품 ID", required = true) @PathVariable Long productId) {
+        return stockShardService.getShards(productId);
+    }
+
+    @PutMapping("/{productId}/stock-shards")
+    @Operation(summary = "재고 샤드 설정", description = "인기 상품의 재고를 여러 행으로 나눠 주문이 한 행에 몰리지 않게 합니다. 0이면 해제합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "설정 성공"),
+            @ApiResponse(responseCode = "400", description = "샤드 수가 0~64 범위를 벗어남"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    public StockShardResponse configureStockShards(
+            @Parameter(description = "설정할 상품 ID", required = true) @PathVariable Long productId,
+            @Valid @RequestBody StockShardRequest request) {
+        return stockShardService.configure(productId, request.shardCount());
+    }
+
     @GetMapping
     @Operation(summary = "전체 상품 목록 조회", description = "등록된 모든 상품 목록을 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "조회 성공")
-    public List<ProductResponse> getAllProducts() {
-        return productService.getAllProducts();
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
+    })
+    public ResponseEntity<?> getAllProducts(WebRequest request) {
+        CatalogSnapshot.Snapshot snapshot = catalogSnapshot.current();
+        if (snapshot == null) {
+            if (request.checkNotModified(entityVersionRegistry.catalogEtag())) {
+                return null;
+            }
+            return ResponseEntity.ok(productService.getAllProducts());
+        }
+
+        // 미리 만들어 둔 바이트를 그대로 쓴다. Accept-Encoding에 따라 gzip 표현을 고른다.
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(gzip ? snapshot.gzipEtag() : snapshot.etag())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            return !rejected;
+        }
+        return false;
     }
 }
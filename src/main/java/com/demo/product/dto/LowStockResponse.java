@@ -0,0 +1,11 @@
+package com.demo.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "품절 임박 상품 항목")
+public record LowStockResponse(
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "상품명", example = "맥북 프로") String name,
+        @Schema(description = "판매 가능 재고 (샤드 포함)", example = "3") int stock
+) {
+}
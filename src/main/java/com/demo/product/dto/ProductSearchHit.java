@@ -0,0 +1,12 @@
+package com.demo.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 검색 결과 항목")
+public record ProductSearchHit(
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "상품명", example = "노트북") String name,
+        @Schema(description = "상품 가격 (원)", example = "1500000") int price,
+        @Schema(description = "일치 점수 (완전 일치 100, 이름 접두어 80, 단어 접두어 60, 부분 일치 40, 오타 허용 20 이하)", example = "80") int score
+) {
+}
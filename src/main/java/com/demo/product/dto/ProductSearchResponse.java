@@ -0,0 +1,15 @@
+package com.demo.product.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 검색 응답")
+public record ProductSearchResponse(
+        @Schema(description = "검색어", example = "맥북") String query,
+        @Schema(description = "전체 일치 건수", example = "42") int totalHits,
+        @Schema(description = "페이지 번호 (0부터)", example = "0") int page,
+        @Schema(description = "페이지 크기", example = "20") int size,
+        @Schema(description = "검색 결과 (점수순)") List<ProductSearchHit> hits
+) {
+}
@@ -0,0 +1,11 @@
+package com.demo.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+@Schema(description = "재고 샤드 설정 요청")
+public record StockShardRequest(
+        @Schema(description = "샤드 수 (0이면 샤딩 해제)", example = "8") @Min(0) @Max(64) int shardCount
+) {
+}
@@ -0,0 +1,14 @@
+package com.demo.product.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "재고 샤드 현황")
+public record StockShardResponse(
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "판매 가능 재고 합계 (풀 + 샤드)", example = "1000") int stock,
+        @Schema(description = "상품 행(풀)에 남은 판매 가능 재고", example = "100") int poolStock,
+        @Schema(description = "샤드별 재고 (shard_no 순)") List<Integer> shardStocks
+) {
+}
@@ -24,6 +24,10 @@ public class Product {
     @Column(nullable = false)
     private int stock;
 
+    /** 결제 대기 중인 예약(홀드) 수량. 실제 재고(stock)에서 빠지지 않았지만 판매 가능 재고에서는 제외된다. */
+    @Column(nullable = false)
+    private int reservedStock;
+
     protected Product() {
     }
 
@@ -45,17 +49,47 @@ public class Product {
         return price;
     }
 
+    /**
+     * 판매 가능 재고 = 실제 재고 - 유효한 예약 수량.
+     */
     public int getStock() {
+        return stock - reservedStock;
+    }
+
+    public int getPhysicalStock() {
         return stock;
     }
 
+    public int getReservedStock() {
+        return reservedStock;
+    }
+
     public void decreaseStock(int quantity) {
-        if (this.stock < quantity) {
-            throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + this.stock);
+        if (getStock() < quantity) {
+            throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + getStock());
+        }
+        this.stock -= quantity;
+    }
+
+    public void reserve(int quantity) {
+        if (getStock() < quantity) {
+            throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + getStock());
         }
+        this.reservedStock += quantity;
+    }
+
+    /**
+     * 예약을 주문으로 확정한다. 예약 수량만큼 실제 재고를 차감하므로 판매 가능 재고는 변하지 않는다.
+     */
+    public void confirmReservation(int quantity) {
+        this.reservedStock -= quantity;
         this.stock -= quantity;
     }
 
+    public void releaseReservation(int quantity) {
+        this.reservedStock -= quantity;
+    }
+
     public void increaseStock(int quantity) {
         this.stock += quantity;
     }
@@ -0,0 +1,58 @@
+package com.demo.product.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 인기 상품 재고의 한 조각. 상품의 판매 가능 재고 = products.stock - reserved_stock + 모든 샤드의 stock.
+ * 상품 엔티티를 참조하지 않고 id만 둔다 (샤드 차감은 상품 행을 읽지도 잠그지도 않는다).
+ */
+@Entity
+@Table(name = "product_stock_shards")
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int shardNo;
+
+    @Column(nullable = false)
+    private int stock;
+
+    protected ProductStockShard() {
+    }
+
+    public ProductStockShard(Long productId, int shardNo) {
+        this.productId = productId;
+        this.shardNo = shardNo;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getShardNo() {
+        return shardNo;
+    }
+
+    public int getStock() {
+        return stock;
+    }
+
+    public void setStock(int stock) {
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,8 @@
+package com.demo.product.event;
+
+/**
+ * 상품 정보나 판매 가능 재고가 바뀌었을 때 발행한다.
+ * 캐시/버전 등 파생 데이터는 이 이벤트를 커밋 이후에 받아 갱신한다.
+ */
+public record ProductChangedEvent(Long productId) {
+}
@@ -1,12 +1,16 @@
 package com.demo.product.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.demo.analytics.service.ProductPrice;
 import com.demo.product.entity.Product;
 
 import jakarta.persistence.LockModeType;
@@ -26,4 +30,42 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithPessimisticLock(@Param("id") Long id);
+
+    /**
+     * 여러 상품을 한 번의 SELECT ... FOR UPDATE로 잠근다.
+     * 항상 id 오름차순으로 잠그므로, 서로 다른 순서의 장바구니가 동시에 들어와도
+     * 락 획득 순서가 같아져 교착 상태(deadlock)가 생기지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdWithPessimisticLock(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.demo.analytics.service.ProductPrice(p.id, p.price) FROM Product p WHERE p.id IN :ids")
+    List<ProductPrice> findPrices(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.name FROM Product p WHERE p.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
+    /**
+     * 판매 가능 재고(stock - reserved_stock)가 충분할 때만 한 번의 UPDATE로 차감한다.
+     * 행을 읽지 않고, 바뀐 행 수(0 또는 1)로 성공 여부만 알려준다. 0이면 상품이 없거나 재고가 모자란 것이다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity "
+            + "WHERE p.id = :id AND p.stock - p.reservedStock >= :quantity")
+    int tryDecreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 주문 취소로 재고를 되돌린다. 읽은 값을 덮어쓰지 않고 stock = stock + ? 로 더하므로 동시 차감과 겹쳐도 잃지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 만료된 예약 수량을 한 번의 UPDATE로 되돌린다. (엔티티를 읽지 않는 set 기반 갱신)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.reservedStock = p.reservedStock - :quantity WHERE p.id = :id")
+    int releaseReservedStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
@@ -0,0 +1,49 @@
+package com.demo.product.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.demo.product.entity.ProductStockShard;
+import com.demo.product.service.ShardStock;
+import com.demo.product.service.ShardTotal;
+
+import jakarta.persistence.LockModeType;
+
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    @Query("SELECT new com.demo.product.service.ShardStock(s.shardNo, s.stock) "
+            + "FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ShardStock> findShardStocks(@Param("productId") Long productId);
+
+    /**
+     * 상품의 모든 샤드를 shard_no 오름차순으로 잠근다. (재분배/샤드 수 변경 전용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findAllByProductIdWithPessimisticLock(@Param("productId") Long productId);
+
+    /**
+     * 샤드 하나에서 재고를 조건부로 차감한다. 재고가 모자라면 0을 반환하고 아무것도 바꾸지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.stock = s.stock - :quantity "
+            + "WHERE s.productId = :productId AND s.shardNo = :shardNo AND s.stock >= :quantity")
+    int tryDecrease(@Param("productId") Long productId,
+                    @Param("shardNo") int shardNo,
+                    @Param("quantity") int quantity);
+
+    @Query("SELECT COALESCE(SUM(s.stock), 0) FROM ProductStockShard s WHERE s.productId = :productId")
+    int sumStock(@Param("productId") Long productId);
+
+    /**
+     * 샤딩된 상품 전체의 샤드 수/재고 합계. 샤드 테이블은 인기 상품 몇 개분이라 작다.
+     */
+    @Query("SELECT new com.demo.product.service.ShardTotal(s.productId, COUNT(s), SUM(s.stock)) "
+            + "FROM ProductStockShard s GROUP BY s.productId")
+    List<ShardTotal> findTotals();
+}
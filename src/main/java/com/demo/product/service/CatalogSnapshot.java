@@ -0,0 +1,200 @@
+package com.demo.product.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.product.dto.ProductResponse;
+import com.demo.product.entity.Product;
+import com.demo.product.event.ProductChangedEvent;
+import com.demo.product.repository.ProductRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 전체 상품 목록 응답을 미리 직렬화/압축해 둔 스냅샷.
+ * 요청마다 엔티티를 읽고 JSON으로 바꾸는 대신, 만들어 둔 바이트 배열을 그대로 응답에 쓴다.
+ *
+ * - 상품별 JSON 조각을 id 순으로 보관하고, 변경된 상품의 조각만 다시 만든 뒤 배열로 이어 붙인다.
+ * - 변경은 커밋 이후에 CacheInvalidationBus로 발행하고, 구독해서 변경 목록에 넣는다(자기 노드 포함).
+ *   다른 노드에서 바뀐 상품도 이 노드의 스냅샷에 반영된다.
+ * - 버전을 먼저 읽고 변경 목록을 비우므로, 재구성 도중 들어온 변경은 버전이 달라져 다음 요청에서 다시 반영된다.
+ * - 재구성은 한 스레드만 한다. 나머지 요청은 그동안 직전 스냅샷(자기 ETag 포함)을 그대로 받는다.
+ * - 재구성 조회는 쓰기 트랜잭션으로 열어 primary에서 읽는다. replica의 지연된 값이 새 버전으로 굳으면
+ *   다음 변경 전까지 고쳐지지 않기 때문이다.
+ */
+@Component
+public class CatalogSnapshot {
+
+    static final String CHANNEL = "catalog";
+
+    private final ProductRepository productRepository;
+    private final StockShardService stockShardService;
+    private final CacheInvalidationBus invalidationBus;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate primaryRead;
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentSkipListMap<Long, byte[]> fragments = new ConcurrentSkipListMap<>();
+    private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public CatalogSnapshot(ProductRepository productRepository, StockShardService stockShardService,
+                           CacheInvalidationBus invalidationBus, JsonMapper jsonMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.stockShardService = stockShardService;
+        this.invalidationBus = invalidationBus;
+        this.jsonMapper = jsonMapper;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        invalidationBus.subscribe(CHANNEL, this::markDirty);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildLock.lock();
+        try {
+            long currentVersion = version.get();
+            dirtyProductIds.clear();
+            fragments.clear();
+            primaryRead.executeWithoutResult(status -> {
+                Map<Long, Integer> shardedStocks = stockShardService.shardedStocks();
+                for (Product product : productRepository.findAll()) {
+                    fragments.put(product.getId(), serialize(product, shardedStocks.getOrDefault(product.getId(), 0)));
+                }
+            });
+            snapshot = assemble(currentVersion);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidationBus.publish(CHANNEL, event.productId());
+    }
+
+    void markDirty(long productId) {
+        dirtyProductIds.add(productId);
+        version.incrementAndGet();
+    }
+
+    /**
+     * 최신 스냅샷을 반환한다. 아직 초기화 전이면 null (호출자는 일반 조회로 대신한다).
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.version() == version.get()) {
+            return current;
+        }
+        if (!rebuildLock.tryLock()) {
+            return current;
+        }
+        try {
+            if (snapshot.version() != version.get()) {
+                snapshot = refresh();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot refresh() {
+        long currentVersion = version.get();
+        List<Long> productIds = new ArrayList<>();
+        Iterator<Long> iterator = dirtyProductIds.iterator();
+        while (iterator.hasNext()) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        Map<Long, byte[]> changed = new HashMap<>();
+        try {
+            primaryRead.executeWithoutResult(status -> {
+                for (Product product : productRepository.findAllById(productIds)) {
+                    changed.put(product.getId(), serialize(product, stockShardService.shardedStock(product.getId())));
+                }
+            });
+        } catch (RuntimeException e) {
+            // 다음 요청에서 다시 시도하도록 변경 목록을 되돌린다.
+            dirtyProductIds.addAll(productIds);
+            throw e;
+        }
+        for (Long productId : productIds) {
+            byte[] fragment = changed.get(productId);
+            if (fragment == null) {
+                fragments.remove(productId);
+            } else {
+                fragments.put(productId, fragment);
+            }
+        }
+        return assemble(currentVersion);
+    }
+
+    private Snapshot assemble(long snapshotVersion) {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        json.write('[');
+        boolean first = true;
+        for (byte[] fragment : fragments.values()) {
+            if (!first) {
+                json.write(',');
+            }
+            json.writeBytes(fragment);
+            first = false;
+        }
+        json.write(']');
+
+        byte[] plain = json.toByteArray();
+        String tag = "s-" + bootId + "-" + snapshotVersion;
+        return new Snapshot(snapshotVersion, "\"" + tag + "\"", plain, "\"" + tag + "-gz\"", gzip(plain));
+    }
+
+    private byte[] serialize(Product product, int shardedStock) {
+        return jsonMapper.writeValueAsBytes(new ProductResponse(
+                product.getId(),
+                product.getName(),
+                product.getPrice(),
+                product.getStock() + shardedStock
+        ));
+    }
+
+    private static byte[] gzip(byte[] plain) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, plain.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(plain);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * 같은 내용의 평문/gzip 표현. 인코딩이 다르면 바이트가 다르므로 ETag도 따로 둔다.
+     */
+    public record Snapshot(long version, String etag, byte[] json, String gzipEtag, byte[] gzip) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.demo.product.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.product.dto.LowStockResponse;
+import com.demo.product.entity.Product;
+import com.demo.product.event.ProductChangedEvent;
+import com.demo.product.repository.ProductRepository;
+
+/**
+ * 판매 가능 재고가 적은 순서의 상품 목록 (품절 상품 제외). 요청은 미리 만들어 둔 목록만 읽고 DB를 조회하지 않는다.
+ *
+ * - 상품별 재고를 메모리에 두고, 커밋된 상품 변경은 변경 목록에만 기록한다.
+ *   변경된 상품 id는 CacheInvalidationBus로 발행하고 구독해서 기록하므로(자기 노드 포함) 다른 노드의 주문도 반영된다.
+ * - 주기적으로 변경된 상품만 primary에서 다시 읽고, 크기 MAX_SIZE의 최대 힙으로 하위 목록을 다시 고른다.
+ *   주문마다 조회하지 않고 주기마다 한 번 모아서 읽는다.
+ * - 기동 시 DB 전체로 다시 만든다.
+ */
+@Component
+public class LowStockBoard {
+
+    public static final int MAX_SIZE = 100;
+
+    static final String CHANNEL = "low-stock";
+
+    private static final Comparator<LowStockResponse> RANKING =
+            Comparator.comparingInt(LowStockResponse::stock).thenComparing(LowStockResponse::productId);
+
+    private final ProductRepository productRepository;
+    private final StockShardService stockShardService;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate primaryRead;
+
+    private final ConcurrentHashMap<Long, LowStockResponse> stocks = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+
+    private volatile List<LowStockResponse> ranking = List.of();
+
+    public LowStockBoard(ProductRepository productRepository, StockShardService stockShardService,
+                         CacheInvalidationBus invalidationBus, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.stockShardService = stockShardService;
+        this.invalidationBus = invalidationBus;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        invalidationBus.subscribe(CHANNEL, dirtyProductIds::add);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        dirtyProductIds.clear();
+        stocks.clear();
+        primaryRead.executeWithoutResult(status -> {
+            Map<Long, Integer> shardedStocks = stockShardService.shardedStocks();
+            for (Product product : productRepository.findAll()) {
+                put(product, shardedStocks.getOrDefault(product.getId(), 0));
+            }
+        });
+        ranking = rank();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidationBus.publish(CHANNEL, event.productId());
+    }
+
+    /**
+     * 판매 가능 재고가 적은 상위 limit개 (최대 MAX_SIZE). 최근 refresh 시점의 값이다.
+     */
+    public List<LowStockResponse> lowest(int limit) {
+        List<LowStockResponse> current = ranking;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.leaderboard.refresh-interval:1s}")
+    public synchronized void refresh() {
+        if (dirtyProductIds.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = new ArrayList<>();
+        Iterator<Long> iterator = dirtyProductIds.iterator();
+        while (iterator.hasNext()) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        try {
+            primaryRead.executeWithoutResult(status -> {
+                for (Product product : productRepository.findAllById(productIds)) {
+                    put(product, stockShardService.shardedStock(product.getId()));
+                }
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 읽도록 변경 목록을 되돌린다.
+            dirtyProductIds.addAll(productIds);
+            throw e;
+        }
+        ranking = rank();
+    }
+
+    private void put(Product product, int shardedStock) {
+        stocks.put(product.getId(), new LowStockResponse(product.getId(), product.getName(),
+                product.getStock() + shardedStock));
+    }
+
+    private List<LowStockResponse> rank() {
+        PriorityQueue<LowStockResponse> heap = new PriorityQueue<>(MAX_SIZE + 1, RANKING.reversed());
+        for (LowStockResponse entry : stocks.values()) {
+            if (entry.stock() <= 0) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > MAX_SIZE) {
+                heap.poll();
+            }
+        }
+        List<LowStockResponse> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll());
+        }
+        return List.copyOf(ranked.reversed());
+    }
+}
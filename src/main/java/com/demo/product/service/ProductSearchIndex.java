@@ -0,0 +1,308 @@
+package com.demo.product.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.product.entity.Product;
+import com.demo.product.repository.ProductRepository;
+
+/**
+ * 상품명 인메모리 역색인 (n-gram).
+ * 정규화한 상품명의 1글자/2글자 조각마다 상품 id 목록을 두고, 검색어의 조각 목록을 교집합해 후보를 고른다.
+ * DB를 조회하지 않으므로 LIKE '%x%' 스캔 없이 메모리에서 바로 답한다.
+ *
+ * [정규화] NFKC + 소문자 + 공백/기호 제거. "맥북 프로"와 "맥북프로"는 같은 이름으로 본다.
+ * [순위] 완전 일치 > 이름 접두어 > 단어 접두어 > 부분 문자열 > 오타 허용 일치. 같으면 짧은 이름, id 순.
+ * [오타 허용] 3글자 이상 검색어만. 편집 거리 1(7글자 이상은 2) 이내의 부분 문자열이 있으면 일치로 본다.
+ *
+ * - 기동 시 DB 전체로 다시 만들고, 상품 추가는 커밋 이후에 반영한다.
+ * - 추가된 상품 id는 CacheInvalidationBus로 발행한다. 다른 노드는 모르는 id면 DB에서 읽어 색인한다.
+ *   메시지를 놓친 상품은 indexMissing으로 채운다 (판매 순위가 모르는 상품을 만나면 호출한다).
+ * - 상품명은 바뀌지 않고 삭제 API도 없으므로 추가만 처리한다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    static final int EXACT = 100;
+    static final int NAME_PREFIX = 80;
+    static final int TOKEN_PREFIX = 60;
+    static final int SUBSTRING = 40;
+    static final int TYPO = 20;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingInt(hit -> hit.name().length())
+            .thenComparing(Hit::productId);
+
+    static final String CHANNEL = "product-index";
+
+    private final ProductRepository productRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public ProductSearchIndex(ProductRepository productRepository, CacheInvalidationBus invalidationBus) {
+        this.productRepository = productRepository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CHANNEL, productId -> indexMissing(List.of(productId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        documents.clear();
+        postings.clear();
+        for (Product product : productRepository.findAll()) {
+            index(product.getId(), product.getName(), product.getPrice());
+        }
+    }
+
+    /**
+     * 상품 추가 트랜잭션 안에서 호출한다. 롤백된 상품이 검색되지 않도록 커밋 이후에 색인한다.
+     */
+    public void add(Long productId, String name, int price) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexAndPublish(productId, name, price);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexAndPublish(productId, name, price);
+            }
+        });
+    }
+
+    /**
+     * 색인에 없는 상품을 DB에서 읽어 색인한다. 다른 노드에서 추가된 상품을 채우는 데 쓴다.
+     *
+     * @return 새로 색인한 상품 수
+     */
+    public int indexMissing(Collection<Long> productIds) {
+        List<Long> missing = productIds.stream().filter(productId -> !documents.containsKey(productId)).toList();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        int indexed = 0;
+        for (Product product : productRepository.findAllById(missing)) {
+            index(product.getId(), product.getName(), product.getPrice());
+            indexed++;
+        }
+        return indexed;
+    }
+
+    /**
+     * 색인된 상품명. 상품명은 바뀌지 않으므로 주문 경로에서 상품 행을 읽지 않고 이름을 얻는 데도 쓴다.
+     * 아직 커밋 전이거나 색인 전인 상품은 비어 있다.
+     */
+    public Optional<String> name(Long productId) {
+        Document document = documents.get(productId);
+        return document == null ? Optional.empty() : Optional.of(document.name());
+    }
+
+    /**
+     * 순위순으로 정렬된 전체 일치 목록을 반환한다. 페이지 자르기는 호출자가 한다.
+     */
+    public List<Hit> search(String query, boolean typoTolerant) {
+        Document probe = Document.of(null, query == null ? "" : query, 0);
+        String pattern = probe.compact();
+        if (pattern.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> grams = grams(pattern);
+        Map<Long, Hit> hits = new HashMap<>();
+        for (Long productId : intersect(grams)) {
+            Document document = documents.get(productId);
+            int score = document == null ? 0 : exactScore(document, probe);
+            if (score > 0) {
+                hits.put(productId, document.hit(score));
+            }
+        }
+
+        if (typoTolerant && pattern.length() >= 3) {
+            int maxEdits = pattern.length() >= 7 ? 2 : 1;
+            for (Long productId : fuzzyCandidates(grams, maxEdits)) {
+                if (hits.containsKey(productId)) {
+                    continue;
+                }
+                Document document = documents.get(productId);
+                if (document == null) {
+                    continue;
+                }
+                int distance = substringDistance(pattern, document.compact());
+                if (distance <= maxEdits) {
+                    hits.put(productId, document.hit(TYPO - 5 * (distance - 1)));
+                }
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(hits.values());
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    private void indexAndPublish(Long productId, String name, int price) {
+        // 자기 노드에도 메시지가 오지만 이미 색인되어 있으므로 DB를 읽지 않는다.
+        index(productId, name, price);
+        invalidationBus.publish(CHANNEL, productId);
+    }
+
+    private void index(Long productId, String name, int price) {
+        Document document = Document.of(productId, name, price);
+        documents.put(productId, document);
+        Set<String> keys = new HashSet<>();
+        String compact = document.compact();
+        for (int i = 0; i < compact.length(); i++) {
+            keys.add(compact.substring(i, i + 1));
+            if (i + 1 < compact.length()) {
+                keys.add(compact.substring(i, i + 2));
+            }
+        }
+        for (String key : keys) {
+            postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(productId);
+        }
+    }
+
+    private Set<Long> intersect(List<String> grams) {
+        Set<Long> smallest = null;
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        Set<Long> result = new HashSet<>();
+        for (Long productId : smallest) {
+            if (containsAll(grams, productId)) {
+                result.add(productId);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsAll(List<String> grams, Long productId) {
+        for (String gram : grams) {
+            if (!postings.getOrDefault(gram, Set.of()).contains(productId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 편집 한 번은 2-gram을 최대 두 개까지 깨뜨리므로, 그만큼 덜 겹치는 상품까지 후보로 삼는다.
+     */
+    private Set<Long> fuzzyCandidates(List<String> grams, int maxEdits) {
+        int required = Math.max(1, grams.size() - 2 * maxEdits);
+        Map<Long, Integer> overlap = new HashMap<>();
+        for (String gram : grams) {
+            for (Long productId : postings.getOrDefault(gram, Set.of())) {
+                overlap.merge(productId, 1, Integer::sum);
+            }
+        }
+        Set<Long> candidates = new HashSet<>();
+        overlap.forEach((productId, count) -> {
+            if (count >= required) {
+                candidates.add(productId);
+            }
+        });
+        return candidates;
+    }
+
+    private static int exactScore(Document document, Document probe) {
+        String compact = document.compact();
+        String pattern = probe.compact();
+        if (compact.equals(pattern)) {
+            return EXACT;
+        }
+        if (compact.startsWith(pattern)) {
+            return NAME_PREFIX;
+        }
+        if (!compact.contains(pattern)) {
+            return 0;
+        }
+        for (String token : document.tokens()) {
+            if (token.startsWith(probe.tokens().getFirst())) {
+                return TOKEN_PREFIX;
+            }
+        }
+        return SUBSTRING;
+    }
+
+    /**
+     * pattern과 text의 임의 부분 문자열 사이의 최소 편집 거리 (Sellers 알고리즘).
+     */
+    static int substringDistance(String pattern, String text) {
+        int m = pattern.length();
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int i = 0; i <= m; i++) {
+            previous[i] = i;
+        }
+        int best = previous[m];
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            current[0] = 0;
+            for (int i = 1; i <= m; i++) {
+                int cost = pattern.charAt(i - 1) == c ? 0 : 1;
+                current[i] = Math.min(previous[i - 1] + cost, Math.min(previous[i] + 1, current[i - 1] + 1));
+            }
+            best = Math.min(best, current[m]);
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return best;
+    }
+
+    private static List<String> grams(String compact) {
+        if (compact.length() == 1) {
+            return List.of(compact);
+        }
+        List<String> grams = new ArrayList<>(compact.length() - 1);
+        for (int i = 0; i + 2 <= compact.length(); i++) {
+            grams.add(compact.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    public record Hit(Long productId, String name, int price, int score) {
+    }
+
+    private record Document(Long productId, String name, int price, List<String> tokens, String compact) {
+
+        static Document of(Long productId, String name, int price) {
+            String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+            List<String> tokens = new ArrayList<>();
+            for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+            return new Document(productId, name, price, List.copyOf(tokens), String.join("", tokens));
+        }
+
+        Hit hit(int score) {
+            return new Hit(productId, name, price, score);
+        }
+    }
+}
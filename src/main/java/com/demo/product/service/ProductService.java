@@ -1,15 +1,25 @@
 package com.demo.product.service;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.demo.common.cache.SingleFlight;
 import com.demo.common.exception.DuplicateProductNameException;
 import com.demo.common.exception.ProductNotFoundException;
+import com.demo.common.web.EntityVersionRegistry;
 import com.demo.product.dto.CreateProductRequest;
 import com.demo.product.dto.ProductResponse;
+import com.demo.product.dto.ProductSearchHit;
+import com.demo.product.dto.ProductSearchResponse;
 import com.demo.product.entity.Product;
+import com.demo.product.event.ProductChangedEvent;
 import com.demo.product.repository.ProductRepository;
 
 @Service
@@ -17,9 +27,24 @@ import com.demo.product.repository.ProductRepository;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final StockShardService stockShardService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate primaryRead;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ProductSearchIndex productSearchIndex,
+                          StockShardService stockShardService, ApplicationEventPublisher eventPublisher,
+                          EntityVersionRegistry entityVersionRegistry, SingleFlight singleFlight,
+                          PlatformTransactionManager transactionManager) {
         this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.stockShardService = stockShardService;
+        this.eventPublisher = eventPublisher;
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.singleFlight = singleFlight;
+        this.primaryRead = new TransactionTemplate(transactionManager);
     }
 
     public ProductResponse addProduct(CreateProductRequest request) {
@@ -30,31 +55,67 @@ public class ProductService {
         Product product = productRepository.save(
                 new Product(request.name(), request.price(), request.stock())
         );
+        productSearchIndex.add(product.getId(), product.getName(), product.getPrice());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
 
-        return toResponse(product);
+        return toResponse(product, 0);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 같은 상품의 동시 조회는 SingleFlight로 합친다. 기다리는 요청은 트랜잭션(커넥션)을 잡지 않는다.
+     * 응답에 커밋 기준 버전으로 만든 ETag가 붙으므로 readOnly(replica)가 아닌 primary에서 읽는다.
+     * (지연된 replica의 옛 본문에 새 ETag가 붙으면 다음 변경까지 304로 옛 값이 유지된다.)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductResponse getProduct(Long productId) {
+        return singleFlight.execute("product", productId, entityVersionRegistry.productVersion(productId),
+                () -> primaryRead.execute(status -> loadProduct(productId)));
+    }
+
+    private ProductResponse loadProduct(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
 
-        return toResponse(product);
+        return toResponse(product, stockShardService.shardedStock(productId));
     }
 
     @Transactional(readOnly = true)
     public List<ProductResponse> getAllProducts() {
+        Map<Long, Integer> shardedStocks = stockShardService.shardedStocks();
         return productRepository.findAll().stream()
-                .map(this::toResponse)
+                .map(product -> toResponse(product, shardedStocks.getOrDefault(product.getId(), 0)))
                 .toList();
     }
 
-    private ProductResponse toResponse(Product product) {
+    /**
+     * 메모리 색인만 읽으므로 트랜잭션(DB 커넥션)을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductSearchResponse searchProducts(String query, int page, int size, boolean typoTolerant) {
+        List<ProductSearchIndex.Hit> hits = productSearchIndex.search(query, typoTolerant);
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+
+        return new ProductSearchResponse(
+                query,
+                hits.size(),
+                page,
+                size,
+                hits.subList(from, to).stream()
+                        .map(hit -> new ProductSearchHit(hit.productId(), hit.name(), hit.price(), hit.score()))
+                        .toList()
+        );
+    }
+
+    /**
+     * @param shardedStock 재고 샤드에 나뉘어 있는 재고 (샤딩하지 않은 상품은 0)
+     */
+    private ProductResponse toResponse(Product product, int shardedStock) {
         return new ProductResponse(
                 product.getId(),
                 product.getName(),
                 product.getPrice(),
-                product.getStock()
+                product.getStock() + shardedStock
         );
     }
 }
@@ -0,0 +1,7 @@
+package com.demo.product.service;
+
+/**
+ * 샤드 선택용 최소 정보. 엔티티로 읽지 않으므로 이후 조건부 UPDATE와 영속성 컨텍스트가 어긋나지 않는다.
+ */
+public record ShardStock(int shardNo, int stock) {
+}
@@ -0,0 +1,7 @@
+package com.demo.product.service;
+
+/**
+ * 상품별 샤드 수와 샤드 재고 합계.
+ */
+public record ShardTotal(Long productId, Long shardCount, Long stock) {
+}
@@ -0,0 +1,134 @@
+package com.demo.product.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.demo.common.cache.CacheInvalidationBus;
+
+/**
+ * 상품별 "마지막으로 커밋된 재고"를 메모리에 기록해 두는 품절 게이트.
+ * 재고가 요청 수량보다 확실히 부족한 주문은 트랜잭션/DB 커넥션 없이 컨트롤러에서 바로 거절한다.
+ *
+ * [정합성 원칙]
+ * - 재고의 최종 판단은 항상 DB(SELECT ... FOR UPDATE)가 한다. 이 게이트는 사전 필터일 뿐이다.
+ * - 잘못 통과시키는 것(false negative)은 DB가 다시 막아주므로 안전하다.
+ * - 잘못 거절하는 것(false positive)은 막아야 하므로,
+ *   재고 감소는 커밋 이후에만 기록하고, 재고 증가는 즉시 + 커밋 이후 두 번 무효화한다.
+ *   커밋 이후 무효화는 CacheInvalidationBus로 발행하고 구독해서 하므로(자기 노드 포함) 다른 노드의 기록도 지운다.
+ * - 커밋 콜백은 순서가 뒤바뀔 수 있으므로 epoch로 "재고 증가 이전에 읽은 값"이 덮어쓰지 못하게 한다.
+ * - 재고 샤드가 있는 상품은 상품 행(풀) 재고가 전체 재고가 아니므로 기록하지 않는다.
+ * - 조건부 UPDATE로 차감한 주문은 잔여 재고를 모르므로 기록하지 않는다. 품절은 상품 행을 잠그고 재고 부족을 확인한 주문이 기록한다.
+ */
+@Component
+public class SoldOutRegistry {
+
+    static final String CHANNEL = "sold-out";
+
+    private static final int UNKNOWN = Integer.MAX_VALUE;
+
+    private final StockShardRegistry stockShardRegistry;
+    private final CacheInvalidationBus invalidationBus;
+    private final ConcurrentHashMap<Long, Watermark> watermarks = new ConcurrentHashMap<>();
+
+    public SoldOutRegistry(StockShardRegistry stockShardRegistry, CacheInvalidationBus invalidationBus) {
+        this.stockShardRegistry = stockShardRegistry;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CHANNEL, productId -> invalidate(productId));
+    }
+
+    /**
+     * 기록된 재고가 요청 수량보다 적으면 true.
+     * 기록이 없거나 재고 증가로 무효화된 상품은 항상 false (DB에 판단을 맡긴다).
+     * 샤딩된 상품도 false다. 샤딩 사실을 알기 전에 남은 풀 재고 기록은 전체 재고가 아니다.
+     */
+    public boolean isObviouslyUnavailable(Long productId, int quantity) {
+        if (stockShardRegistry.isSharded(productId)) {
+            return false;
+        }
+        Watermark watermark = watermarks.get(productId);
+        return watermark != null && watermark.stock() < quantity;
+    }
+
+    public int knownStock(Long productId) {
+        Watermark watermark = watermarks.get(productId);
+        return watermark == null ? UNKNOWN : watermark.stock();
+    }
+
+    /**
+     * 재고 차감 직후(락을 잡은 트랜잭션 안에서) 호출한다.
+     * 현재 epoch를 캡처해 두고, 커밋된 뒤에만 잔여 재고를 기록한다.
+     */
+    public void recordStock(Long productId, int remainingStock) {
+        if (stockShardRegistry.isSharded(productId)) {
+            return;
+        }
+        afterCommit(recordAction(productId, remainingStock));
+    }
+
+    /**
+     * 락을 잡고 읽었지만 변경하지 않은 재고(재고 부족으로 주문이 실패한 경우)를 기록한다.
+     * 이미 커밋된 값을 읽은 것이므로 트랜잭션이 롤백되더라도 기록해도 된다.
+     */
+    public void recordObservedStock(Long productId, int observedStock) {
+        if (stockShardRegistry.isSharded(productId)) {
+            return;
+        }
+        afterCompletion(recordAction(productId, observedStock));
+    }
+
+    /**
+     * 재고가 늘어나는 경로(주문 취소 등)에서 호출한다.
+     * 즉시 무효화하고(롤백되어도 DB로 보낼 뿐이므로 안전), 커밋 이후 모든 노드에 무효화를 발행한다.
+     */
+    public void recordRestock(Long productId) {
+        invalidate(productId);
+        afterCommit(() -> invalidationBus.publish(CHANNEL, productId));
+    }
+
+    private void invalidate(Long productId) {
+        watermarks.compute(productId, (id, watermark) ->
+                new Watermark(watermark == null ? 1L : watermark.epoch() + 1, UNKNOWN));
+    }
+
+    private Runnable recordAction(Long productId, int stock) {
+        Watermark current = watermarks.get(productId);
+        long epoch = current == null ? 0L : current.epoch();
+
+        return () -> watermarks.compute(productId, (id, watermark) -> {
+            long currentEpoch = watermark == null ? 0L : watermark.epoch();
+            return currentEpoch == epoch ? new Watermark(epoch, stock) : watermark;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private record Watermark(long epoch, int stock) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.product.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 샤드를 주기적으로 고르게 맞추는 백그라운드 작업.
+ * 상품마다 트랜잭션을 나눠서 샤드/상품 행 락을 짧게 잡는다.
+ */
+@Component
+public class StockShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(StockShardRebalancer.class);
+
+    private final StockShardService stockShardService;
+    private final StockShardRegistry registry;
+
+    public StockShardRebalancer(StockShardService stockShardService, StockShardRegistry registry) {
+        this.stockShardService = stockShardService;
+        this.registry = registry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRegistry() {
+        stockShardService.refreshRegistry();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stock-shard.rebalance-interval:2s}")
+    public void rebalanceAll() {
+        stockShardService.refreshRegistry();
+        for (Long productId : registry.productIds()) {
+            try {
+                stockShardService.rebalance(productId);
+            } catch (RuntimeException e) {
+                // 한 상품의 실패(락 타임아웃 등)가 다른 상품의 재분배를 막지 않게 한다.
+                log.warn("Stock shard rebalance failed for product {}", productId, e);
+            }
+        }
+    }
+}
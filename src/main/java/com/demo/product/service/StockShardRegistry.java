@@ -0,0 +1,49 @@
+package com.demo.product.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 샤드가 있는 상품과 샤드 수. 주문 경로가 DB를 조회하지 않고 샤딩 여부를 판단하도록 메모리에 둔다.
+ * 재분배 주기마다 DB 기준으로 다시 채우므로, 다른 노드에서 바꾼 설정도 곧 반영된다.
+ *
+ * 샤딩 사실을 모르는 동안에는 상품 행(풀) 재고만으로 주문하므로 초과 판매는 생기지 않는다.
+ */
+@Component
+public class StockShardRegistry {
+
+    private volatile Map<Long, Integer> shardCounts = Map.of();
+
+    public boolean isSharded(Long productId) {
+        return shardCounts.containsKey(productId);
+    }
+
+    public int shardCount(Long productId) {
+        return shardCounts.getOrDefault(productId, 0);
+    }
+
+    public Set<Long> productIds() {
+        return shardCounts.keySet();
+    }
+
+    public boolean isEmpty() {
+        return shardCounts.isEmpty();
+    }
+
+    synchronized void put(Long productId, int shardCount) {
+        Map<Long, Integer> next = new HashMap<>(shardCounts);
+        if (shardCount > 0) {
+            next.put(productId, shardCount);
+        } else {
+            next.remove(productId);
+        }
+        shardCounts = Map.copyOf(next);
+    }
+
+    synchronized void replaceAll(Map<Long, Integer> counts) {
+        shardCounts = Map.copyOf(counts);
+    }
+}
@@ -0,0 +1,264 @@
+package com.demo.product.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.demo.common.exception.ProductNotFoundException;
+import com.demo.product.dto.StockShardResponse;
+import com.demo.product.entity.Product;
+import com.demo.product.entity.ProductStockShard;
+import com.demo.product.repository.ProductRepository;
+import com.demo.product.repository.ProductStockShardRepository;
+
+/**
+ * 인기 상품 재고 샤딩.
+ * 상품 행 하나(products.stock)는 락을 어떻게 잡든 한 줄로 직렬화된다. 샤딩한 상품은 재고 대부분을
+ * N개의 샤드 행으로 나누고, 주문은 샤드 한 행만 조건부 UPDATE로 차감한다 → 처리량이 샤드 수에 비례한다.
+ *
+ * [재고] 판매 가능 재고 = 풀(상품 행의 stock - reserved_stock) + 샤드 합계.
+ *   풀은 장바구니 주문/예약과 샤드 한 곳으로는 모자란 단건 주문이 쓰고, 샤드는 단건 주문만 쓴다.
+ *   풀보다 많이 필요하면 샤드에서 모자란 만큼 풀로 옮겨 온다 (lockShards → refillPool).
+ *   조회가 보여 주는 재고(풀 + 샤드)는 어느 경로로든 팔 수 있다.
+ * [샤드 선택] 사용자 id 해시로 시작 샤드를 정하고, 재고가 충분해 보이는 샤드를 오름차순으로 시도한다.
+ * [재분배] StockShardRebalancer가 주기적으로 샤드를 고르게 맞추고, 풀에 일부(POOL_SHARE)를 남긴다.
+ *   합계가 샤드당 TAIL_PER_SHARD 이하로 줄면 전부 풀로 모은다 → 판매 막바지는 한 행에서 정확히 처리한다.
+ *
+ * [락 순서] 샤드(shard_no 오름차순) → 상품 행. 모든 경로가 이 순서를 지킨다.
+ * - 주문: 샤드 차감 후 주문 INSERT (FK 검사로 상품 행에 공유 락). 실패하면 샤드 전체 → 상품 행을 잠그고 풀로 모아 온다.
+ * - 재분배/샤드 수 변경: 샤드 전체를 잠근 뒤 상품 행을 잠근다.
+ * - 장바구니/예약: 샤딩된 상품의 샤드를 (상품 id, shard_no) 오름차순으로 모두 잠근 뒤 상품 행을 잠근다.
+ *   샤딩하지 않은 상품은 샤드를 조회하지 않는다.
+ * - 취소는 상품 행만 잠그고 샤드는 건드리지 않는다.
+ */
+@Service
+@Transactional
+public class StockShardService {
+
+    static final int TAIL_PER_SHARD = 5;
+    static final int POOL_SHARE = 10;
+
+    private final ProductStockShardRepository shardRepository;
+    private final ProductRepository productRepository;
+    private final StockShardRegistry registry;
+
+    public StockShardService(ProductStockShardRepository shardRepository, ProductRepository productRepository,
+                             StockShardRegistry registry) {
+        this.shardRepository = shardRepository;
+        this.productRepository = productRepository;
+        this.registry = registry;
+    }
+
+    /**
+     * 메모리 레지스트리만 본다 (DB를 조회하지 않는다).
+     */
+    public boolean isSharded(Long productId) {
+        return registry.isSharded(productId);
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 샤드 하나의 재고를 차감한다. 샤딩하지 않은 상품이면 DB를 조회하지 않고 false.
+     *
+     * @return 차감했으면 true. false면 호출자는 상품 행(풀) 경로로 처리한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryTake(Long productId, Long userId, int quantity) {
+        int shardCount = registry.shardCount(productId);
+        if (shardCount == 0) {
+            return false;
+        }
+        List<Integer> candidates = new ArrayList<>();
+        for (ShardStock shard : shardRepository.findShardStocks(productId)) {
+            if (shard.stock() >= quantity) {
+                candidates.add(shard.shardNo());
+            }
+        }
+        // 오름차순으로만 시도한다 (실패한 UPDATE도 행 락을 남길 수 있으므로 락 순서를 지킨다).
+        int start = Math.floorMod(Long.hashCode(userId) * 0x9E3779B9, shardCount);
+        List<Integer> attempts = candidates.stream().filter(shardNo -> shardNo >= start).toList();
+        if (attempts.isEmpty()) {
+            attempts = candidates;
+        }
+        for (int shardNo : attempts) {
+            if (shardRepository.tryDecrease(productId, shardNo, quantity) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 풀만 쓰는 경로(장바구니/예약)가 상품 행을 잠그기 전에 호출한다.
+     * 샤딩된 상품의 샤드를 상품 id, shard_no 오름차순으로 잠가 둔다. 샤딩하지 않은 상품은 조회하지 않는다.
+     *
+     * @return 상품 id → 잠근 샤드. 샤딩한 상품만 들어 있다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<Long, List<ProductStockShard>> lockShards(Collection<Long> productIds) {
+        Map<Long, List<ProductStockShard>> locked = new HashMap<>();
+        for (Long productId : new TreeSet<>(productIds)) {
+            if (registry.isSharded(productId)) {
+                locked.put(productId, shardRepository.findAllByProductIdWithPessimisticLock(productId));
+            }
+        }
+        return locked;
+    }
+
+    /**
+     * 풀(상품 행)이 quantity보다 모자라면 잠가 둔 샤드에서 모자란 만큼 풀로 옮긴다. 합계는 바뀌지 않는다.
+     * lockShards로 샤드를, 그다음 상품 행을 잠근 상태에서 호출한다. 샤드를 다 옮겨도 모자라면 호출자가 재고 부족으로 처리한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refillPool(Product product, List<ProductStockShard> lockedShards, int quantity) {
+        int missing = quantity - product.getStock();
+        int moved = 0;
+        for (ProductStockShard shard : lockedShards) {
+            if (moved >= missing) {
+                break;
+            }
+            int take = Math.min(shard.getStock(), missing - moved);
+            shard.setStock(shard.getStock() - take);
+            moved += take;
+        }
+        if (moved > 0) {
+            product.increaseStock(moved);
+        }
+    }
+
+    /**
+     * 샤드에 있는 재고 합계. 샤딩하지 않은 상품이면 조회하지 않고 0.
+     */
+    @Transactional(readOnly = true)
+    public int shardedStock(Long productId) {
+        return registry.isSharded(productId) ? shardRepository.sumStock(productId) : 0;
+    }
+
+    /**
+     * 샤딩된 상품 전체의 샤드 재고 합계. 샤딩된 상품이 없으면 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> shardedStocks() {
+        if (registry.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (ShardTotal total : shardRepository.findTotals()) {
+            stocks.put(total.productId(), total.stock().intValue());
+        }
+        return stocks;
+    }
+
+    @Transactional(readOnly = true)
+    public StockShardResponse getShards(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+        List<Integer> shardStocks = shardRepository.findShardStocks(productId).stream()
+                .map(ShardStock::stock)
+                .toList();
+        return toResponse(product, shardStocks);
+    }
+
+    /**
+     * 샤드 수를 바꾼다. 기존 샤드 재고를 풀로 모은 뒤 새 샤드 수로 다시 나눈다. 0이면 샤딩을 해제한다.
+     */
+    public StockShardResponse configure(Long productId, int shardCount) {
+        List<ProductStockShard> shards = shardRepository.findAllByProductIdWithPessimisticLock(productId);
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        int drained = 0;
+        for (ProductStockShard shard : shards) {
+            drained += shard.getStock();
+            shard.setStock(0);
+        }
+        product.increaseStock(drained);
+
+        List<ProductStockShard> removed = shards.stream().filter(shard -> shard.getShardNo() >= shardCount).toList();
+        shardRepository.deleteAll(removed);
+        List<ProductStockShard> kept = new ArrayList<>(shards.stream()
+                .filter(shard -> shard.getShardNo() < shardCount)
+                .toList());
+        for (int shardNo = kept.size(); shardNo < shardCount; shardNo++) {
+            kept.add(shardRepository.save(new ProductStockShard(productId, shardNo)));
+        }
+        distribute(product, kept);
+
+        afterCommit(() -> registry.put(productId, shardCount));
+        return toResponse(product, kept.stream().map(ProductStockShard::getStock).toList());
+    }
+
+    /**
+     * 샤드 재고를 고르게 맞추고 풀에 일부를 남긴다. 합계는 바뀌지 않는다.
+     */
+    public void rebalance(Long productId) {
+        List<ProductStockShard> shards = shardRepository.findAllByProductIdWithPessimisticLock(productId);
+        if (shards.isEmpty()) {
+            return;
+        }
+        productRepository.findByIdWithPessimisticLock(productId)
+                .ifPresent(product -> distribute(product, shards));
+    }
+
+    /**
+     * DB 기준으로 샤딩된 상품 목록을 다시 읽는다. replica 지연을 피하려고 쓰기 트랜잭션(primary)으로 읽는다.
+     */
+    public void refreshRegistry() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (ShardTotal total : shardRepository.findTotals()) {
+            counts.put(total.productId(), total.shardCount().intValue());
+        }
+        registry.replaceAll(counts);
+    }
+
+    /**
+     * 풀 + 샤드 합계를 다시 나눈다. 샤드와 상품 행을 모두 잠근 상태에서 호출한다.
+     */
+    private static void distribute(Product product, List<ProductStockShard> shards) {
+        int pool = product.getStock();
+        int total = pool;
+        for (ProductStockShard shard : shards) {
+            total += shard.getStock();
+        }
+        int shardCount = shards.size();
+        int poolTarget = shardCount == 0 || total <= shardCount * TAIL_PER_SHARD ? total : total / POOL_SHARE;
+        int perShard = shardCount == 0 ? 0 : (total - poolTarget) / shardCount;
+        int remainder = shardCount == 0 ? 0 : (total - poolTarget) % shardCount;
+        for (int i = 0; i < shardCount; i++) {
+            shards.get(i).setStock(perShard + (i < remainder ? 1 : 0));
+        }
+
+        int delta = poolTarget - pool;
+        if (delta > 0) {
+            product.increaseStock(delta);
+        } else if (delta < 0) {
+            product.decreaseStock(-delta);
+        }
+    }
+
+    private static StockShardResponse toResponse(Product product, List<Integer> shardStocks) {
+        int shardTotal = shardStocks.stream().mapToInt(Integer::intValue).sum();
+        return new StockShardResponse(product.getId(), product.getStock() + shardTotal, product.getStock(), shardStocks);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
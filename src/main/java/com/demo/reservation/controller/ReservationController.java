@@ -0,0 +1,88 @@
+package com.demo.reservation.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.demo.common.web.RequestPriority;
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.reservation.dto.ConfirmReservationRequest;
+import com.demo.reservation.dto.CreateReservationRequest;
+import com.demo.reservation.dto.ReservationResponse;
+import com.demo.reservation.service.ReservationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/reservations")
+@Tag(name = "Reservation", description = "재고 예약(홀드) API")
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    public ReservationController(ReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @RequestPriority(RequestPriority.Level.CRITICAL)
+    @Operation(summary = "재고 예약", description = "결제 전에 재고를 일정 시간 동안 홀드합니다. 만료되면 자동으로 재고가 복구됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "예약 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터 또는 재고 부족"),
+            @ApiResponse(responseCode = "404", description = "사용자 또는 상품을 찾을 수 없음")
+    })
+    public ReservationResponse reserve(@Valid @RequestBody CreateReservationRequest request) {
+        return reservationService.reserve(request);
+    }
+
+    @GetMapping("/{reservationId}")
+    @Operation(summary = "예약 조회", description = "예약 상태와 만료 시각을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
+    })
+    public ReservationResponse getReservation(
+            @Parameter(description = "조회할 예약 ID", required = true) @PathVariable Long reservationId) {
+        return reservationService.getReservation(reservationId);
+    }
+
+    @PostMapping("/{reservationId}/confirm")
+    @ResponseStatus(HttpStatus.CREATED)
+    @RequestPriority(RequestPriority.Level.CRITICAL)
+    @Operation(summary = "예약 확정", description = "결제가 완료된 예약을 주문으로 전환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "주문 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "만료되었거나 이미 처리된 예약"),
+            @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
+    })
+    public CreateOrderResponse confirm(
+            @Parameter(description = "확정할 예약 ID", required = true) @PathVariable Long reservationId,
+            @Valid @RequestBody ConfirmReservationRequest request
+    ) {
+        return reservationService.confirm(reservationId, request);
+    }
+
+    @PostMapping("/{reservationId}/release")
+    @Operation(summary = "예약 취소", description = "예약을 취소하고 홀드한 재고를 즉시 돌려놓습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "취소 성공"),
+            @ApiResponse(responseCode = "400", description = "이미 처리된 예약"),
+            @ApiResponse(responseCode = "404", description = "예약을 찾을 수 없음")
+    })
+    public ReservationResponse release(
+            @Parameter(description = "취소할 예약 ID", required = true) @PathVariable Long reservationId) {
+        return reservationService.release(reservationId);
+    }
+}
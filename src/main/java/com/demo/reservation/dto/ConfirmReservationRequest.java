@@ -0,0 +1,10 @@
+package com.demo.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "예약 확정(결제 완료) 요청")
+public record ConfirmReservationRequest(
+        @Schema(description = "배송 주소", example = "서울특별시 강남구 테헤란로 123") @NotBlank String shippingAddress
+) {
+}
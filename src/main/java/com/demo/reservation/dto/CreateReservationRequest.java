@@ -0,0 +1,13 @@
+package com.demo.reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "재고 예약(홀드) 요청")
+public record CreateReservationRequest(
+        @Schema(description = "예약자 사용자 ID", example = "1") @NotNull Long userId,
+        @Schema(description = "예약할 상품 ID", example = "1") @NotNull Long productId,
+        @Schema(description = "예약 수량 (최소 1)", example = "2") @Min(1) int quantity
+) {
+}
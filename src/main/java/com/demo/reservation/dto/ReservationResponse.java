@@ -0,0 +1,17 @@
+package com.demo.reservation.dto;
+
+import java.time.LocalDateTime;
+
+import com.demo.reservation.entity.ReservationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "재고 예약 응답")
+public record ReservationResponse(
+        @Schema(description = "예약 ID", example = "1") Long reservationId,
+        @Schema(description = "사용자 ID", example = "1") Long userId,
+        @Schema(description = "상품 ID", example = "1") Long productId,
+        @Schema(description = "예약 수량", example = "2") int quantity,
+        @Schema(description = "예약 상태") ReservationStatus status,
+        @Schema(description = "예약 만료 일시") LocalDateTime expiresAt
+) {
+}
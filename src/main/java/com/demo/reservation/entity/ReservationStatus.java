@@ -0,0 +1,8 @@
+package com.demo.reservation.entity;
+
+public enum ReservationStatus {
+    ACTIVE,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
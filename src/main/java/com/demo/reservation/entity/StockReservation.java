@@ -0,0 +1,101 @@
+package com.demo.reservation.entity;
+
+import java.time.LocalDateTime;
+
+import com.demo.product.entity.Product;
+import com.demo.user.entity.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * 결제 전 재고 홀드(예약).
+ * ACTIVE 동안은 상품의 reservedStock에 잡혀 판매 가능 재고에서 제외되고,
+ * 확정(CONFIRMED)되면 주문이 생성되며, 해제(RELEASED)/만료(EXPIRED)되면 재고로 돌아간다.
+ */
+@Entity
+@Table(name = "stock_reservations")
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime reservedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    protected StockReservation() {
+    }
+
+    public StockReservation(User user, Product product, int quantity, LocalDateTime expiresAt) {
+        this.user = user;
+        this.product = product;
+        this.quantity = quantity;
+        this.status = ReservationStatus.ACTIVE;
+        this.reservedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getReservedAt() {
+        return reservedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isActiveAt(LocalDateTime now) {
+        return status == ReservationStatus.ACTIVE && expiresAt.isAfter(now);
+    }
+
+    public void changeStatus(ReservationStatus status) {
+        this.status = status;
+    }
+}
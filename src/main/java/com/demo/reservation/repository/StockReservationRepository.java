@@ -0,0 +1,59 @@
+package com.demo.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.demo.reservation.entity.ReservationStatus;
+import com.demo.reservation.entity.StockReservation;
+import com.demo.reservation.service.ReservationExpiry;
+
+import jakarta.persistence.LockModeType;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 확정/해제 시 예약 row를 잠가서, 만료 스위퍼와 동시에 같은 예약을 처리하지 못하게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.id = :id")
+    Optional<StockReservation> findByIdWithPessimisticLock(@Param("id") Long id);
+
+    /**
+     * 만료 후보 중 아직 ACTIVE인 예약만 id 오름차순으로 잠근다.
+     * (확정/해제와 경합해도 한쪽만 상태를 바꿀 수 있다.)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.id IN :ids AND r.status = :status AND r.expiresAt <= :now ORDER BY r.id")
+    List<StockReservation> findAllDueWithPessimisticLock(@Param("ids") Collection<Long> ids,
+                                                         @Param("status") ReservationStatus status,
+                                                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :status WHERE r.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    /**
+     * 만료 시각이 지난 ACTIVE 예약 id를 만료 시각 순으로 읽는다. (status, expires_at) 인덱스 범위만 읽는다.
+     * 다른 노드가 만든 예약처럼 이 노드의 만료 인덱스에 없는 예약을 스위퍼가 찾는 데 쓴다.
+     */
+    @Query("SELECT r.id FROM StockReservation r WHERE r.status = :status AND r.expiresAt <= :now "
+            + "ORDER BY r.expiresAt, r.id")
+    List<Long> findDueIds(@Param("status") ReservationStatus status, @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 기동 시 만료 인덱스를 복구하기 위해 ACTIVE 예약의 (id, 만료 시각)만 읽는다.
+     */
+    @Query("SELECT new com.demo.reservation.service.ReservationExpiry(r.id, r.expiresAt) "
+            + "FROM StockReservation r WHERE r.status = :status")
+    List<ReservationExpiry> findExpiries(@Param("status") ReservationStatus status);
+}
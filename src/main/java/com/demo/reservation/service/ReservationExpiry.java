@@ -0,0 +1,15 @@
+package com.demo.reservation.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 인덱스에 올라가는 최소 정보. 예약 100만 건이어도 (id, 만료 시각)만 메모리에 둔다.
+ */
+public record ReservationExpiry(Long reservationId, LocalDateTime expiresAt) implements Comparable<ReservationExpiry> {
+
+    @Override
+    public int compareTo(ReservationExpiry other) {
+        int byTime = expiresAt.compareTo(other.expiresAt);
+        return byTime != 0 ? byTime : reservationId.compareTo(other.reservationId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.demo.reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.demo.reservation.entity.ReservationStatus;
+import com.demo.reservation.repository.StockReservationRepository;
+
+/**
+ * 만료 시각 순으로 정렬된 인메모리 예약 만료 인덱스 (min-heap).
+ * 스위퍼는 DB를 스캔하지 않고 힙의 앞부분에서 만료된 항목만 꺼낸다.
+ *
+ * - 확정/해제된 예약은 힙에서 지우지 않는다(지연 삭제). 스위퍼가 DB에서 ACTIVE 여부를 다시 확인한다.
+ * - 롤백된 예약이 들어와 있어도 DB에 없으므로 무시된다.
+ * - 기동 시 DB의 ACTIVE 예약으로 다시 채운다.
+ */
+@Component
+public class ReservationExpiryIndex {
+
+    private final PriorityBlockingQueue<ReservationExpiry> queue = new PriorityBlockingQueue<>();
+    private final StockReservationRepository reservationRepository;
+
+    public ReservationExpiryIndex(StockReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        queue.clear();
+        queue.addAll(reservationRepository.findExpiries(ReservationStatus.ACTIVE));
+    }
+
+    public void add(ReservationExpiry expiry) {
+        queue.add(expiry);
+    }
+
+    /**
+     * now 시점까지 만료된 항목을 최대 maxSize개 꺼낸다.
+     */
+    public List<ReservationExpiry> pollDue(LocalDateTime now, int maxSize) {
+        List<ReservationExpiry> due = new ArrayList<>();
+        while (due.size() < maxSize) {
+            ReservationExpiry head = queue.peek();
+            if (head == null || head.expiresAt().isAfter(now)) {
+                break;
+            }
+            ReservationExpiry polled = queue.poll();
+            if (polled == null) {
+                break;
+            }
+            if (polled.expiresAt().isAfter(now)) {
+                // peek 이후 다른 스레드가 더 이른 항목을 가져갔다면 되돌려 놓는다.
+                queue.add(polled);
+                break;
+            }
+            due.add(polled);
+        }
+        return due;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,223 @@
+package com.demo.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.common.exception.ProductNotFoundException;
+import com.demo.common.exception.ReservationNotFoundException;
+import com.demo.common.exception.UserNotFoundException;
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.entity.Order;
+import com.demo.order.event.OrderChangedEvent;
+import com.demo.order.repository.OrderRepository;
+import com.demo.order.service.OrderStatusJournal;
+import com.demo.order.service.TopSellerBoard;
+import com.demo.product.entity.Product;
+import com.demo.product.entity.ProductStockShard;
+import com.demo.product.event.ProductChangedEvent;
+import com.demo.product.repository.ProductRepository;
+import com.demo.product.service.SoldOutRegistry;
+import com.demo.product.service.StockShardService;
+import com.demo.reservation.dto.ConfirmReservationRequest;
+import com.demo.reservation.dto.CreateReservationRequest;
+import com.demo.reservation.dto.ReservationResponse;
+import com.demo.reservation.entity.ReservationStatus;
+import com.demo.reservation.entity.StockReservation;
+import com.demo.reservation.repository.StockReservationRepository;
+import com.demo.user.entity.User;
+import com.demo.user.repository.UserRepository;
+
+@Service
+@Transactional
+public class ReservationService {
+
+    static final Duration HOLD_DURATION = Duration.ofMinutes(10);
+
+    private final StockReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final ReservationExpiryIndex expiryIndex;
+    private final SoldOutRegistry soldOutRegistry;
+    private final StockShardService stockShardService;
+    private final TopSellerBoard topSellerBoard;
+    private final OrderStatusJournal orderStatusJournal;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReservationService(StockReservationRepository reservationRepository, UserRepository userRepository,
+                              ProductRepository productRepository, OrderRepository orderRepository,
+                              ReservationExpiryIndex expiryIndex, SoldOutRegistry soldOutRegistry,
+                              StockShardService stockShardService, TopSellerBoard topSellerBoard, OrderStatusJournal orderStatusJournal,
+                              ApplicationEventPublisher eventPublisher) {
+        this.reservationRepository = reservationRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.expiryIndex = expiryIndex;
+        this.soldOutRegistry = soldOutRegistry;
+        this.stockShardService = stockShardService;
+        this.topSellerBoard = topSellerBoard;
+        this.orderStatusJournal = orderStatusJournal;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 재고를 즉시 홀드한다. 주문(Order)은 만들지 않고 상품의 reservedStock만 늘린다.
+     */
+    public ReservationResponse reserve(CreateReservationRequest request) {
+        User user = userRepository.findById(request.userId())
+                .orElseThrow(() -> new UserNotFoundException(request.userId()));
+
+        // 재고 샤드가 있는 상품은 풀이 모자랄 때 샤드에서 옮겨 올 수 있도록 샤드를 먼저 잠근다 (락 순서: 샤드 → 상품).
+        List<ProductStockShard> shards = stockShardService.lockShards(List.of(request.productId()))
+                .getOrDefault(request.productId(), List.of());
+        Product product = productRepository.findByIdWithPessimisticLock(request.productId())
+                .orElseThrow(() -> new ProductNotFoundException(request.productId()));
+
+        stockShardService.refillPool(product, shards, request.quantity());
+        if (product.getStock() < request.quantity()) {
+            soldOutRegistry.recordObservedStock(product.getId(), product.getStock());
+            throw new InsufficientStockException(product.getName(), product.getStock());
+        }
+
+        product.reserve(request.quantity());
+        soldOutRegistry.recordStock(product.getId(), product.getStock());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        StockReservation reservation = reservationRepository.save(new StockReservation(
+                user,
+                product,
+                request.quantity(),
+                LocalDateTime.now().plus(HOLD_DURATION)
+        ));
+
+        // 롤백되더라도 스위퍼가 DB에서 ACTIVE 여부를 확인하므로 커밋을 기다리지 않고 바로 등록한다.
+        expiryIndex.add(new ReservationExpiry(reservation.getId(), reservation.getExpiresAt()));
+
+        return toResponse(reservation);
+    }
+
+    /**
+     * 결제 완료: 예약을 주문으로 전환한다.
+     */
+    public CreateOrderResponse confirm(Long reservationId, ConfirmReservationRequest request) {
+        StockReservation reservation = reservationRepository.findByIdWithPessimisticLock(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+
+        if (!reservation.isActiveAt(LocalDateTime.now())) {
+            throw new IllegalStateException(
+                    "예약 확정은 만료 전 ACTIVE 상태에서만 가능합니다. 현재 상태: " + reservation.getStatus()
+            );
+        }
+
+        Product product = productRepository.findByIdWithPessimisticLock(reservation.getProduct().getId())
+                .orElseThrow(() -> new ProductNotFoundException(reservation.getProduct().getId()));
+
+        product.confirmReservation(reservation.getQuantity());
+        reservation.changeStatus(ReservationStatus.CONFIRMED);
+
+        Order order = orderRepository.save(new Order(
+                reservation.getUser(),
+                product,
+                reservation.getQuantity(),
+                request.shippingAddress()
+        ));
+        topSellerBoard.recordSalesChanged(product.getId());
+        orderStatusJournal.record(order.getId(), order.getDeliveryStatus(), order.getOrderedAt());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+        eventPublisher.publishEvent(new OrderChangedEvent(order.getId(), reservation.getUser().getId()));
+
+        return new CreateOrderResponse(
+                order.getId(),
+                reservation.getUser().getId(),
+                order.getProductName(),
+                order.getQuantity(),
+                order.getShippingAddress(),
+                order.getDeliveryStatus(),
+                order.getOrderedAt()
+        );
+    }
+
+    /**
+     * 사용자가 직접 예약을 취소한다.
+     */
+    public ReservationResponse release(Long reservationId) {
+        StockReservation reservation = reservationRepository.findByIdWithPessimisticLock(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+
+        if (reservation.getStatus() != ReservationStatus.ACTIVE) {
+            throw new IllegalStateException(
+                    "예약 취소는 ACTIVE 상태에서만 가능합니다. 현재 상태: " + reservation.getStatus()
+            );
+        }
+
+        Product product = productRepository.findByIdWithPessimisticLock(reservation.getProduct().getId())
+                .orElseThrow(() -> new ProductNotFoundException(reservation.getProduct().getId()));
+
+        product.releaseReservation(reservation.getQuantity());
+        reservation.changeStatus(ReservationStatus.RELEASED);
+        soldOutRegistry.recordRestock(product.getId());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return toResponse(reservation);
+    }
+
+    /**
+     * 만료 인덱스에서 꺼낸 예약들을 한 트랜잭션에서 일괄 만료시킨다.
+     * 예약 상태는 UPDATE ... WHERE id IN (...) 한 번으로, 상품 재고는 상품당 UPDATE 한 번으로 되돌린다.
+     *
+     * @return 실제로 만료 처리된 예약 수
+     */
+    public int expire(Collection<Long> reservationIds, LocalDateTime now) {
+        List<StockReservation> due = reservationRepository.findAllDueWithPessimisticLock(
+                reservationIds, ReservationStatus.ACTIVE, now
+        );
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 상품 id 오름차순으로 갱신해 다른 스위퍼/주문과 락 순서를 맞춘다.
+        Map<Long, Integer> releasedByProduct = new TreeMap<>();
+        for (StockReservation reservation : due) {
+            releasedByProduct.merge(reservation.getProduct().getId(), reservation.getQuantity(), Integer::sum);
+        }
+        List<Long> dueIds = due.stream().map(StockReservation::getId).toList();
+
+        reservationRepository.updateStatus(dueIds, ReservationStatus.EXPIRED);
+        releasedByProduct.forEach((productId, quantity) -> {
+            productRepository.releaseReservedStock(productId, quantity);
+            soldOutRegistry.recordRestock(productId);
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
+        });
+
+        return dueIds.size();
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationResponse getReservation(Long reservationId) {
+        StockReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+
+        return toResponse(reservation);
+    }
+
+    private ReservationResponse toResponse(StockReservation reservation) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getUser().getId(),
+                reservation.getProduct().getId(),
+                reservation.getQuantity(),
+                reservation.getStatus(),
+                reservation.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.demo.reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.demo.reservation.entity.ReservationStatus;
+import com.demo.reservation.repository.StockReservationRepository;
+
+/**
+ * 만료된 예약을 주기적으로 재고로 되돌리는 백그라운드 스위퍼.
+ * 만료 인덱스에서 BATCH_SIZE개씩 꺼내 배치 UPDATE로 처리한다.
+ *
+ * 만료 인덱스는 이 노드가 만든 예약(과 기동 시 읽은 예약)만 안다. 예약을 만든 노드가 내려가면
+ * 그 예약은 어느 인덱스에도 없으므로, 인덱스 처리 뒤 매 주기 DB에서도 만료된 ACTIVE 예약을 찾아 처리한다.
+ * 인덱스가 빠른 경로이고, DB 조회는 (status, expires_at) 인덱스 범위라 남은 것이 없으면 빈 결과로 끝난다.
+ */
+@Component
+public class ReservationSweeper {
+
+    static final int BATCH_SIZE = 500;
+
+    private final ReservationExpiryIndex expiryIndex;
+    private final ReservationService reservationService;
+    private final StockReservationRepository reservationRepository;
+
+    public ReservationSweeper(ReservationExpiryIndex expiryIndex, ReservationService reservationService,
+                              StockReservationRepository reservationRepository) {
+        this.expiryIndex = expiryIndex;
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void sweepExpired() {
+        sweepExpired(LocalDateTime.now());
+    }
+
+    /**
+     * @return 만료 처리된 예약 수
+     */
+    public int sweepExpired(LocalDateTime now) {
+        int expired = 0;
+        List<ReservationExpiry> due = expiryIndex.pollDue(now, BATCH_SIZE);
+        while (!due.isEmpty()) {
+            try {
+                expired += reservationService.expire(
+                        due.stream().map(ReservationExpiry::reservationId).toList(), now
+                );
+            } catch (RuntimeException e) {
+                // 실패한 배치는 인덱스에 되돌려 다음 주기에 다시 시도한다.
+                due.forEach(expiryIndex::add);
+                throw e;
+            }
+            due = expiryIndex.pollDue(now, BATCH_SIZE);
+        }
+        return expired + sweepUnindexed(now);
+    }
+
+    private int sweepUnindexed(LocalDateTime now) {
+        int expired = 0;
+        while (true) {
+            List<Long> dueIds = reservationRepository.findDueIds(
+                    ReservationStatus.ACTIVE, now, PageRequest.of(0, BATCH_SIZE));
+            if (dueIds.isEmpty()) {
+                return expired;
+            }
+            int batch = reservationService.expire(dueIds, now);
+            expired += batch;
+            // 한 건도 못 바꿨다면(동시에 확정/해제됨) 같은 id를 다시 읽지 않도록 다음 주기로 넘긴다.
+            if (batch == 0 || dueIds.size() < BATCH_SIZE) {
+                return expired;
+            }
+        }
+    }
+}
@@ -1,30 +1,40 @@
 package com.demo.user.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.demo.common.exception.UnauthorizedException;
+import com.demo.common.web.RequestPriority;
 import com.demo.user.dto.CreateAdminRequest;
 import com.demo.user.dto.CreateUserRequest;
 import com.demo.user.dto.CreateUserResponse;
 import com.demo.user.dto.LoginRequest;
 import com.demo.user.dto.LoginResponse;
+import com.demo.user.dto.UserOrdersPageResponse;
 import com.demo.user.dto.UserOrdersResponse;
+import com.demo.order.dto.OrderCursor;
 import com.demo.order.dto.UserDeliveryStatusResponse;
 import com.demo.user.entity.Role;
 import com.demo.user.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -91,29 +101,48 @@ public class UserController {
     @GetMapping("/{userId}/orders")
     @Operation(summary = "사용자 주문 목록 조회", description = "특정 사용자의 주문 목록을 조회합니다. 본인 또는 관리자만 접근 가능합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = UserOrdersResponse.class))),
             @ApiResponse(responseCode = "401", description = "로그인이 필요합니다"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
-    public UserOrdersResponse getUserOrders(
+    public ResponseEntity<byte[]> getUserOrders(
             @Parameter(description = "조회할 사용자 ID", required = true) @PathVariable Long userId,
             HttpSession session) {
-        Long sessionUserId = (Long) session.getAttribute("userId");
-        Role sessionRole = (Role) session.getAttribute("role");
+        checkOwnerOrAdmin(userId, session);
 
-        if (sessionUserId == null) {
-            throw new UnauthorizedException();
-        }
+        // 캐시된 JSON 바이트를 그대로 쓴다.
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(userService.getUserOrdersJson(userId));
+    }
 
-        if (!sessionUserId.equals(userId) && sessionRole != Role.ROLE_ADMIN) {
-            throw new UnauthorizedException("본인의 주문만 조회할 수 있습니다.");
-        }
+    @GetMapping("/{userId}/orders/page")
+    @Operation(summary = "사용자 주문 목록 페이지 조회", description = "커서 기반으로 주문 목록을 최신순으로 나눠 조회합니다. 오래된 주문은 아카이브에서 이어서 조회됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요합니다"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
+    })
+    public UserOrdersPageResponse getUserOrderPage(
+            @Parameter(description = "조회할 사용자 ID", required = true) @PathVariable Long userId,
+            @Parameter(description = "이전 페이지 nextCursor의 주문 일시") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorOrderedAt,
+            @Parameter(description = "이전 페이지 nextCursor의 주문 ID") @RequestParam(required = false) Long cursorOrderId,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        checkOwnerOrAdmin(userId, session);
 
-        return userService.getUserOrders(userId);
+        OrderCursor cursor = cursorOrderedAt != null && cursorOrderId != null
+                ? new OrderCursor(cursorOrderedAt, cursorOrderId)
+                : null;
+        return userService.getUserOrderPage(userId, cursor, Math.clamp(size, 1, 100));
     }
 
     @GetMapping("/admin/deliveries")
+    @RequestPriority(RequestPriority.Level.LOW)
     @Operation(summary = "전체 사용자 배송 상태 조회 (관리자 전용)", description = "모든 사용자의 배송 상태를 조회합니다. 관리자만 접근 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -134,4 +163,17 @@ public class UserController {
 
         return userService.getAllUsersDeliveryStatus();
     }
+
+    private void checkOwnerOrAdmin(Long userId, HttpSession session) {
+        Long sessionUserId = (Long) session.getAttribute("userId");
+        Role sessionRole = (Role) session.getAttribute("role");
+
+        if (sessionUserId == null) {
+            throw new UnauthorizedException();
+        }
+
+        if (!sessionUserId.equals(userId) && sessionRole != Role.ROLE_ADMIN) {
+            throw new UnauthorizedException("본인의 주문만 조회할 수 있습니다.");
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.demo.user.dto;
+
+import java.util.List;
+
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.dto.OrderCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "사용자 주문 목록 페이지 응답")
+public record UserOrdersPageResponse(
+        @Schema(description = "사용자 ID", example = "1") Long userId,
+        @Schema(description = "사용자 이름", example = "홍길동") String userName,
+        @Schema(description = "주문 목록 (최신순)") List<CreateOrderResponse> orders,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지이면 null)") OrderCursor nextCursor
+) {
+}
@@ -0,0 +1,144 @@
+package com.demo.user.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.order.event.OrderChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자별 전체 주문 목록 응답(UserOrdersResponse)을 직렬화된 JSON 바이트로 보관하는 캐시.
+ * 적중하면 DB 조회와 직렬화 없이 바이트를 그대로 응답에 쓴다.
+ *
+ * - 주문이 생성/상태 변경/취소되면 커밋 이후 OrderChangedEvent의 userId로 해당 사용자 항목만 지운다.
+ *   무효화는 CacheInvalidationBus를 거치므로 다른 노드도 같은 메시지로 지울 수 있다.
+ * - 적재 전에 읽은 세대(generation)가 적재 후에도 같을 때만 넣는다.
+ *   조회 도중 커밋된 변경이 있으면 오래된 결과를 캐시에 남기지 않는다.
+ * - 전체 바이트 합계가 max-bytes를 넘으면 가장 오래 안 쓴 항목부터 내보낸다.
+ *   한 항목이 상한의 1/16보다 크면(주문이 아주 많은 사용자) 캐시하지 않는다.
+ */
+@Component
+public class UserOrdersCache {
+
+    static final String CHANNEL = "user-orders";
+
+    private static final int STRIPES = 1 << 12;
+
+    private final CacheInvalidationBus invalidationBus;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final LinkedHashMap<Long, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long totalBytes;
+
+    public UserOrdersCache(CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry,
+                           @Value("${app.user-orders-cache.max-bytes:64MB}") DataSize maxBytes) {
+        this.invalidationBus = invalidationBus;
+        this.maxBytes = maxBytes.toBytes();
+        this.maxEntryBytes = this.maxBytes / 16;
+        this.hits = meterRegistry.counter("cache.gets", "cache", CHANNEL, "result", "hit");
+        this.misses = meterRegistry.counter("cache.gets", "cache", CHANNEL, "result", "miss");
+        Gauge.builder("cache.size.bytes", this, UserOrdersCache::totalBytes)
+                .tag("cache", CHANNEL)
+                .register(meterRegistry);
+        invalidationBus.subscribe(CHANNEL, this::evict);
+    }
+
+    /**
+     * 캐시된 JSON을 반환하고, 없으면 loader로 만들어 넣는다. loader의 예외는 그대로 전파되고 캐시하지 않는다.
+     */
+    public byte[] get(Long userId, Supplier<byte[]> loader) {
+        byte[] cached = lookup(userId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long generation = generations.get(stripe(userId));
+        byte[] loaded = loader.get();
+        if (loaded.length <= maxEntryBytes) {
+            put(userId, loaded, generation);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        invalidationBus.publish(CHANNEL, event.userId());
+    }
+
+    void evict(long userId) {
+        // 세대를 먼저 올린다. 이미 조회를 시작한 요청은 put에서 걸러진다.
+        generations.incrementAndGet(stripe(userId));
+        lock.lock();
+        try {
+            byte[] removed = entries.remove(userId);
+            if (removed != null) {
+                totalBytes -= removed.length;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long totalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] lookup(Long userId) {
+        lock.lock();
+        try {
+            return entries.get(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Long userId, byte[] json, long generation) {
+        lock.lock();
+        try {
+            if (generations.get(stripe(userId)) != generation) {
+                return;
+            }
+            byte[] previous = entries.put(userId, json);
+            totalBytes += json.length - (previous == null ? 0 : previous.length);
+
+            Iterator<Map.Entry<Long, byte[]>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().getValue().length;
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(long userId) {
+        return (int) (userId & (STRIPES - 1));
+    }
+}
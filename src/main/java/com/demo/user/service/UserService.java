@@ -1,9 +1,15 @@
 package com.demo.user.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.demo.common.exception.DuplicateEmailException;
 import com.demo.common.exception.InvalidCredentialsException;
@@ -11,19 +17,24 @@ import com.demo.common.exception.UnauthorizedException;
 import com.demo.common.exception.UserNotFoundException;
 import com.demo.order.dto.CreateOrderResponse;
 import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.OrderCursor;
 import com.demo.order.dto.UserDeliveryStatusResponse;
-import com.demo.order.entity.Order;
 import com.demo.order.repository.OrderRepository;
+import com.demo.order.service.OrderHistoryService;
+import com.demo.order.service.UserDeliveryRow;
 import com.demo.user.dto.CreateAdminRequest;
 import com.demo.user.dto.CreateUserRequest;
 import com.demo.user.dto.CreateUserResponse;
 import com.demo.user.dto.LoginRequest;
 import com.demo.user.dto.LoginResponse;
+import com.demo.user.dto.UserOrdersPageResponse;
 import com.demo.user.dto.UserOrdersResponse;
 import com.demo.user.entity.Role;
 import com.demo.user.entity.User;
 import com.demo.user.repository.UserRepository;
 
+import tools.jackson.databind.json.JsonMapper;
+
 @Service
 @Transactional
 public class UserService {
@@ -32,10 +43,20 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
-
-    public UserService(UserRepository userRepository, OrderRepository orderRepository) {
+    private final OrderHistoryService orderHistoryService;
+    private final UserOrdersCache userOrdersCache;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate primaryRead;
+
+    public UserService(UserRepository userRepository, OrderRepository orderRepository,
+                       OrderHistoryService orderHistoryService, UserOrdersCache userOrdersCache,
+                       JsonMapper jsonMapper, PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.orderRepository = orderRepository;
+        this.orderHistoryService = orderHistoryService;
+        this.userOrdersCache = userOrdersCache;
+        this.jsonMapper = jsonMapper;
+        this.primaryRead = new TransactionTemplate(transactionManager);
     }
 
     public CreateUserResponse registerUser(CreateUserRequest request) {
@@ -87,19 +108,8 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        List<Order> orders = orderRepository.findByUserIdOrderByOrderedAtDesc(userId);
-
-        List<CreateOrderResponse> orderResponses = orders.stream()
-                .map(order -> new CreateOrderResponse(
-                        order.getId(),
-                        user.getId(),
-                        order.getProductName(),
-                        order.getQuantity(),
-                        order.getShippingAddress(),
-                        order.getDeliveryStatus(),
-                        order.getOrderedAt()
-                ))
-                .toList();
+        // 핫 테이블(orders)과 아카이브(orders_archive)를 합친 전체 이력
+        List<CreateOrderResponse> orderResponses = orderHistoryService.findAllUserOrders(userId);
 
         return new UserOrdersResponse(
                 user.getId(),
@@ -109,20 +119,50 @@ public class UserService {
         );
     }
 
+    /**
+     * getUserOrders의 직렬화된 JSON. 캐시에 있으면 트랜잭션 없이 바로 반환한다.
+     * 캐시를 채우는 조회는 쓰기 트랜잭션으로 열어 primary에서 읽는다.
+     * replica의 지연된 목록이 캐시에 들어가면 다음 주문 변경 전까지 고쳐지지 않기 때문이다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public byte[] getUserOrdersJson(Long userId) {
+        return userOrdersCache.get(userId,
+                () -> jsonMapper.writeValueAsBytes(primaryRead.execute(status -> getUserOrders(userId))));
+    }
+
+    @Transactional(readOnly = true)
+    public UserOrdersPageResponse getUserOrderPage(Long userId, OrderCursor cursor, int size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        List<CreateOrderResponse> orders = orderHistoryService.findUserOrders(userId, cursor, size);
+
+        OrderCursor nextCursor = null;
+        if (orders.size() == size) {
+            CreateOrderResponse last = orders.get(orders.size() - 1);
+            nextCursor = new OrderCursor(last.orderedAt(), last.orderId());
+        }
+
+        return new UserOrdersPageResponse(user.getId(), user.getName(), orders, nextCursor);
+    }
+
+    /**
+     * 진행 중/최근 주문만 대상으로 한다. 보관 기간이 지난 종료 주문은 아카이브로 옮겨져 포함되지 않는다.
+     */
     @Transactional(readOnly = true)
     public List<UserDeliveryStatusResponse> getAllUsersDeliveryStatus() {
         List<User> users = userRepository.findAll();
 
+        // 사용자 수와 관계없이 쿼리 두 번: 사용자 목록 + 전체 주문(최신순)을 사용자별로 묶는다.
+        Map<Long, List<DeliveryStatusResponse>> deliveriesByUser = new HashMap<>();
+        for (UserDeliveryRow row : orderRepository.findAllDeliveryRows()) {
+            deliveriesByUser.computeIfAbsent(row.userId(), id -> new ArrayList<>())
+                    .add(new DeliveryStatusResponse(row.orderId(), row.deliveryStatus(), row.orderedAt()));
+        }
+
         return users.stream()
                 .map(user -> {
-                    List<Order> orders = orderRepository.findByUserIdOrderByOrderedAtDesc(user.getId());
-                    List<DeliveryStatusResponse> deliveries = orders.stream()
-                            .map(order -> new DeliveryStatusResponse(
-                                    order.getId(),
-                                    order.getDeliveryStatus(),
-                                    order.getOrderedAt()
-                            ))
-                            .toList();
+                    List<DeliveryStatusResponse> deliveries = deliveriesByUser.getOrDefault(user.getId(), List.of());
                     return new UserDeliveryStatusResponse(
                             user.getId(),
                             user.getName(),
@@ -0,0 +1,83 @@
+-- 초기 스키마. 엔티티 매핑과 같아야 한다 (기동 시 hibernate.ddl-auto: validate로 검증).
+-- 컬럼 타입은 Hibernate가 MySQL에서 만드는 것과 맞춘다. (@Enumerated(STRING) → ENUM, LocalDateTime → DATETIME(6))
+
+CREATE TABLE users (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    email    VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     ENUM ('ROLE_USER', 'ROLE_ADMIN') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE products (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    name           VARCHAR(255) NOT NULL,
+    price          INT          NOT NULL,
+    stock          INT          NOT NULL,
+    reserved_stock INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_products_name UNIQUE (name)
+);
+
+CREATE TABLE orders (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    product_id       BIGINT       NOT NULL,
+    product_name     VARCHAR(255) NOT NULL,
+    quantity         INT          NOT NULL,
+    shipping_address VARCHAR(255) NOT NULL,
+    delivery_status  ENUM ('ORDERED', 'PREPARING', 'SHIPPED', 'DELIVERED', 'CANCELLED') NOT NULL,
+    ordered_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+-- 아카이브는 users/products를 참조하지 않는다 (id 값만 보관).
+CREATE TABLE orders_archive (
+    id               BIGINT       NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    product_id       BIGINT       NOT NULL,
+    product_name     VARCHAR(255) NOT NULL,
+    quantity         INT          NOT NULL,
+    shipping_address VARCHAR(255) NOT NULL,
+    delivery_status  ENUM ('ORDERED', 'PREPARING', 'SHIPPED', 'DELIVERED', 'CANCELLED') NOT NULL,
+    ordered_at       DATETIME(6)  NOT NULL,
+    archived_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE cart_orders (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT       NOT NULL,
+    shipping_address VARCHAR(255) NOT NULL,
+    delivery_status  ENUM ('ORDERED', 'PREPARING', 'SHIPPED', 'DELIVERED', 'CANCELLED') NOT NULL,
+    ordered_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cart_orders_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE cart_order_lines (
+    cart_order_id BIGINT       NOT NULL,
+    line_no       INT          NOT NULL,
+    product_id    BIGINT       NOT NULL,
+    product_name  VARCHAR(255) NOT NULL,
+    quantity      INT          NOT NULL,
+    PRIMARY KEY (cart_order_id, line_no),
+    CONSTRAINT fk_cart_order_lines_cart_order FOREIGN KEY (cart_order_id) REFERENCES cart_orders (id)
+);
+
+CREATE TABLE stock_reservations (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT      NOT NULL,
+    product_id  BIGINT      NOT NULL,
+    quantity    INT         NOT NULL,
+    status      ENUM ('ACTIVE', 'CONFIRMED', 'RELEASED', 'EXPIRED') NOT NULL,
+    reserved_at DATETIME(6) NOT NULL,
+    expires_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_stock_reservations_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_stock_reservations_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
@@ -0,0 +1,16 @@
+-- 조회 경로별 보조 인덱스. (SchemaIndexUsageTest가 각 리포지토리 쿼리의 실행 계획을 검사한다)
+
+-- 사용자 주문 목록/키셋 페이지: WHERE user_id = ? ORDER BY ordered_at DESC, id DESC
+CREATE INDEX idx_orders_user_ordered_at ON orders (user_id, ordered_at);
+
+-- 아카이브 대상 선별: WHERE delivery_status IN (...) AND ordered_at < ?
+CREATE INDEX idx_orders_status_ordered_at ON orders (delivery_status, ordered_at);
+
+-- 아카이브 주문 목록 (핫 테이블과 같은 접근 패턴)
+CREATE INDEX idx_orders_archive_user_ordered_at ON orders_archive (user_id, ordered_at);
+
+-- 가격대 조회/정렬용
+CREATE INDEX idx_products_price ON products (price);
+
+-- 기동 시 만료 인덱스 복구: WHERE status = 'ACTIVE'
+CREATE INDEX idx_stock_reservations_status_expires_at ON stock_reservations (status, expires_at);
@@ -0,0 +1,11 @@
+-- 인기 상품의 재고를 여러 행으로 나눈 재고 샤드. (StockShardService)
+-- 주문은 (product_id, shard_no) 한 행만 조건부로 차감하므로 products 행 하나에 몰리지 않는다.
+CREATE TABLE product_stock_shards (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    shard_no   INT    NOT NULL,
+    stock      INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_stock_shards_product_shard UNIQUE (product_id, shard_no),
+    CONSTRAINT fk_product_stock_shards_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
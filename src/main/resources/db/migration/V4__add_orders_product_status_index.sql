@@ -0,0 +1,3 @@
+-- 상품 리콜(일괄 취소): WHERE product_id = ? AND delivery_status = 'ORDERED' ORDER BY id
+-- MySQL에서는 fk_orders_product의 인덱스 역할도 이 인덱스가 대신한다.
+CREATE INDEX idx_orders_product_status ON orders (product_id, delivery_status);
@@ -0,0 +1,23 @@
+-- 상품별 시간대 주문/매출 집계. OrderRollupAggregator가 워터마크 이후의 새 주문만 더해 간다.
+CREATE TABLE order_hourly_rollups (
+    product_id  BIGINT      NOT NULL,
+    bucket_hour DATETIME(6) NOT NULL,
+    order_count BIGINT      NOT NULL,
+    quantity    BIGINT      NOT NULL,
+    revenue     BIGINT      NOT NULL,
+    PRIMARY KEY (product_id, bucket_hour)
+);
+
+-- 전체 상품 대시보드: WHERE bucket_hour >= ? AND bucket_hour < ?
+CREATE INDEX idx_order_hourly_rollups_bucket_hour ON order_hourly_rollups (bucket_hour);
+
+-- 원천 테이블별로 어디까지(id) 집계했는지 기록한다.
+CREATE TABLE rollup_watermarks (
+    source     VARCHAR(64) NOT NULL,
+    last_id    BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (source)
+);
+
+INSERT INTO rollup_watermarks (source, last_id, updated_at) VALUES ('orders', 0, CURRENT_TIMESTAMP);
+INSERT INTO rollup_watermarks (source, last_id, updated_at) VALUES ('cart_orders', 0, CURRENT_TIMESTAMP);
@@ -0,0 +1,12 @@
+-- 주문 배송 상태 변경 이력 (추가만 한다). 현재 상태는 계속 orders.delivery_status에서 읽는다.
+-- OrderStatusJournal이 커밋된 변경을 모아 배치 INSERT한다. 아카이브로 orders 행이 옮겨져도 이력은 남으므로 FK를 두지 않는다.
+CREATE TABLE order_status_events (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    order_id    BIGINT      NOT NULL,
+    status      ENUM ('ORDERED', 'PREPARING', 'SHIPPED', 'DELIVERED', 'CANCELLED') NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 타임라인 조회: WHERE order_id = ? ORDER BY id
+CREATE INDEX idx_order_status_events_order_id ON order_status_events (order_id, id);
@@ -0,0 +1,20 @@
+-- 장바구니 주문의 품목을 orders 행으로 옮긴다. cart_orders는 (사용자, 배송지, 접수 시각)만 남는 헤더가 된다.
+-- 품목도 일반 주문과 같은 id 공간을 쓰므로 주문 목록/배송 상태/취소/이력/아카이브가 단건 주문과 같은 경로를 탄다.
+ALTER TABLE orders ADD COLUMN cart_order_id BIGINT NULL;
+-- 시간대별 집계(cart_orders 원천): WHERE cart_order_id > ? ORDER BY cart_order_id, id
+CREATE INDEX idx_orders_cart_order ON orders (cart_order_id);
+ALTER TABLE orders ADD CONSTRAINT fk_orders_cart_order FOREIGN KEY (cart_order_id) REFERENCES cart_orders (id);
+
+ALTER TABLE orders_archive ADD COLUMN cart_order_id BIGINT NULL;
+
+INSERT INTO orders (user_id, product_id, product_name, quantity, shipping_address, delivery_status, ordered_at, cart_order_id)
+SELECT c.user_id, l.product_id, l.product_name, l.quantity, c.shipping_address, c.delivery_status, c.ordered_at, c.id
+FROM cart_orders c JOIN cart_order_lines l ON l.cart_order_id = c.id
+ORDER BY c.id, l.line_no;
+
+-- 옮긴 품목의 접수 이력. 이후 상태 변경은 OrderStatusJournal이 남긴다.
+INSERT INTO order_status_events (order_id, status, occurred_at)
+SELECT id, 'ORDERED', ordered_at FROM orders WHERE cart_order_id IS NOT NULL ORDER BY id;
+
+DROP TABLE cart_order_lines;
+ALTER TABLE cart_orders DROP COLUMN delivery_status;
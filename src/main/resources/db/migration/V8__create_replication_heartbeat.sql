@@ -0,0 +1,7 @@
+-- replica 복제 지연 측정용 하트비트 (ReplicaLagMonitor). primary에 id = 1 한 행만 두고 현재 시각(ms)을 덮어쓴다.
+-- 각 replica는 복제된 같은 행을 읽어 지연을 계산한다. 스키마는 다른 테이블처럼 마이그레이션으로만 만든다.
+CREATE TABLE replication_heartbeat (
+    id          INT    NOT NULL,
+    beat_millis BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- 판매 순위 갱신(TopSellerBoard): WHERE product_id IN (...) AND delivery_status <> 'CANCELLED' GROUP BY product_id
+-- 핫 테이블은 idx_orders_product_status를 쓴다. 아카이브에도 같은 인덱스를 둔다.
+CREATE INDEX idx_orders_archive_product_status ON orders_archive (product_id, delivery_status);
@@ -0,0 +1,269 @@
+package com.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.analytics.repository.OrderHourlyRollupRepository;
+import com.demo.analytics.repository.RollupWatermarkRepository;
+import com.demo.analytics.service.OrderRollupService;
+import com.demo.common.sql.SqlStatementCounter;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.repository.ArchivedOrderRepository;
+import com.demo.order.repository.OrderRepository;
+import com.demo.order.repository.OrderStatusEventRepository;
+import com.demo.product.repository.ProductRepository;
+import com.demo.product.repository.ProductStockShardRepository;
+import com.demo.reservation.entity.ReservationStatus;
+import com.demo.reservation.repository.StockReservationRepository;
+import com.demo.user.repository.UserRepository;
+
+/*
+ * Flyway 마이그레이션으로 만든 별도 H2 DB에서 각 리포지토리 쿼리의 실행 계획(EXPLAIN)을 확인한다.
+ * 리포지토리 메서드를 실제로 호출하고, CountingStatementInspector가 모은 Hibernate SQL을 그대로 EXPLAIN한다.
+ * 바인드 파라미터는 ?로 남기고 계획을 본다. 호출은 트랜잭션 안에서 하고 끝나면 롤백한다.
+ * 리포지토리 쿼리를 추가하면 여기에도 추가한다.
+ *
+ * H2는 인덱스로 찾으면 계획 주석에 "PUBLIC.인덱스명: 조건"을, 전체 스캔이면 ".tableScan"을 남긴다.
+ * OrderRepository.findAllDeliveryRows(어드민 전체 배송 현황)는 의도적으로 전체를 읽으므로 제외한다.
+ * ProductStockShardRepository.findTotals(리밸런서의 상품별 합계)도 작은 샤드 테이블 전체를 묶는 쿼리라 제외한다.
+ * 주문/아카이브 리포지토리의 인자 없는 sumSoldQuantities(기동 시 판매 순위 재구성)도 전체를 합산하므로 제외한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexUsageTest {
+
+    private static final Pattern INDEX_LOOKUP = Pattern.compile("/\\* PUBLIC\\.[A-Z0-9_]+: ");
+    private static final LocalDateTime CURSOR = LocalDateTime.parse("2025-02-01T00:00:00");
+    private static final List<Long> IDS = List.of(3L, 7L, 9L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockShardRepository productStockShardRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderStatusEventRepository orderStatusEventRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private RollupWatermarkRepository rollupWatermarkRepository;
+
+    @Autowired
+    private OrderHourlyRollupRepository orderHourlyRollupRepository;
+
+    @BeforeAll
+    void seed() {
+        // 옵티마이저가 전체 스캔을 고르지 않을 만큼 행을 채운다.
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> shards = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            users.add(new Object[]{i, "user" + i + "@example.com", "user" + i, "pass", "ROLE_USER"});
+            products.add(new Object[]{i, "product" + i, (int) (i * 1000), 100, 0});
+            for (int shardNo = 0; shardNo < 4; shardNo++) {
+                shards.add(new Object[]{i, shardNo, 20});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, name, password, role) VALUES (?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (id, name, price, stock, reserved_stock) VALUES (?, ?, ?, ?, ?)", products);
+        jdbcTemplate.batchUpdate("INSERT INTO product_stock_shards (product_id, shard_no, stock) VALUES (?, ?, ?)", shards);
+
+        String[] statuses = {"ORDERED", "ORDERED", "ORDERED", "PREPARING", "SHIPPED", "DELIVERED", "CANCELLED"};
+        LocalDateTime base = LocalDateTime.parse("2025-01-01T00:00:00");
+        // 예약 스위퍼가 시드를 만료시키지 않도록 만료 시각은 먼 미래로 둔다.
+        Timestamp notExpired = Timestamp.valueOf(base.plusYears(100));
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> archived = new ArrayList<>();
+        List<Object[]> reservations = new ArrayList<>();
+        List<Object[]> cartOrders = new ArrayList<>();
+        List<Object[]> statusEvents = new ArrayList<>();
+        for (long i = 1; i <= 5000; i++) {
+            Timestamp orderedAt = Timestamp.valueOf(base.plusMinutes(i * 7));
+            orders.add(new Object[]{i, 1 + i % 50, 1 + i % 50, "product", 1, "서울시", statuses[(int) (i % statuses.length)], orderedAt, null});
+            statusEvents.add(new Object[]{i, "ORDERED", orderedAt});
+            statusEvents.add(new Object[]{i, statuses[(int) (i % statuses.length)], orderedAt});
+            archived.add(new Object[]{100_000 + i, 1 + i % 50, 1 + i % 50, "product", 1, "서울시", "DELIVERED", orderedAt, orderedAt});
+            if (i <= 1000) {
+                reservations.add(new Object[]{i, 1 + i % 50, 1 + i % 50, 1, i % 50 == 0 ? "ACTIVE" : "CONFIRMED", orderedAt, notExpired});
+                cartOrders.add(new Object[]{i, 1 + i % 50, "서울시", orderedAt});
+                orders.add(new Object[]{10_000 + 2 * i, 1 + i % 50, 1 + i % 50, "product", 1, "서울시", "ORDERED", orderedAt, i});
+                orders.add(new Object[]{10_001 + 2 * i, 1 + i % 50, 1 + (i + 1) % 50, "product", 2, "서울시", "ORDERED", orderedAt, i});
+            }
+        }
+        // 기동 직후 도는 시간대 집계가 시드 주문을 더하는 버킷과 겹치지 않게 집계 시드는 더 이른 시간대에 둔다.
+        LocalDateTime rollupBase = LocalDateTime.parse("2020-01-01T00:00:00");
+        List<Object[]> rollups = new ArrayList<>();
+        for (long hour = 0; hour < 100; hour++) {
+            for (long productId = 1; productId <= 50; productId++) {
+                rollups.add(new Object[]{productId, Timestamp.valueOf(rollupBase.plusHours(hour)), 3, 4, productId * 4000});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO cart_orders (id, user_id, shipping_address, ordered_at) VALUES (?, ?, ?, ?)",
+                cartOrders);
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, user_id, product_id, product_name, quantity, shipping_address, "
+                + "delivery_status, ordered_at, cart_order_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO orders_archive (id, user_id, product_id, product_name, quantity, "
+                + "shipping_address, delivery_status, ordered_at, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", archived);
+        jdbcTemplate.batchUpdate("INSERT INTO stock_reservations (id, user_id, product_id, quantity, status, "
+                + "reserved_at, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?)", reservations);
+        jdbcTemplate.batchUpdate("INSERT INTO order_status_events (order_id, status, occurred_at) VALUES (?, ?, ?)",
+                statusEvents);
+        jdbcTemplate.batchUpdate("INSERT INTO order_hourly_rollups (product_id, bucket_hour, order_count, quantity, revenue) "
+                + "VALUES (?, ?, ?, ?, ?)", rollups);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("UserRepository.findByEmail", () -> userRepository.findByEmail("user7@example.com")),
+                query("UserRepository.existsByEmail", () -> userRepository.existsByEmail("user7@example.com")),
+                query("ProductRepository.findByName", () -> productRepository.findByName("product7")),
+                query("ProductRepository.existsByName", () -> productRepository.existsByName("product7")),
+                query("ProductRepository.findByIdWithPessimisticLock",
+                        () -> productRepository.findByIdWithPessimisticLock(7L)),
+                query("ProductRepository.findAllByIdWithPessimisticLock",
+                        () -> productRepository.findAllByIdWithPessimisticLock(IDS)),
+                query("ProductRepository.findPrices", () -> productRepository.findPrices(IDS)),
+                query("ProductRepository.findNameById", () -> productRepository.findNameById(7L)),
+                query("ProductRepository.tryDecreaseStock", () -> productRepository.tryDecreaseStock(7L, 1)),
+                query("ProductRepository.increaseStock", () -> productRepository.increaseStock(7L, 1)),
+                query("ProductRepository.releaseReservedStock", () -> productRepository.releaseReservedStock(7L, 1)),
+                query("ProductStockShardRepository.findShardStocks",
+                        () -> productStockShardRepository.findShardStocks(7L)),
+                query("ProductStockShardRepository.findAllByProductIdWithPessimisticLock",
+                        () -> productStockShardRepository.findAllByProductIdWithPessimisticLock(7L)),
+                query("ProductStockShardRepository.tryDecrease", () -> productStockShardRepository.tryDecrease(7L, 2, 1)),
+                query("ProductStockShardRepository.sumStock", () -> productStockShardRepository.sumStock(7L)),
+                query("OrderRepository.findByUserIdOrderByOrderedAtDesc",
+                        () -> orderRepository.findByUserIdOrderByOrderedAtDesc(7L)),
+                query("OrderRepository.findFirstPageByUserId",
+                        () -> orderRepository.findFirstPageByUserId(7L, PageRequest.of(0, 20))),
+                query("OrderRepository.findPageByUserIdBefore",
+                        () -> orderRepository.findPageByUserIdBefore(7L, CURSOR, 900L, PageRequest.of(0, 20))),
+                query("OrderRepository.findCancellation", () -> orderRepository.findCancellation(7L)),
+                query("OrderRepository.findByProductIdAndStatusWithPessimisticLock",
+                        () -> orderRepository.findByProductIdAndStatusWithPessimisticLock(
+                                7L, DeliveryStatus.ORDERED, PageRequest.of(0, 500))),
+                query("OrderRepository.cancelOrdered", () -> orderRepository.cancelOrdered(IDS)),
+                query("OrderRepository.findRollupSources",
+                        () -> orderRepository.findRollupSources(4000L, PageRequest.of(0, 5000))),
+                query("OrderRepository.findCartRollupSources",
+                        () -> orderRepository.findCartRollupSources(900L, PageRequest.of(0, 5000))),
+                query("OrderRepository.findByCartOrderId", () -> orderRepository.findByCartOrderId(7L)),
+                query("OrderRepository.findArchivableIds",
+                        () -> orderRepository.findArchivableIds(List.of(DeliveryStatus.DELIVERED, DeliveryStatus.CANCELLED),
+                                LocalDateTime.parse("2025-01-10T00:00:00"), PageRequest.of(0, 1000))),
+                query("OrderRepository.sumSoldQuantities(productIds)", () -> orderRepository.sumSoldQuantities(IDS)),
+                query("OrderStatusEventRepository.findTimeline", () -> orderStatusEventRepository.findTimeline(7L)),
+                query("ArchivedOrderRepository.findByUserIdOrderByOrderedAtDesc",
+                        () -> archivedOrderRepository.findByUserIdOrderByOrderedAtDesc(7L)),
+                query("ArchivedOrderRepository.findFirstPageByUserId",
+                        () -> archivedOrderRepository.findFirstPageByUserId(7L, PageRequest.of(0, 20))),
+                query("ArchivedOrderRepository.findPageByUserIdBefore",
+                        () -> archivedOrderRepository.findPageByUserIdBefore(7L, CURSOR, 100_900L, PageRequest.of(0, 20))),
+                query("ArchivedOrderRepository.copyFromOrders", () -> archivedOrderRepository.copyFromOrders(List.of(1L, 2L, 3L))),
+                query("ArchivedOrderRepository.sumSoldQuantities(productIds)",
+                        () -> archivedOrderRepository.sumSoldQuantities(IDS)),
+                query("StockReservationRepository.findByIdWithPessimisticLock",
+                        () -> stockReservationRepository.findByIdWithPessimisticLock(7L)),
+                query("StockReservationRepository.findAllDueWithPessimisticLock",
+                        () -> stockReservationRepository.findAllDueWithPessimisticLock(
+                                IDS, ReservationStatus.ACTIVE, LocalDateTime.parse("2026-01-01T00:00:00"))),
+                query("StockReservationRepository.updateStatus",
+                        () -> stockReservationRepository.updateStatus(IDS, ReservationStatus.EXPIRED)),
+                query("StockReservationRepository.findDueIds",
+                        () -> stockReservationRepository.findDueIds(ReservationStatus.ACTIVE,
+                                LocalDateTime.parse("2025-01-02T00:00:00"), PageRequest.of(0, 500))),
+                query("StockReservationRepository.findExpiries",
+                        () -> stockReservationRepository.findExpiries(ReservationStatus.ACTIVE)),
+                query("RollupWatermarkRepository.findByIdWithPessimisticLock",
+                        () -> rollupWatermarkRepository.findByIdWithPessimisticLock(OrderRollupService.ORDERS)),
+                query("OrderHourlyRollupRepository.findInBuckets",
+                        () -> orderHourlyRollupRepository.findInBuckets(IDS, List.of(
+                                LocalDateTime.parse("2020-01-02T10:00:00"), LocalDateTime.parse("2020-01-02T11:00:00")))),
+                query("OrderHourlyRollupRepository.findByProductIdAndHourRange",
+                        () -> orderHourlyRollupRepository.findByProductIdAndHourRange(7L,
+                                LocalDateTime.parse("2020-01-02T00:00:00"), LocalDateTime.parse("2020-01-03T00:00:00"))),
+                query("OrderHourlyRollupRepository.findByHourRange",
+                        () -> orderHourlyRollupRepository.findByHourRange(
+                                LocalDateTime.parse("2020-01-02T00:00:00"), LocalDateTime.parse("2020-01-02T06:00:00")))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("리포지토리 쿼리 → 인덱스 조회 (전체 스캔 없음)")
+    void repositoryQuery_usesIndex(String query, Runnable call) {
+        List<String> statements = captureStatements(call);
+
+        assertThat(statements).as(query).isNotEmpty();
+        for (String sql : statements) {
+            String plan = String.join("\n",
+                    jdbcTemplate.query("EXPLAIN " + sql, (PreparedStatementSetter) null, (row, rowNum) -> row.getString(1)));
+
+            assertThat(plan).as(query + "\n" + plan).doesNotContainIgnoringCase("tableScan");
+            assertThat(INDEX_LOOKUP.matcher(plan).find()).as(query + "\n" + plan).isTrue();
+        }
+    }
+
+    private List<String> captureStatements(Runnable call) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> statements;
+        SqlStatementCounter.startCapture();
+        try {
+            transaction.executeWithoutResult(status -> {
+                call.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            statements = SqlStatementCounter.stopCapture();
+        }
+        return statements;
+    }
+
+    private static Arguments query(String name, Runnable call) {
+        return Arguments.of(name, call);
+    }
+}
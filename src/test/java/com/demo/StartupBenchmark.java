@@ -0,0 +1,116 @@
+package com.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/*
+ * 기동 시간 벤치마크: 새 JVM을 띄워 첫 요청(GET /api/products)이 200을 받을 때까지 걸린 시간을 잰다.
+ * 실행: ./gradlew benchmark [-PstartupJvmArgs="-XX:AOTCache=build/aot/app.aot"]
+ *
+ * - 기본 설정과 prod 프로필을 각각 ROUNDS번 띄워 최소/중앙값을 출력한다.
+ * - 테스트 클래스패스의 H2 설정을 쓰므로, prod 프로필에는 H2 dialect를 덧붙인다.
+ *   (스키마는 두 경우 모두 Flyway 마이그레이션이 만든다)
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final int ROUNDS = 3;
+    private static final Duration TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        List<String> extraJvmArgs = Arrays.stream(System.getProperty("benchmark.startup.jvmArgs", "").split("\\s+"))
+                .filter(arg -> !arg.isBlank())
+                .toList();
+
+        long[] baseline = measure(List.of(), List.of());
+        long[] fastStart = measure(extraJvmArgs, List.of(
+                "--spring.profiles.active=prod",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+        ));
+
+        System.out.printf("%-10s %10s %10s%n", "profile", "min(ms)", "median(ms)");
+        print("default", baseline);
+        print("prod", fastStart);
+        assertThat(fastStart[0]).isPositive();
+    }
+
+    private long[] measure(List<String> jvmArgs, List<String> appArgs) throws Exception {
+        long[] millis = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            millis[i] = startAndTime(jvmArgs, appArgs);
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private long startAndTime(List<String> jvmArgs, List<String> appArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(DemoApplication.class.getName());
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - started < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("application exited with " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - started) / 1_000_000;
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트가 열리지 않았다.
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("no successful response within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void print(String name, long[] millis) {
+        System.out.printf("%-10s %10d %10d%n", name, millis[0], millis[millis.length / 2]);
+    }
+}
@@ -0,0 +1,83 @@
+package com.demo.analytics.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.analytics.dto.HourlyOrderStatsResponse;
+import com.demo.analytics.service.OrderRollupService;
+import com.demo.user.entity.Role;
+
+@WebMvcTest(AnalyticsController.class)
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderRollupService orderRollupService;
+
+    @Test
+    void getHourlyOrderStats_adminReadsRollups() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(orderRollupService.getHourlyStats(3L, from, to)).thenReturn(List.of(
+                new HourlyOrderStatsResponse(3L, from, 4, 5, 50000),
+                new HourlyOrderStatsResponse(3L, from.plusHours(1), 1, 1, 10000)));
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        session.setAttribute("role", Role.ROLE_ADMIN);
+
+        mockMvc.perform(get("/api/analytics/orders/hourly")
+                        .param("from", "2025-01-01T10:00:00")
+                        .param("to", "2025-01-01T12:00:00")
+                        .param("productId", "3")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].orders").value(4))
+                .andExpect(jsonPath("$[0].revenue").value(50000))
+                .andExpect(jsonPath("$[1].hour").value("2025-01-01T11:00:00"));
+    }
+
+    @Test
+    void getHourlyOrderStats_invalidRangeIsBadRequest() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(orderRollupService.getHourlyStats(null, from, to))
+                .thenThrow(new IllegalStateException("조회 시작 시각은 종료 시각보다 앞서야 합니다."));
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        session.setAttribute("role", Role.ROLE_ADMIN);
+
+        mockMvc.perform(get("/api/analytics/orders/hourly")
+                        .param("from", "2025-01-01T12:00:00")
+                        .param("to", "2025-01-01T10:00:00")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getHourlyOrderStats_nonAdminForbidden() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        session.setAttribute("role", Role.ROLE_USER);
+
+        mockMvc.perform(get("/api/analytics/orders/hourly")
+                        .param("from", "2025-01-01T10:00:00")
+                        .param("to", "2025-01-01T12:00:00")
+                        .session(session))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,146 @@
+package com.demo.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.demo.analytics.dto.HourlyOrderStatsResponse;
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutRequest;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/*
+ * 집계기는 커밋된 주문을 워터마크 뒤에서 읽으므로 @Transactional을 붙이지 않는다.
+ * 다른 테스트의 주문도 함께 집계되므로 이 테스트가 만든 상품의 버킷만 확인한다.
+ */
+@SpringBootTest
+class OrderRollupServiceTest {
+
+    @Autowired
+    private OrderRollupAggregator orderRollupAggregator;
+
+    @Autowired
+    private OrderRollupService orderRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("단건 주문과 장바구니 주문 → 상품별 시간대 버킷에 주문 수/수량/매출이 더해진다")
+    void rollup_countsOrdersAndCheckoutLines() {
+        Long productId = newProduct(1500);
+        Long otherProductId = newProduct(700);
+        Long userId = newUser();
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 2, "서울시 강남구"));
+        orderService.checkout(new CheckoutRequest(userId, List.of(
+                new CheckoutItemRequest(productId, 3), new CheckoutItemRequest(otherProductId, 4)), "서울시 강남구"));
+        orderRollupAggregator.rollupOrdersBefore(LocalDateTime.now().plusSeconds(1));
+
+        assertThat(totals(productId)).containsExactly(3L, 6L, 6L * 1500);
+        assertThat(totals(otherProductId)).containsExactly(1L, 4L, 4L * 700);
+    }
+
+    @Test
+    @DisplayName("다시 집계하면 워터마크 뒤의 새 주문만 더해진다")
+    void rollup_isIncremental() {
+        Long productId = newProduct(1000);
+        Long userId = newUser();
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 2, "서울시 강남구"));
+        orderRollupAggregator.rollupOrdersBefore(LocalDateTime.now().plusSeconds(1));
+        orderRollupAggregator.rollupOrdersBefore(LocalDateTime.now().plusSeconds(1));
+        assertThat(totals(productId)).containsExactly(1L, 2L, 2000L);
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+        orderRollupAggregator.rollupOrdersBefore(LocalDateTime.now().plusSeconds(1));
+
+        assertThat(totals(productId)).containsExactly(2L, 3L, 3000L);
+    }
+
+    @Test
+    @DisplayName("settledBefore 이후에 접수된 주문은 다음 집계까지 미룬다")
+    void rollup_skipsUnsettledOrders() {
+        Long productId = newProduct(1000);
+        Long userId = newUser();
+        LocalDateTime beforeOrder = LocalDateTime.now().minusSeconds(1);
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+        orderRollupAggregator.rollupOrdersBefore(beforeOrder);
+        assertThat(totals(productId)).containsExactly(0L, 0L, 0L);
+
+        orderRollupAggregator.rollupOrdersBefore(LocalDateTime.now().plusSeconds(1));
+        assertThat(totals(productId)).containsExactly(1L, 1L, 1000L);
+    }
+
+    @Test
+    @DisplayName("조회 구간이 비었거나 31일을 넘으면 거절한다")
+    void getHourlyStats_rejectsInvalidRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> orderRollupService.getHourlyStats(null, now, now))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> orderRollupService.getHourlyStats(null, now.minusDays(32), now))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("페이지가 꽉 차면 마지막 장바구니 주문의 품목은 다음 배치로 넘긴다")
+    void settledPrefix_keepsCheckoutLinesTogether() {
+        LocalDateTime orderedAt = LocalDateTime.now().minusMinutes(5);
+        List<RollupSource> rows = List.of(
+                new RollupSource(1L, 10L, 1, orderedAt),
+                new RollupSource(2L, 10L, 1, orderedAt),
+                new RollupSource(2L, 11L, 1, orderedAt));
+
+        assertThat(OrderRollupService.settledPrefix(rows, 3, LocalDateTime.now()))
+                .extracting(RollupSource::sourceId).containsExactly(1L);
+        assertThat(OrderRollupService.settledPrefix(rows, 4, LocalDateTime.now())).hasSize(3);
+    }
+
+    /** 시간 경계에 걸쳐도 되도록 앞뒤 몇 시간 버킷을 합친다. [주문 수, 수량, 매출] */
+    private List<Long> totals(Long productId) {
+        LocalDateTime now = LocalDateTime.now();
+        long orders = 0;
+        long quantity = 0;
+        long revenue = 0;
+        for (HourlyOrderStatsResponse stats
+                : orderRollupService.getHourlyStats(productId, now.minusHours(2), now.plusHours(2))) {
+            orders += stats.orders();
+            quantity += stats.quantity();
+            revenue += stats.revenue();
+        }
+        return List.of(orders, quantity, revenue);
+    }
+
+    private Long newProduct(int price) {
+        return productService.addProduct(
+                new CreateProductRequest("집계상품-" + UUID.randomUUID(), price, 100)).productId();
+    }
+
+    private Long newUser() {
+        String suffix = UUID.randomUUID().toString();
+        return userService.registerUser(
+                new CreateUserRequest("집계유저", "rollup-" + suffix + "@example.com", "pass1234")).userId();
+    }
+}
@@ -0,0 +1,126 @@
+package com.demo.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.demo.common.datasource.ReadYourWritesTracker;
+import com.demo.common.exception.ProductNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * 먼저 온 요청의 loader를 래치로 붙잡아 두고, 나머지 요청이 모두 합류한 뒤에 풀어 준다.
+ */
+class SingleFlightTest {
+
+    private static final int JOINERS = 20;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight =
+            new SingleFlight(new ReadYourWritesTracker(Duration.ofSeconds(5)), meterRegistry);
+
+    @Test
+    @DisplayName("같은 키의 동시 조회 → loader는 한 번만 실행되고 모두 같은 결과를 받는다")
+    void execute_concurrentSameKey_loadsOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "product-1";
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("product", 1L, 0L, loader)));
+            await(started);
+            for (int i = 0; i < JOINERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("product", 1L, 0L, loader)));
+            }
+            awaitCoalesced(JOINERS);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product-1");
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("먼저 온 조회가 실패 → 합류한 요청도 같은 예외를 받고, 다음 조회는 다시 실행된다")
+    void execute_loaderFails_sharesExceptionThenRetries() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> failing = () -> {
+            started.countDown();
+            await(release);
+            throw new ProductNotFoundException(1L);
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("product", 1L, 0L, failing));
+            await(started);
+            Future<String> joiner = executor.submit(() -> singleFlight.execute("product", 1L, 0L, failing));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ProductNotFoundException.class);
+            assertThatThrownBy(() -> joiner.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ProductNotFoundException.class);
+        }
+        assertThat(singleFlight.execute("product", 1L, 0L, () -> "product-1")).isEqualTo("product-1");
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 뒤의 조회 → 진행 중인 이전 조회에 합류하지 않는다")
+    void execute_newerVersion_doesNotJoin() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> stale = executor.submit(() -> singleFlight.execute("product", 1L, 0L, () -> {
+                started.countDown();
+                await(release);
+                return "before";
+            }));
+            await(started);
+
+            assertThat(singleFlight.execute("product", 1L, 1L, () -> "after")).isEqualTo("after");
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before");
+        }
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("read.coalesced", "name", "product").count() < count) {
+            assertThat(System.nanoTime()).as("합류 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
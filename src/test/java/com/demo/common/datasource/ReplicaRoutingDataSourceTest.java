@@ -0,0 +1,133 @@
+package com.demo.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+
+/*
+ * 임베디드 H2 두 개(primary, replica)로 라우팅을 검증한다.
+ * 실제 복제는 없으므로 replica의 하트비트 row를 테스트가 직접 써서 복제 지연을 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.max-lag=2s",
+        "app.datasource.replica.nodes[0].url=jdbc:h2:mem:routingreplica;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.nodes[0].username=sa",
+        "app.datasource.replica.nodes[0].password="
+})
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaDataSources replicaDataSources;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private ProductService productService;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaDataSources.pools().get(0));
+        // 실제 replica는 primary의 스키마를 복제받으므로, 테스트 replica에도 같은 마이그레이션을 적용한다.
+        Flyway.configure().dataSource(replicaDataSources.pools().get(0)).locations("classpath:db/migration").load().migrate();
+        replica.update("DELETE FROM replication_heartbeat");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 → replica, 쓰기 트랜잭션 → primary")
+    void readOnlyTransaction_routesToReplica() {
+        replicaIsCaughtUp();
+
+        assertThat(currentDatabase(true)).containsIgnoringCase("replica");
+        assertThat(currentDatabase(false)).containsIgnoringCase("primary");
+    }
+
+    @Test
+    @DisplayName("replica 복제 지연이 허용치를 넘으면 readOnly도 primary로")
+    void laggingReplica_fallsBackToPrimary() {
+        replica.update("INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?)",
+                System.currentTimeMillis() - 60_000);
+        replicaLagMonitor.refresh();
+
+        assertThat(currentDatabase(true)).containsIgnoringCase("primary");
+    }
+
+    @Test
+    @DisplayName("마지막 측정이 허용 지연보다 오래됨(측정 중단) → 마지막 값이 정상이어도 replica에서 제외")
+    void staleMeasurement_excludesReplica() {
+        replicaIsCaughtUp();
+        long now = System.currentTimeMillis();
+
+        assertThat(replicaLagMonitor.nextHealthyReplica(now)).isPresent();
+        assertThat(replicaLagMonitor.nextHealthyReplica(now + 5_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방금 주문한 사용자의 읽기는 primary로 (read-your-writes)")
+    void recentWriter_readsFromPrimary() {
+        replicaIsCaughtUp();
+        readYourWritesTracker.markWrite(42L);
+
+        ReadRoutingContext.bindUser(42L);
+        assertThat(currentDatabase(true)).containsIgnoringCase("primary");
+
+        ReadRoutingContext.bindUser(7L);
+        assertThat(currentDatabase(true)).containsIgnoringCase("replica");
+    }
+
+    @Test
+    @DisplayName("ETag가 붙는 단건 조회는 replica가 정상이어도 primary에서 읽는다")
+    void etagTaggedRead_readsFromPrimary() {
+        replicaIsCaughtUp();
+        // replica에는 복제가 없으므로 새 상품이 없다. replica에서 읽었다면 404가 난다.
+        Long productId = productService.addProduct(
+                new CreateProductRequest("라우팅상품-" + UUID.randomUUID(), 1000, 5)).productId();
+
+        assertThat(productService.getProduct(productId).productId()).isEqualTo(productId);
+    }
+
+    private void replicaIsCaughtUp() {
+        // 미래 시각을 써 두면 백그라운드 측정이 돌아도 테스트 동안은 지연 0으로 보인다.
+        replica.update("INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?)",
+                System.currentTimeMillis() + 60_000);
+        replicaLagMonitor.refresh();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,62 @@
+package com.demo.common.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.UserDeliveryStatusResponse;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.user.dto.UserOrdersResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/*
+ * 전용 직렬화기는 기본 Jackson 직렬화와 같은 JSON을 내야 한다.
+ */
+class OrderResponseJsonModuleTest {
+
+    private final JsonMapper defaultMapper = JsonMapper.builder().build();
+    private final JsonMapper fastMapper = JsonMapper.builder().addModule(new OrderResponseJsonModule()).build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-01-01T09:00:00",
+            "2026-03-15T23:59:59.5",
+            "2026-03-15T00:00:07.000120",
+            "0001-12-31T01:02:03.123456789"
+    })
+    @DisplayName("주문/배송 응답 → 기본 직렬화와 같은 JSON (날짜 형식 포함)")
+    void matchesDefaultSerialization(String orderedAt) {
+        LocalDateTime timestamp = LocalDateTime.parse(orderedAt);
+        CreateOrderResponse order = new CreateOrderResponse(
+                22L, 1L, "노트북 \"15\"\n", 2, "서울시 강남구", DeliveryStatus.SHIPPED, timestamp);
+        DeliveryStatusResponse delivery = new DeliveryStatusResponse(22L, DeliveryStatus.DELIVERED, timestamp);
+
+        assertSameJson(order);
+        assertSameJson(delivery);
+        assertSameJson(new UserOrdersResponse(1L, "홍길동", 2, List.of(order, order)));
+        assertSameJson(new UserDeliveryStatusResponse(1L, "홍길동", "user@example.com", 1, List.of(delivery)));
+    }
+
+    @Test
+    @DisplayName("null 필드 → 기본 직렬화처럼 null로 출력")
+    void nullFields() {
+        assertSameJson(new CreateOrderResponse(null, null, null, 0, null, null, null));
+        assertSameJson(new UserOrdersResponse(1L, null, 0, null));
+    }
+
+    private void assertSameJson(Object value) {
+        String expected = defaultMapper.writeValueAsString(value);
+        String actual = fastMapper.writeValueAsString(value);
+
+        assertThat(fastMapper.readTree(actual)).isEqualTo(defaultMapper.readTree(expected));
+    }
+}
@@ -0,0 +1,92 @@
+package com.demo.common.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.user.dto.UserOrdersResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/*
+ * 주문 10,000건짜리 UserOrdersResponse 직렬화 비교 (기본 Jackson vs OrderResponseJsonModule).
+ * 응답 1건당 할당 바이트와 초당 응답 수를 출력한다. 실행: ./gradlew benchmark
+ *
+ * - 출력은 버리는 스트림으로 보내 응답 바디 버퍼 할당은 측정에서 뺀다.
+ * - 할당량은 현재 스레드 기준(com.sun.management.ThreadMXBean)이다.
+ */
+@Tag("benchmark")
+class OrderResponseSerializationBenchmark {
+
+    private static final int ORDERS = 10_000;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    void userOrdersResponse_10kOrders() {
+        UserOrdersResponse response = sampleResponse();
+        JsonMapper defaultMapper = JsonMapper.builder().build();
+        JsonMapper fastMapper = JsonMapper.builder().addModule(new OrderResponseJsonModule()).build();
+
+        Result generic = measure("default", defaultMapper, response);
+        Result fast = measure("module", fastMapper, response);
+
+        System.out.printf("%-8s %12s %14s%n", "mapper", "resp/s", "bytes/resp");
+        generic.print();
+        fast.print();
+        assertThat(fast.allocatedPerResponse()).isLessThan(generic.allocatedPerResponse());
+    }
+
+    private Result measure(String name, JsonMapper mapper, UserOrdersResponse response) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.writeValue(OutputStream.nullOutputStream(), response);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            mapper.writeValue(OutputStream.nullOutputStream(), response);
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(name, MEASURED_ROUNDS * 1_000_000_000.0 / elapsed, allocated / MEASURED_ROUNDS);
+    }
+
+    private static UserOrdersResponse sampleResponse() {
+        LocalDateTime base = LocalDateTime.parse("2026-01-01T09:00:00.123456");
+        DeliveryStatus[] statuses = DeliveryStatus.values();
+        List<CreateOrderResponse> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(new CreateOrderResponse(
+                    (long) i,
+                    1L,
+                    "상품-" + (i % 100),
+                    1 + i % 5,
+                    "서울시 강남구 테헤란로 " + i,
+                    statuses[i % statuses.length],
+                    base.plusSeconds(i * 37L)
+            ));
+        }
+        return new UserOrdersResponse(1L, "홍길동", ORDERS, orders);
+    }
+
+    private record Result(String name, double responsesPerSecond, long allocatedPerResponse) {
+
+        void print() {
+            System.out.printf("%-8s %12.1f %14d%n", name, responsesPerSecond, allocatedPerResponse);
+        }
+    }
+}
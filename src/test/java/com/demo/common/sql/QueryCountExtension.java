@@ -0,0 +1,41 @@
+package com.demo.common.sql;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/*
+ * 테스트 메서드에 QueryCount 파라미터를 주입하고, 각 테스트 시작 시 SQL 문 수를 0으로 맞춘다.
+ * 준비(given) 단계의 쿼리를 빼려면 검증할 호출 직전에 queries.reset()을 부른다.
+ *
+ * 카운터는 스레드 로컬이므로 테스트 스레드에서 직접 호출한 서비스의 쿼리만 센다.
+ */
+public class QueryCountExtension implements BeforeEachCallback, ParameterResolver {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementCounter.reset();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCount.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return new QueryCount();
+    }
+
+    public static final class QueryCount {
+
+        public void reset() {
+            SqlStatementCounter.reset();
+        }
+
+        public long count() {
+            return SqlStatementCounter.current();
+        }
+    }
+}
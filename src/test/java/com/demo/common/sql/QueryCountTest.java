@@ -0,0 +1,107 @@
+package com.demo.common.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.demo.common.sql.QueryCountExtension.QueryCount;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.dto.ProductResponse;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.dto.CreateUserResponse;
+import com.demo.user.service.UserService;
+
+/*
+ * 주요 경로의 SQL 문 수를 정확히 고정한다. N+1 등으로 수가 늘면 이 테스트가 깨진다.
+ *
+ * - 커밋 시점의 flush(UPDATE)까지 세야 하므로 @Transactional을 붙이지 않는다.
+ *   데이터가 커밋되어 남으므로 이메일/상품명은 테스트마다 다르게 만든다.
+ */
+@SpringBootTest
+@ExtendWith(QueryCountExtension.class)
+class QueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("단건 주문 → 조건부 재고 UPDATE, 주문 INSERT (2회)")
+    void placeOrder_twoStatements(QueryCount queries) {
+        CreateUserResponse user = registerUser();
+        ProductResponse product = addProduct();
+
+        queries.reset();
+        orderService.placeOrder(new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시"));
+
+        assertThat(queries.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문 취소 → 취소 정보 조회, 조건부 상태 UPDATE, 재고 UPDATE (3회)")
+    void cancelOrder_threeStatements(QueryCount queries) {
+        CreateUserResponse user = registerUser();
+        ProductResponse product = addProduct();
+        Long orderId = orderService.placeOrder(
+                new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시")).orderId();
+
+        queries.reset();
+        orderService.cancelOrder(orderId);
+
+        assertThat(queries.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("주문 이력 → 사용자 조회, 주문 조회, 아카이브 조회 (주문 수와 무관하게 3회)")
+    void getUserOrders_threeStatements(QueryCount queries) {
+        CreateUserResponse user = registerUser();
+        ProductResponse product = addProduct();
+        for (int i = 0; i < 3; i++) {
+            orderService.placeOrder(new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시"));
+        }
+
+        queries.reset();
+        userService.getUserOrders(user.userId());
+
+        assertThat(queries.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("어드민 전체 배송 현황 → 사용자 조회, 주문 조회 (사용자 수와 무관하게 2회)")
+    void getAllUsersDeliveryStatus_twoStatements(QueryCount queries) {
+        ProductResponse product = addProduct();
+        for (int i = 0; i < 3; i++) {
+            CreateUserResponse user = registerUser();
+            orderService.placeOrder(new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시"));
+        }
+
+        queries.reset();
+        userService.getAllUsersDeliveryStatus();
+
+        assertThat(queries.count()).isEqualTo(2);
+    }
+
+    private CreateUserResponse registerUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userService.registerUser(new CreateUserRequest("쿼리수" + suffix, "qc-" + suffix + "@example.com", "pass1234"));
+    }
+
+    private ProductResponse addProduct() {
+        return productService.addProduct(
+                new CreateProductRequest("쿼리수상품-" + UUID.randomUUID().toString().substring(0, 8), 10000, 100));
+    }
+}
@@ -0,0 +1,90 @@
+package com.demo.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.demo.common.web.RequestPriority.Level;
+import com.demo.config.ConcurrencyLimitProperties;
+
+/*
+ * 한도 계산만 검증한다. 응답 시간은 release()에 직접 넘긴다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit) {
+        return new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(true, initialLimit, minLimit, 100, 1.5, 0.2, 0.8, 0.5));
+    }
+
+    @Test
+    @DisplayName("우선순위 → LOW는 한도의 50%, NORMAL은 80%, CRITICAL은 100%까지")
+    void tryAcquire_prioritySharesOfLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 4);
+
+        assertThat(acquireAll(limiter, Level.LOW)).isEqualTo(5);
+        assertThat(acquireAll(limiter, Level.NORMAL)).isEqualTo(3);
+        assertThat(acquireAll(limiter, Level.CRITICAL)).isEqualTo(2);
+        assertThat(limiter.tryAcquire(Level.CRITICAL)).isFalse();
+
+        limiter.release(millis(10), false);
+        assertThat(limiter.tryAcquire(Level.LOW)).isFalse();
+        assertThat(limiter.tryAcquire(Level.CRITICAL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("지연 안정 → 한도 증가, 지연 증가 → 최소 한도까지 감소, 회복 → 다시 증가")
+    void release_adjustsLimitByLatencyGradient() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 8);
+        // 한도의 절반 이상을 계속 쓰고 있어야 한도가 늘어난다.
+        for (int i = 0; i < 7; i++) {
+            limiter.tryAcquire(Level.CRITICAL);
+        }
+
+        sample(limiter, 10, 200);
+        int grown = limiter.limit();
+        assertThat(grown).isGreaterThan(10);
+
+        sample(limiter, 100, 200);
+        assertThat(limiter.limit()).isEqualTo(8);
+
+        sample(limiter, 10, 200);
+        assertThat(limiter.limit()).isGreaterThan(8);
+    }
+
+    @Test
+    @DisplayName("실패 응답 → 한도 감소")
+    void release_failureShrinksLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40, 4);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire(Level.CRITICAL);
+            limiter.release(millis(1), true);
+        }
+
+        assertThat(limiter.limit()).isLessThan(40);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private static int acquireAll(AdaptiveConcurrencyLimiter limiter, Level priority) {
+        int acquired = 0;
+        while (limiter.tryAcquire(priority)) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    private static void sample(AdaptiveConcurrencyLimiter limiter, long rttMillis, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(limiter.tryAcquire(Level.CRITICAL)).isTrue();
+            limiter.release(millis(rttMillis), false);
+        }
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,102 @@
+package com.demo.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.demo.common.web.RequestPriority.Level;
+import com.demo.config.ConcurrencyLimitProperties;
+
+/*
+ * 과부하 부하 테스트: 처리 용량의 1배/2배로 요청을 보내고(open-loop, 응답을 기다리지 않고 일정 간격으로 도착)
+ * 제한 시간 안에 끝난 요청 수(goodput)를 비교한다. 실행: ./gradlew benchmark
+ *
+ * - 서버는 작업자 WORKERS개가 요청 하나를 SERVICE_MS씩 처리하는 모델이다 (DB 커넥션 풀 + 쿼리 시간).
+ *   용량 = WORKERS / SERVICE_MS. 작업자를 기다리는 시간이 곧 큐 지연이다.
+ * - 한도가 없으면 2배 부하에서 큐가 계속 길어져 거의 모든 요청이 제한 시간을 넘긴다.
+ * - AdaptiveConcurrencyLimiter가 있으면 넘치는 요청은 바로 거절되고, 받은 요청은 제한 시간 안에 끝난다.
+ */
+@Tag("benchmark")
+class LoadSheddingBenchmark {
+
+    private static final int WORKERS = 8;
+    private static final long SERVICE_MS = 5;
+    private static final long DEADLINE_MS = 200;
+    private static final long DURATION_MS = 3_000;
+    private static final double CAPACITY_PER_SECOND = WORKERS * 1000.0 / SERVICE_MS;
+
+    @Test
+    void goodputAtTwiceCapacity() throws Exception {
+        Result unlimitedAtCapacity = run("unlimited", 1.0, false);
+        Result unlimitedOverload = run("unlimited", 2.0, false);
+        Result limitedAtCapacity = run("adaptive", 1.0, true);
+        Result limitedOverload = run("adaptive", 2.0, true);
+
+        System.out.printf("%-10s %6s %12s %12s %10s%n", "mode", "load", "offered/s", "goodput/s", "shed");
+        unlimitedAtCapacity.print();
+        unlimitedOverload.print();
+        limitedAtCapacity.print();
+        limitedOverload.print();
+
+        assertThat(limitedOverload.goodputPerSecond())
+                .isGreaterThan(limitedAtCapacity.goodputPerSecond() * 0.8)
+                .isGreaterThan(unlimitedOverload.goodputPerSecond());
+    }
+
+    private Result run(String mode, double loadFactor, boolean limited) throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(limited, 20, 4, 400, 1.5, 0.2, 0.8, 0.5));
+        Semaphore workers = new Semaphore(WORKERS, true);
+        AtomicLong good = new AtomicLong();
+        AtomicLong shed = new AtomicLong();
+
+        double offeredPerSecond = CAPACITY_PER_SECOND * loadFactor;
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / offeredPerSecond);
+        long requests = (long) (offeredPerSecond * DURATION_MS / 1000);
+        long deadlineNanos = TimeUnit.MILLISECONDS.toNanos(DEADLINE_MS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; i < requests; i++) {
+                long arrival = start + i * intervalNanos;
+                LockSupport.parkNanos(arrival - System.nanoTime());
+                executor.submit(() -> {
+                    if (!limiter.tryAcquire(Level.CRITICAL)) {
+                        shed.incrementAndGet();
+                        return null;
+                    }
+                    long started = System.nanoTime();
+                    workers.acquire();
+                    try {
+                        Thread.sleep(SERVICE_MS);
+                    } finally {
+                        workers.release();
+                    }
+                    long finished = System.nanoTime();
+                    limiter.release(finished - started, false);
+                    if (finished - arrival <= deadlineNanos) {
+                        good.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+        return new Result(mode, loadFactor, offeredPerSecond, good.get() * 1000.0 / DURATION_MS, shed.get());
+    }
+
+    private record Result(String mode, double loadFactor, double offeredPerSecond, double goodputPerSecond,
+                          long shed) {
+
+        void print() {
+            System.out.printf("%-10s %5.1fx %12.0f %12.0f %10d%n", mode, loadFactor, offeredPerSecond, goodputPerSecond, shed);
+        }
+    }
+}
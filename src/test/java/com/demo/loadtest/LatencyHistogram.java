@@ -0,0 +1,72 @@
+package com.demo.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그-선형 버킷 지연 히스토그램 (마이크로초 단위, 상대 오차 약 1.6%).
+ * 128µs 미만은 1µs 단위로, 그 이상은 2의 거듭제곱 구간마다 64칸으로 나눈다. 여러 스레드가 동시에 기록해도 된다.
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR + MAX_SHIFT * SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(index(micros));
+        total.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    long maxMicros() {
+        return max.get();
+    }
+
+    /**
+     * quantile(0~1) 지점의 지연. 버킷 상한을 돌려주므로 실제 값보다 약간 크거나 같다.
+     */
+    long percentileMicros(double quantile) {
+        long n = total.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * n));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int index(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+        // 최상위 비트 아래 6비트를 남기도록 민다 → sub는 64..127
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(micros) - 6, MAX_SHIFT);
+        long sub = Math.min(micros >>> shift, 2L * SUB_BUCKETS - 1);
+        return LINEAR + (shift - 1) * SUB_BUCKETS + (int) (sub - SUB_BUCKETS);
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+        long sub = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,53 @@
+package com.demo.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("1~10000ms 균등 분포 → 백분위가 2% 오차 안")
+    void percentiles_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 10_000; millis++) {
+            histogram.recordNanos(millis * 1_000_000);
+        }
+
+        assertThat(histogram.count()).isEqualTo(10_000);
+        assertThat(histogram.percentileMicros(0.50)).isCloseTo(5_000_000L, within(100_000L));
+        assertThat(histogram.percentileMicros(0.99)).isCloseTo(9_900_000L, within(198_000L));
+        assertThat(histogram.percentileMicros(0.999)).isCloseTo(9_990_000L, within(199_800L));
+        assertThat(histogram.percentileMicros(1.0)).isEqualTo(histogram.maxMicros()).isEqualTo(10_000_000L);
+    }
+
+    @Test
+    @DisplayName("버킷 경계 → 값이 자기 버킷 상한 이하, 이전 버킷 상한 초과")
+    void bucketBounds_containValue() {
+        for (long micros : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000, 65_535, 1_000_000_007L}) {
+            int index = LatencyHistogram.index(micros);
+            assertThat(LatencyHistogram.upperBound(index)).isGreaterThanOrEqualTo(micros);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBound(index - 1)).isLessThan(micros);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Zipf 샘플러 → 1위가 2위의 약 2^s배, 범위 밖 없음")
+    void zipfSampler_skew() {
+        ZipfSampler sampler = new ZipfSampler(100, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[100];
+        for (int i = 0; i < 200_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        assertThat((double) counts[0] / counts[1]).isCloseTo(2.0, within(0.15));
+        assertThat(counts[0]).isGreaterThan(counts[99] * 50);
+    }
+}
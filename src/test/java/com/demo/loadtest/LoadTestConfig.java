@@ -0,0 +1,70 @@
+package com.demo.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 한 번의 설정.
+ *
+ * @param virtualUsers    동시에 요청을 처리 중일 수 있는 가상 사용자 수. 모두 바쁘면 도착한 요청은 기다리고, 기다린 시간도 지연에 포함된다.
+ * @param arrivalRate     초당 도착 요청 수 (open-loop, 포아송 도착). 응답 속도와 무관하게 일정하게 도착한다.
+ * @param duration        요청을 보내는 시간
+ * @param products        상품 수. 인기도는 순위에 대해 Zipf 분포를 따른다 (0번이 가장 인기).
+ * @param zipfExponent    Zipf 지수. 클수록 상위 상품에 몰린다 (0이면 균등).
+ * @param initialStock    상품별 초기 재고
+ * @param users           주문하는 사용자 계정 수
+ * @param placeWeight     단건 주문 비중
+ * @param cancelWeight    최근 주문 취소 비중
+ * @param pollWeight      최근 주문 배송 상태 조회 비중
+ * @param adminWeight     어드민 전체 배송 현황 비중
+ * @param shardedProducts 재고 샤드를 켤 상위 상품 수 (0이면 샤딩하지 않음)
+ * @param shardCount      샤딩한 상품의 샤드 수
+ * @param seed            요청 순서/대상 선택용 난수 시드
+ */
+public record LoadTestConfig(
+        int virtualUsers,
+        double arrivalRate,
+        Duration duration,
+        int products,
+        double zipfExponent,
+        int initialStock,
+        int users,
+        int placeWeight,
+        int cancelWeight,
+        int pollWeight,
+        int adminWeight,
+        int shardedProducts,
+        int shardCount,
+        long seed
+) {
+
+    /**
+     * 시스템 프로퍼티(loadtest.*)로 기본값을 덮어쓴다. ./gradlew benchmark -Ploadtest.arrivalRate=800 처럼 넘긴다.
+     */
+    public LoadTestConfig withSystemOverrides() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.virtualUsers", virtualUsers),
+                doubleProperty("loadtest.arrivalRate", arrivalRate),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", duration.toSeconds())),
+                Integer.getInteger("loadtest.products", products),
+                doubleProperty("loadtest.zipfExponent", zipfExponent),
+                Integer.getInteger("loadtest.initialStock", initialStock),
+                Integer.getInteger("loadtest.users", users),
+                Integer.getInteger("loadtest.placeWeight", placeWeight),
+                Integer.getInteger("loadtest.cancelWeight", cancelWeight),
+                Integer.getInteger("loadtest.pollWeight", pollWeight),
+                Integer.getInteger("loadtest.adminWeight", adminWeight),
+                Integer.getInteger("loadtest.shardedProducts", shardedProducts),
+                Integer.getInteger("loadtest.shardCount", shardCount),
+                Long.getLong("loadtest.seed", seed)
+        );
+    }
+
+    int totalWeight() {
+        return placeWeight + cancelWeight + pollWeight + adminWeight;
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.demo.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과. 지연은 "예정된 도착 시각"부터 잰다 (가상 사용자를 기다린 시간 포함 → coordinated omission 없음).
+ *
+ * @param operations 연산별 결과 (place/cancel/poll/admin 순)
+ * @param elapsed    첫 도착부터 마지막 응답까지 걸린 시간
+ * @param violations 재고 정합성 위반 (초과 판매, 음수 재고, 합계 불일치). 비어 있어야 한다.
+ * @param failures   failed로 센 예외의 종류별 첫 건 ("연산: 예외"). 실패 원인을 보고서만으로 알 수 있게 남긴다.
+ */
+public record LoadTestReport(Map<Operation, OperationStats> operations, Duration elapsed, List<String> violations,
+                             List<String> failures) {
+
+    public enum Operation {
+        PLACE, CANCEL, POLL, ADMIN
+    }
+
+    /**
+     * @param succeeded 성공
+     * @param rejected  업무 규칙으로 거절 (재고 부족, 이미 취소된 주문 등)
+     * @param failed    그 밖의 예외 (락 타임아웃, 교착 상태 등)
+     */
+    public record OperationStats(long succeeded, long rejected, long failed, long p50Micros, long p99Micros,
+                                 long p999Micros, long maxMicros) {
+
+        public long total() {
+            return succeeded + rejected + failed;
+        }
+    }
+
+    public OperationStats stats(Operation operation) {
+        return operations.get(operation);
+    }
+
+    public long completed() {
+        return operations.values().stream().mapToLong(OperationStats::total).sum();
+    }
+
+    public double throughputPerSecond() {
+        return completed() * 1_000_000_000.0 / Math.max(1, elapsed.toNanos());
+    }
+
+    public void print(String title, PrintStream out) {
+        out.printf("== %s: %d requests in %d ms (%.1f req/s)%n",
+                title, completed(), elapsed.toMillis(), throughputPerSecond());
+        out.printf("%-7s %8s %8s %8s %10s %10s %10s %10s%n",
+                "op", "ok", "rejected", "failed", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        operations.forEach((operation, stats) -> out.printf("%-7s %8d %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                operation.name().toLowerCase(), stats.succeeded(), stats.rejected(), stats.failed(),
+                stats.p50Micros() / 1000.0, stats.p99Micros() / 1000.0, stats.p999Micros() / 1000.0,
+                stats.maxMicros() / 1000.0));
+        failures.forEach(failure -> out.println("first failure: " + failure));
+        if (violations.isEmpty()) {
+            out.println("stock consistency: OK");
+        } else {
+            violations.forEach(violation -> out.println("stock consistency VIOLATION: " + violation));
+        }
+    }
+}
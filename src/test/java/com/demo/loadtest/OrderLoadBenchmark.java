@@ -0,0 +1,90 @@
+package com.demo.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.demo.order.service.OrderService;
+import com.demo.product.service.ProductService;
+import com.demo.product.service.StockShardService;
+import com.demo.user.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/*
+ * 주문 경로 부하 벤치마크. 지연 분포(p50/p99/p999), 처리량, 재고 정합성을 출력한다.
+ * 실행: ./gradlew benchmark --tests '*OrderLoadBenchmark' [-Ploadtest.arrivalRate=800 -Ploadtest.shardedProducts=0 ...]
+ *
+ * - 설정은 LoadTestConfig의 loadtest.* 프로퍼티로 바꾼다. 경합 전략 비교는 같은 시드로
+ *   shardedProducts/shardCount, zipfExponent만 바꿔 가며 돌린다.
+ * - 로컬 MySQL로 돌리려면 -Ploadtest.profile=mysql (application-mysql.yml):
+ *   docker run -d --name loadtest-mysql -e MYSQL_ROOT_PASSWORD=1234 -e MYSQL_DATABASE=loadtest -p 3306:3306 mysql:8.4
+ * - 샤드 재분배가 실제처럼 돌도록 주기를 2초로 되돌린다. 커넥션 풀은 가상 사용자 수에 맞춘다.
+ * - 끝에 주문 단계별 시간(order.place.phase)과 커넥션 점유 시간(hikaricp.connections.usage)을 출력한다.
+ *   stock-lock이 주문 하나가 재고 행 락을 잡고 있던 시간이다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "app.stock-shard.rebalance-interval=2s",
+        "spring.datasource.hikari.maximum-pool-size=${loadtest.poolSize:32}"
+})
+class OrderLoadBenchmark {
+
+    private static final LoadTestConfig DEFAULTS = new LoadTestConfig(
+            64, 500, Duration.ofSeconds(15),
+            100, 1.1, 500, 500,
+            60, 10, 25, 5,
+            0, 8, 7L
+    );
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void orderMix() throws InterruptedException {
+        LoadTestConfig config = DEFAULTS.withSystemOverrides();
+        System.out.println(config);
+
+        LoadTestReport report = new OrderLoadHarness(orderService, userService, productService, stockShardService,
+                dataSource).run(config);
+        report.print("order mix", System.out);
+        for (Timer timer : meterRegistry.find("order.place.phase").timers()) {
+            printTimer("phase " + timer.getId().getTag("phase"), timer);
+        }
+        for (Timer timer : meterRegistry.find("hikaricp.connections.usage").timers()) {
+            printTimer("pool " + timer.getId().getTag("pool") + " connection usage", timer);
+        }
+
+        assertThat(report.violations()).isEmpty();
+    }
+
+    private static void printTimer(String name, Timer timer) {
+        System.out.printf("%-36s count=%d mean=%.3fms max=%.3fms%n", name, timer.count(),
+                timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,263 @@
+package com.demo.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.loadtest.LoadTestReport.Operation;
+import com.demo.loadtest.LoadTestReport.OperationStats;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+import com.demo.product.service.StockShardService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/**
+ * 주문 경로 부하 테스트 하네스. 서비스 빈을 직접 호출하므로 DB 경합(락/조건부 UPDATE/샤드)만 본다.
+ *
+ * [도착] open-loop: 생성 스레드가 포아송 간격으로 예정 시각을 정하고, 응답을 기다리지 않고 다음 요청을 낸다.
+ *   요청마다 가상 스레드를 띄우고 가상 사용자 수(세마포어)만큼만 동시에 실행한다.
+ * [대상] 상품은 Zipf 분포, 사용자는 균등. 취소/조회는 최근 주문 중에서 고른다.
+ * [검증] 끝난 뒤 DB에서 상품마다 풀 + 샤드 + 판매(취소 제외) = 초기 재고, 음수 재고 없음을 확인한다.
+ *
+ * 실행마다 새 상품/사용자를 만들므로 같은 DB에서 반복 실행해도 된다.
+ */
+public final class OrderLoadHarness {
+
+    private static final int RECENT_ORDERS = 4096;
+    private static final String SHIPPING_ADDRESS = "서울시 부하테스트구";
+
+    private final OrderService orderService;
+    private final UserService userService;
+    private final ProductService productService;
+    private final StockShardService stockShardService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLongArray recentOrders = new AtomicLongArray(RECENT_ORDERS);
+    private final AtomicLong recentCursor = new AtomicLong();
+    private final Map<String, String> firstFailures = new ConcurrentHashMap<>();
+
+    public OrderLoadHarness(OrderService orderService, UserService userService, ProductService productService,
+                            StockShardService stockShardService, DataSource dataSource) {
+        this.orderService = orderService;
+        this.userService = userService;
+        this.productService = productService;
+        this.stockShardService = stockShardService;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public LoadTestReport run(LoadTestConfig config) throws InterruptedException {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> productIds = createProducts(config, runId);
+        List<Long> userIds = createUsers(config, runId);
+
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+
+        ZipfSampler popularity = new ZipfSampler(productIds.size(), config.zipfExponent());
+        SplittableRandom random = new SplittableRandom(config.seed());
+        Semaphore virtualUsers = new Semaphore(config.virtualUsers());
+        double meanGapNanos = 1_000_000_000.0 / config.arrivalRate();
+
+        long started = System.nanoTime();
+        long end = started + config.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long scheduledAt = started;
+            while (scheduledAt < end) {
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = pick(config, random.nextInt(config.totalWeight()));
+                Long productId = productIds.get(popularity.sample(random));
+                Long userId = userIds.get(random.nextInt(userIds.size()));
+                long arrival = scheduledAt;
+                executor.submit(() -> execute(operation, userId, productId, arrival, virtualUsers, recorders));
+                // 뒤처져도 예정 시각은 그대로 둔다 → 밀린 요청은 바로 나가고 지연에 반영된다.
+                scheduledAt += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> stats.put(operation, recorder.stats()));
+        return new LoadTestReport(stats, elapsed, checkStock(config, productIds, stats),
+                List.copyOf(new TreeMap<>(firstFailures).values()));
+    }
+
+    private void execute(Operation operation, Long userId, Long productId, long arrival, Semaphore virtualUsers,
+                         Map<Operation, Recorder> recorders) {
+        Recorder recorder = recorders.get(operation);
+        try {
+            virtualUsers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            if (run(operation, userId, productId)) {
+                recorder.succeeded.incrementAndGet();
+            } else {
+                recorder.rejected.incrementAndGet();
+            }
+        } catch (InsufficientStockException | IllegalStateException e) {
+            recorder.rejected.incrementAndGet();
+        } catch (RuntimeException e) {
+            recorder.failed.incrementAndGet();
+            // 예외 종류마다 처음 한 건만 보고서에 남긴다.
+            firstFailures.putIfAbsent(e.getClass().getName(), operation.name().toLowerCase() + ": " + e);
+        } finally {
+            virtualUsers.release();
+            recorder.latency.recordNanos(System.nanoTime() - arrival);
+        }
+    }
+
+    /**
+     * @return false면 대상이 없어 실행하지 않은 것 (최근 주문이 아직 없는 취소/조회). 거절로 센다.
+     */
+    private boolean run(Operation operation, Long userId, Long productId) {
+        switch (operation) {
+            case PLACE -> {
+                long orderId = orderService.placeOrder(
+                        new CreateOrderRequest(userId, productId, 1, SHIPPING_ADDRESS)).orderId();
+                recentOrders.set((int) (recentCursor.getAndIncrement() % RECENT_ORDERS), orderId);
+            }
+            case CANCEL -> {
+                long orderId = recentOrder();
+                if (orderId == 0) {
+                    return false;
+                }
+                orderService.cancelOrder(orderId);
+            }
+            case POLL -> {
+                long orderId = recentOrder();
+                if (orderId == 0) {
+                    return false;
+                }
+                orderService.checkDeliveryStatus(orderId);
+            }
+            case ADMIN -> userService.getAllUsersDeliveryStatus();
+        }
+        return true;
+    }
+
+    private long recentOrder() {
+        long placed = Math.min(recentCursor.get(), RECENT_ORDERS);
+        return placed == 0 ? 0 : recentOrders.get(ThreadLocalRandom.current().nextInt((int) placed));
+    }
+
+    private static Operation pick(LoadTestConfig config, int roll) {
+        int bound = config.placeWeight();
+        if (roll < bound) {
+            return Operation.PLACE;
+        }
+        bound += config.cancelWeight();
+        if (roll < bound) {
+            return Operation.CANCEL;
+        }
+        bound += config.pollWeight();
+        return roll < bound ? Operation.POLL : Operation.ADMIN;
+    }
+
+    private List<Long> createProducts(LoadTestConfig config, String runId) {
+        List<Long> productIds = new ArrayList<>(config.products());
+        for (int rank = 0; rank < config.products(); rank++) {
+            Long productId = productService.addProduct(new CreateProductRequest(
+                    "load-" + runId + "-" + rank, 10000, config.initialStock())).productId();
+            if (rank < config.shardedProducts()) {
+                stockShardService.configure(productId, config.shardCount());
+            }
+            productIds.add(productId);
+        }
+        return productIds;
+    }
+
+    private List<Long> createUsers(LoadTestConfig config, String runId) {
+        List<Long> userIds = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            userIds.add(userService.registerUser(new CreateUserRequest(
+                    "load" + i, "load-" + runId + "-" + i + "@example.com", "pass1234")).userId());
+        }
+        return userIds;
+    }
+
+    private List<String> checkStock(LoadTestConfig config, List<Long> productIds, Map<Operation, OperationStats> stats) {
+        String in = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        Object[] args = productIds.toArray();
+
+        Map<Long, Integer> pool = new HashMap<>();
+        jdbcTemplate.query("SELECT id, stock - reserved_stock FROM products WHERE id IN (" + in + ")",
+                rs -> { pool.put(rs.getLong(1), rs.getInt(2)); }, args);
+        Map<Long, Integer> shardSum = new HashMap<>();
+        Map<Long, Integer> shardMin = new HashMap<>();
+        jdbcTemplate.query("SELECT product_id, SUM(stock), MIN(stock) FROM product_stock_shards "
+                + "WHERE product_id IN (" + in + ") GROUP BY product_id", rs -> {
+            shardSum.put(rs.getLong(1), rs.getInt(2));
+            shardMin.put(rs.getLong(1), rs.getInt(3));
+        }, args);
+        Map<Long, Integer> sold = new HashMap<>();
+        jdbcTemplate.query("SELECT product_id, SUM(quantity) FROM orders WHERE product_id IN (" + in + ") "
+                + "AND delivery_status <> 'CANCELLED' GROUP BY product_id",
+                rs -> { sold.put(rs.getLong(1), rs.getInt(2)); }, args);
+
+        List<String> violations = new ArrayList<>();
+        long soldTotal = 0;
+        for (Long productId : productIds) {
+            int poolStock = pool.getOrDefault(productId, 0);
+            int shards = shardSum.getOrDefault(productId, 0);
+            int soldQuantity = sold.getOrDefault(productId, 0);
+            soldTotal += soldQuantity;
+            if (poolStock < 0 || shardMin.getOrDefault(productId, 0) < 0) {
+                violations.add("product %d: negative stock (pool %d, min shard %d)"
+                        .formatted(productId, poolStock, shardMin.getOrDefault(productId, 0)));
+            }
+            if (poolStock + shards + soldQuantity != config.initialStock()) {
+                violations.add("product %d: pool %d + shards %d + sold %d != initial %d"
+                        .formatted(productId, poolStock, shards, soldQuantity, config.initialStock()));
+            }
+        }
+        long acknowledged = stats.get(Operation.PLACE).succeeded() - stats.get(Operation.CANCEL).succeeded();
+        if (soldTotal != acknowledged) {
+            violations.add("sold %d in DB != %d acknowledged orders".formatted(soldTotal, acknowledged));
+        }
+        return violations;
+    }
+
+    private static final class Recorder {
+
+        final AtomicLong succeeded = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        OperationStats stats() {
+            return new OperationStats(succeeded.get(), rejected.get(), failed.get(),
+                    latency.percentileMicros(0.50), latency.percentileMicros(0.99), latency.percentileMicros(0.999),
+                    latency.maxMicros());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.demo.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.demo.loadtest.LoadTestReport.Operation;
+import com.demo.order.service.OrderService;
+import com.demo.product.service.ProductService;
+import com.demo.product.service.StockShardService;
+import com.demo.user.service.UserService;
+
+/*
+ * CI용 짧은 부하 테스트 (H2). 인기 상품이 품절될 만큼 재고를 작게 잡고 초과 판매가 없는지만 본다.
+ * 수치 비교는 OrderLoadBenchmark로 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class OrderLoadSmokeTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Zipf 분포 주문/취소/조회/어드민 혼합 부하 → 초과 판매 없음, 예외 없음")
+    void mixedLoad_noOversell() throws InterruptedException {
+        LoadTestConfig config = new LoadTestConfig(
+                16, 200, Duration.ofSeconds(2),
+                20, 1.1, 30, 20,
+                60, 10, 25, 5,
+                2, 4, 42L
+        );
+
+        LoadTestReport report = new OrderLoadHarness(orderService, userService, productService, stockShardService,
+                dataSource).run(config);
+        report.print("smoke", System.out);
+
+        assertThat(report.violations()).isEmpty();
+        assertThat(report.stats(Operation.PLACE).succeeded()).isPositive();
+        assertThat(report.stats(Operation.PLACE).rejected()).as("인기 상품은 품절까지 팔린다").isPositive();
+        assertThat(report.failures()).isEmpty();
+        assertThat(report.operations().values()).allSatisfy(stats -> assertThat(stats.failed()).isZero());
+    }
+}
@@ -1,26 +1,47 @@
 package com.demo.order.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.demo.common.cache.LocalCacheInvalidationBus;
+import com.demo.common.exception.TooManyRequestsException;
+import com.demo.common.web.EntityVersionRegistry;
+import com.demo.order.dto.CheckoutLineResponse;
+import com.demo.order.dto.CheckoutResponse;
 import com.demo.order.dto.CreateOrderResponse;
 import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.OrderStatusEventResponse;
+import com.demo.order.dto.OrderTimelineResponse;
+import com.demo.order.dto.ProductRecallResponse;
 import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.event.OrderChangedEvent;
+import com.demo.order.service.OrderAdmission;
 import com.demo.order.service.OrderService;
+import com.demo.order.service.ProductRecall;
+import com.demo.product.service.SoldOutRegistry;
+import com.demo.user.entity.Role;
 
 @WebMvcTest(OrderController.class)
+@Import({EntityVersionRegistry.class, LocalCacheInvalidationBus.class})
 class OrderControllerTest {
 
     @Autowired
@@ -29,6 +50,18 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private SoldOutRegistry soldOutRegistry;
+
+    @MockitoBean
+    private OrderAdmission orderAdmission;
+
+    @MockitoBean
+    private ProductRecall productRecall;
+
+    @Autowired
+    private EntityVersionRegistry entityVersionRegistry;
+
     @Test
     void placeOrder_returnsCreatedOrder() throws Exception {
         when(orderService.placeOrder(org.mockito.ArgumentMatchers.any()))
@@ -57,6 +90,97 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.deliveryStatus").value("ORDERED"));
     }
 
+    @Test
+    void placeOrder_soldOutProduct_rejectedWithoutCallingService() throws Exception {
+        when(soldOutRegistry.isObviouslyUnavailable(1L, 1)).thenReturn(true);
+        when(soldOutRegistry.knownStock(1L)).thenReturn(0);
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "userId": 1,
+                                  "productId": 1,
+                                  "quantity": 1,
+                                  "shippingAddress": "서울시 강남구"
+                                }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void placeOrder_shippingAddressTooLong_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "userId": 1,
+                                  "productId": 1,
+                                  "quantity": 1,
+                                  "shippingAddress": "%s"
+                                }
+                                """.formatted("서".repeat(256))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void checkout_returnsCreatedCartOrder() throws Exception {
+        when(orderService.checkout(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(new CheckoutResponse(
+                        7L,
+                        1L,
+                        List.of(
+                                new CheckoutLineResponse(11L, 1L, "노트북", 1),
+                                new CheckoutLineResponse(12L, 2L, "마우스", 2)
+                        ),
+                        "서울시 강남구",
+                        DeliveryStatus.ORDERED,
+                        LocalDateTime.parse("2026-01-01T09:00:00")
+                ));
+
+        mockMvc.perform(post("/api/orders/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "userId": 1,
+                                  "items": [
+                                    { "productId": 1, "quantity": 1 },
+                                    { "productId": 2, "quantity": 2 }
+                                  ],
+                                  "shippingAddress": "서울시 강남구"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.cartOrderId").value(7))
+                .andExpect(jsonPath("$.lines.length()").value(2))
+                .andExpect(jsonPath("$.lines[0].orderId").value(11));
+    }
+
+    @Test
+    void placeOrder_overAdmissionLimit_returnsTooManyRequestsWithoutCallingService() throws Exception {
+        when(orderAdmission.admit(eq(1L), any()))
+                .thenThrow(new TooManyRequestsException("주문 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", 2));
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "userId": 1,
+                                  "productId": 1,
+                                  "quantity": 1,
+                                  "shippingAddress": "서울시 강남구"
+                                }
+                                """))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        verifyNoInteractions(orderService);
+    }
+
     @Test
     void checkDeliveryStatus_returnsCurrentState() throws Exception {
         when(orderService.checkDeliveryStatus(10L))
@@ -68,6 +192,28 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.deliveryStatus").value("SHIPPED"));
     }
 
+    @Test
+    void checkDeliveryStatus_matchingEtag_returnsNotModifiedWithoutLoading() throws Exception {
+        mockMvc.perform(get("/api/orders/10/delivery")
+                        .header("If-None-Match", entityVersionRegistry.orderEtag(10L)))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void checkDeliveryStatus_afterOrderChanged_etagChanges() throws Exception {
+        when(orderService.checkDeliveryStatus(10L))
+                .thenReturn(new DeliveryStatusResponse(10L, DeliveryStatus.DELIVERED, LocalDateTime.parse("2026-01-01T10:00:00")));
+        String before = entityVersionRegistry.orderEtag(10L);
+        entityVersionRegistry.afterOrderCommit(new OrderChangedEvent(10L, 1L));
+
+        mockMvc.perform(get("/api/orders/10/delivery").header("If-None-Match", before))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", entityVersionRegistry.orderEtag(10L)))
+                .andExpect(jsonPath("$.deliveryStatus").value("DELIVERED"));
+    }
+
     @Test
     void cancelOrder_returnsCancelledStatus() throws Exception {
         when(orderService.cancelOrder(5L))
@@ -78,4 +224,60 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.orderId").value(5))
                 .andExpect(jsonPath("$.deliveryStatus").value("CANCELLED"));
     }
+
+    @Test
+    void getTimeline_returnsCurrentStatusAndEvents() throws Exception {
+        when(orderService.getTimeline(5L)).thenReturn(new OrderTimelineResponse(5L, DeliveryStatus.SHIPPED, List.of(
+                new OrderStatusEventResponse(DeliveryStatus.ORDERED, LocalDateTime.parse("2026-01-01T10:00:00")),
+                new OrderStatusEventResponse(DeliveryStatus.PREPARING, LocalDateTime.parse("2026-01-01T12:00:00")),
+                new OrderStatusEventResponse(DeliveryStatus.SHIPPED, LocalDateTime.parse("2026-01-02T09:00:00")))));
+
+        mockMvc.perform(get("/api/orders/5/timeline"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentStatus").value("SHIPPED"))
+                .andExpect(jsonPath("$.events.length()").value(3))
+                .andExpect(jsonPath("$.events[0].status").value("ORDERED"))
+                .andExpect(jsonPath("$.events[2].status").value("SHIPPED"));
+    }
+
+    @Test
+    void recall_returnsCancelledTotals() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        session.setAttribute("role", Role.ROLE_ADMIN);
+        when(productRecall.cancelAllOrdered(3L)).thenReturn(new ProductRecallResponse(3L, 12, 15));
+
+        mockMvc.perform(post("/api/orders/recall")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productId": 3 }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cancelledOrders").value(12))
+                .andExpect(jsonPath("$.restockedQuantity").value(15));
+    }
+
+    @Test
+    void recall_notAdmin_returnsForbiddenWithoutCallingService() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 2L);
+        session.setAttribute("role", Role.ROLE_USER);
+
+        mockMvc.perform(post("/api/orders/recall")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productId": 3 }
+                                """))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/orders/recall")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "productId": 3 }
+                                """))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(productRecall);
+    }
 }
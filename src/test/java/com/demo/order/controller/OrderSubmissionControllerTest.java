@@ -0,0 +1,114 @@
+package com.demo.order.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.common.exception.OrderTicketNotFoundException;
+import com.demo.common.exception.TooManyRequestsException;
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.dto.OrderTicketResponse;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.service.OrderAdmission;
+import com.demo.order.service.OrderSubmissionQueue;
+import com.demo.order.service.OrderTicketStatus;
+import com.demo.product.service.SoldOutRegistry;
+
+@WebMvcTest(OrderSubmissionController.class)
+class OrderSubmissionControllerTest {
+
+    private static final String ORDER_JSON = """
+            {
+              "userId": 1,
+              "productId": 1,
+              "quantity": 1,
+              "shippingAddress": "서울시 강남구"
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderSubmissionQueue orderSubmissionQueue;
+
+    @MockitoBean
+    private SoldOutRegistry soldOutRegistry;
+
+    @MockitoBean
+    private OrderAdmission orderAdmission;
+
+    @Test
+    void submit_returnsAcceptedWithTicketLocation() throws Exception {
+        when(orderSubmissionQueue.submit(any()))
+                .thenReturn(new OrderTicketResponse("t-1", OrderTicketStatus.QUEUED, 3, null, null));
+
+        mockMvc.perform(post("/api/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/orders/async/t-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.queueDepth").value(3));
+    }
+
+    @Test
+    void submit_queueFull_returnsTooManyRequests() throws Exception {
+        when(orderSubmissionQueue.submit(any()))
+                .thenThrow(new TooManyRequestsException("주문 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.", 1));
+
+        mockMvc.perform(post("/api/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void submit_invalidRequest_notQueued() throws Exception {
+        mockMvc.perform(post("/api/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "userId": 1, "productId": 1, "quantity": 0, "shippingAddress": "" }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderSubmissionQueue);
+    }
+
+    @Test
+    void getTicket_completed_returnsOrderWithoutRetryAfter() throws Exception {
+        when(orderSubmissionQueue.getTicket("t-1"))
+                .thenReturn(new OrderTicketResponse("t-1", OrderTicketStatus.COMPLETED, 0,
+                        new CreateOrderResponse(22L, 1L, "노트북", 1, "서울시 강남구", DeliveryStatus.ORDERED,
+                                LocalDateTime.parse("2026-01-01T09:00:00")),
+                        null));
+
+        mockMvc.perform(get("/api/orders/async/t-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Retry-After"))
+                .andExpect(jsonPath("$.order.orderId").value(22));
+    }
+
+    @Test
+    void getTicket_unknown_returnsNotFound() throws Exception {
+        when(orderSubmissionQueue.getTicket("missing")).thenThrow(new OrderTicketNotFoundException("missing"));
+
+        mockMvc.perform(get("/api/orders/async/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
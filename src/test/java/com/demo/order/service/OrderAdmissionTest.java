@@ -0,0 +1,166 @@
+package com.demo.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.demo.common.exception.TooManyRequestsException;
+import com.demo.config.OrderAdmissionProperties;
+
+/*
+ * 유입 제한은 메모리만 사용하므로 스프링 컨텍스트 없이, 시계를 직접 움직이며 검증한다.
+ */
+class OrderAdmissionTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final Map<Long, Integer> shardCounts = new HashMap<>();
+
+    private OrderAdmission admission(double userRate, int userBurst, double productRate, int productBurst,
+                                     int productConcurrency) {
+        return new OrderAdmission(new OrderAdmissionProperties(
+                true, userRate, userBurst, productRate, productBurst, productConcurrency, Duration.ofMillis(10)
+        ), productId -> shardCounts.getOrDefault(productId, 0), clock::get);
+    }
+
+    @Test
+    @DisplayName("사용자 버킷 → 순간 허용량까지 통과, 이후 429, 시간이 지나면 다시 통과")
+    void userBucket_burstThenRefill() {
+        OrderAdmission admission = admission(1, 3, 1000, 1000, 10);
+
+        for (int i = 0; i < 3; i++) {
+            admission.admit(1L, List.of(10L + i)).close();
+        }
+        assertThatThrownBy(() -> admission.admit(1L, List.of(20L)))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(ex -> ((TooManyRequestsException) ex).getRetryAfterSeconds())
+                .isEqualTo(1L);
+        // 다른 사용자는 영향을 받지 않는다.
+        admission.admit(2L, List.of(20L)).close();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        admission.admit(1L, List.of(20L)).close();
+    }
+
+    @Test
+    @DisplayName("상품 버킷 → 여러 사용자가 같은 상품을 몰아 주문하면 429, 다른 상품은 통과")
+    void productBucket_limitsHotProductOnly() {
+        OrderAdmission admission = admission(1000, 1000, 1, 2, 10);
+
+        admission.admit(1L, List.of(7L)).close();
+        admission.admit(2L, List.of(7L)).close();
+        assertThatThrownBy(() -> admission.admit(3L, List.of(7L)))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        admission.admit(3L, List.of(8L)).close();
+    }
+
+    @Test
+    @DisplayName("상품 한도에 걸린 요청 → 사용자 토큰과 앞선 상품의 토큰은 돌려받는다")
+    void rejectedByProduct_refundsEarlierTokens() {
+        OrderAdmission admission = admission(1, 2, 1, 1, 10);
+
+        admission.admit(1L, List.of(7L)).close();
+        assertThatThrownBy(() -> admission.admit(1L, List.of(7L)))
+                .isInstanceOf(TooManyRequestsException.class);
+        // 거절된 요청은 사용자 버킷을 쓰지 않았으므로 순간 허용량 2의 두 번째 요청이 통과한다.
+        admission.admit(1L, List.of(8L)).close();
+
+        // 상품 6은 통과했지만 상품 7에서 거절된 장바구니 → 상품 6의 토큰을 돌려준다.
+        assertThatThrownBy(() -> admission.admit(2L, List.of(6L, 7L)))
+                .isInstanceOf(TooManyRequestsException.class);
+        admission.admit(3L, List.of(6L)).close();
+    }
+
+    @Test
+    @DisplayName("상품별 동시 처리 한도 → 자리가 없으면 대기 후 429, 반납하면 다시 통과")
+    void productConcurrency_rejectsWhenSlotsExhausted() {
+        OrderAdmission admission = admission(1000, 1000, 1000, 1000, 2);
+
+        OrderAdmission.Permit first = admission.admit(1L, List.of(7L));
+        OrderAdmission.Permit second = admission.admit(2L, List.of(7L, 6L));
+        assertThatThrownBy(() -> admission.admit(3L, List.of(7L, 6L)))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 실패한 요청은 먼저(id 오름차순) 잡은 상품 6의 자리를 돌려준다.
+        admission.admit(4L, List.of(6L)).close();
+        admission.admit(5L, List.of(6L)).close();
+
+        first.close();
+        admission.admit(3L, List.of(7L)).close();
+        second.close();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷 → 주기 정리에서 제거")
+    void evictIdle_removesFullBuckets() {
+        OrderAdmission admission = admission(1, 5, 1, 5, 10);
+        admission.admit(1L, List.of(7L)).close();
+        assertThat(admission.trackedLimiters()).isEqualTo(2);
+
+        admission.evictIdle();
+        assertThat(admission.trackedLimiters()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        admission.evictIdle();
+        assertThat(admission.trackedLimiters()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 샤드 수만큼 상품별 처리량이 늘어난다 (1초 동안 1ms마다 요청)")
+    void productBucket_scalesWithShardCount() {
+        shardCounts.put(2L, 2);
+        shardCounts.put(4L, 4);
+        OrderAdmission admission = admission(1_000_000, 1_000_000, 100, 10, 1000);
+
+        int[] admitted = new int[5];
+        for (int tick = 0; tick < 1000; tick++) {
+            for (long productId : new long[]{1L, 2L, 4L}) {
+                try {
+                    admission.admit(tick * 10L + productId, List.of(productId)).close();
+                    admitted[(int) productId]++;
+                } catch (TooManyRequestsException e) {
+                    // 거절은 세기만 한다.
+                }
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        // 샤드 없음: 순간 허용량 10 + 초당 100 ≈ 110
+        assertThat(admitted[1]).isBetween(105, 115);
+        assertThat(admitted[2]).isBetween(admitted[1] * 2 - 5, admitted[1] * 2 + 5);
+        assertThat(admitted[4]).isBetween(admitted[1] * 4 - 10, admitted[1] * 4 + 10);
+    }
+
+    @Test
+    @DisplayName("재고 샤드 수만큼 상품별 동시 처리 자리가 늘어난다")
+    void productConcurrency_scalesWithShardCount() {
+        OrderAdmission admission = admission(1000, 1000, 1000, 1000, 2);
+        assertThat(heldSlots(admission, 7L)).isEqualTo(2);
+
+        shardCounts.put(8L, 3);
+        assertThat(heldSlots(admission, 8L)).isEqualTo(6);
+    }
+
+    private int heldSlots(OrderAdmission admission, Long productId) {
+        List<OrderAdmission.Permit> held = new ArrayList<>();
+        try {
+            while (true) {
+                held.add(admission.admit(100L + held.size(), List.of(productId)));
+            }
+        } catch (TooManyRequestsException e) {
+            int count = held.size();
+            held.forEach(OrderAdmission.Permit::close);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.demo.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.UpdateDeliveryStatusRequest;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.dto.UserOrdersPageResponse;
+import com.demo.user.dto.UserOrdersResponse;
+import com.demo.user.service.UserService;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class OrderArchiveServiceIntegrationTest {
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+    private Long oldDeliveredOrderId;
+    private Long oldActiveOrderId;
+    private Long recentOrderId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.registerUser(
+                new CreateUserRequest("아카이브유저", "archive-test@example.com", "pass1234")
+        ).userId();
+        Long productId = productService.addProduct(
+                new CreateProductRequest("아카이브상품", 10000, 100)
+        ).productId();
+
+        oldDeliveredOrderId = orderService.placeOrder(
+                new CreateOrderRequest(userId, productId, 1, "서울시 강남구")).orderId();
+        oldActiveOrderId = orderService.placeOrder(
+                new CreateOrderRequest(userId, productId, 1, "서울시 서초구")).orderId();
+        recentOrderId = orderService.placeOrder(
+                new CreateOrderRequest(userId, productId, 1, "서울시 마포구")).orderId();
+
+        orderService.updateDeliveryStatus(oldDeliveredOrderId, new UpdateDeliveryStatusRequest(DeliveryStatus.DELIVERED));
+
+        // 보관 기간보다 오래된 주문으로 만든다.
+        entityManager.flush();
+        LocalDateTime longAgo = LocalDateTime.now().minus(OrderArchiveService.RETENTION).minusDays(1);
+        jdbcTemplate.update("UPDATE orders SET ordered_at = ? WHERE id IN (?, ?)",
+                longAgo, oldDeliveredOrderId, oldActiveOrderId);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 종료 주문만 아카이브로 이동")
+    void archive_movesOnlyOldFinishedOrders() {
+        int archived = orderArchiver.archiveOrdersBefore(LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(archived).isGreaterThanOrEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders_archive WHERE id = ?", Integer.class, oldDeliveredOrderId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE id IN (?, ?, ?)", Integer.class,
+                oldDeliveredOrderId, oldActiveOrderId, recentOrderId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아카이브 후에도 배송 상태 조회/전체 주문 이력은 그대로 보인다")
+    void archivedOrders_stillVisible() {
+        orderArchiver.archiveOrdersBefore(LocalDateTime.now());
+        entityManager.clear();
+
+        DeliveryStatusResponse status = orderService.checkDeliveryStatus(oldDeliveredOrderId);
+        assertThat(status.deliveryStatus()).isEqualTo(DeliveryStatus.DELIVERED);
+
+        UserOrdersResponse orders = userService.getUserOrders(userId);
+        assertThat(orders.totalOrders()).isEqualTo(3);
+        assertThat(orders.orders().get(0).orderId()).isEqualTo(recentOrderId);
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회 → 핫 테이블을 다 읽은 뒤 아카이브로 이어진다")
+    void pagedHistory_continuesIntoArchive() {
+        orderArchiver.archiveOrdersBefore(LocalDateTime.now());
+        entityManager.clear();
+
+        UserOrdersPageResponse first = userService.getUserOrderPage(userId, null, 1);
+        assertThat(first.orders()).extracting("orderId").containsExactly(recentOrderId);
+        assertThat(first.nextCursor()).isNotNull();
+
+        UserOrdersPageResponse second = userService.getUserOrderPage(userId, first.nextCursor(), 2);
+        assertThat(second.orders()).extracting("orderId")
+                .containsExactlyInAnyOrder(oldDeliveredOrderId, oldActiveOrderId);
+    }
+}
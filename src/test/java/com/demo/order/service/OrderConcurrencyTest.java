@@ -1,10 +1,14 @@
 package com.demo.order.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
@@ -12,14 +16,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutRequest;
 import com.demo.order.dto.CreateOrderRequest;
 import com.demo.product.dto.CreateProductRequest;
 import com.demo.product.dto.ProductResponse;
 import com.demo.product.service.ProductService;
+import com.demo.product.service.SoldOutRegistry;
 import com.demo.user.dto.CreateUserRequest;
 import com.demo.user.dto.CreateUserResponse;
 import com.demo.user.service.UserService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /*
  * ================================================
  * 동시성 테스트 (Concurrency Test)
@@ -53,6 +64,12 @@ class OrderConcurrencyTest {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private SoldOutRegistry soldOutRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @DisplayName("100명이 동시에 재고 100개 상품을 1개씩 주문 → 정확히 100개 성공, 재고 0개")
     void concurrentOrders_pessimisticLock_stockConsistency() throws InterruptedException {
@@ -148,4 +165,147 @@ class OrderConcurrencyTest {
         assertThat(failCount.get()).isEqualTo(90);
         assertThat(result.stock()).isZero();
     }
+
+    @Test
+    @DisplayName("품목 순서가 서로 반대인 장바구니 100건 동시 주문 → 교착 상태 없이 모두 성공")
+    void concurrentCheckouts_reversedItemOrder_noDeadlock() throws InterruptedException {
+        // given: 재고 100개 상품 2개
+        CreateUserResponse user = userService.registerUser(
+                new CreateUserRequest("장바구니테스트유저", "checkout-test@example.com", "pass1234")
+        );
+        Long userId = user.userId();
+
+        Long productA = productService.addProduct(new CreateProductRequest("장바구니상품A", 10000, 100)).productId();
+        Long productB = productService.addProduct(new CreateProductRequest("장바구니상품B", 20000, 100)).productId();
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when: 절반은 A→B, 절반은 B→A 순서로 담은 장바구니를 동시에 주문
+        for (int i = 0; i < threadCount; i++) {
+            List<CheckoutItemRequest> items = i % 2 == 0
+                    ? List.of(new CheckoutItemRequest(productA, 1), new CheckoutItemRequest(productB, 1))
+                    : List.of(new CheckoutItemRequest(productB, 1), new CheckoutItemRequest(productA, 1));
+            executorService.submit(() -> {
+                try {
+                    orderService.checkout(new CheckoutRequest(userId, items, "서울시 강남구"));
+                    successCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then: 모든 주문이 성공하고 두 상품 모두 재고 0
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(productService.getProduct(productA).stock()).isZero();
+        assertThat(productService.getProduct(productB).stock()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 주문을 10개 스레드가 동시에 취소 → 한 번만 성공, 재고도 한 번만 복구")
+    void concurrentCancels_sameOrder_restockOnce() throws InterruptedException {
+        // given: 재고 100개 상품에 3개 주문 → 재고 97
+        CreateUserResponse user = userService.registerUser(
+                new CreateUserRequest("동시취소유저", "concurrent-cancel@example.com", "pass1234")
+        );
+        ProductResponse product = productService.addProduct(
+                new CreateProductRequest("동시취소상품", 10000, 100)
+        );
+        Long orderId = orderService.placeOrder(
+                new CreateOrderRequest(user.userId(), product.productId(), 3, "서울시 강남구")
+        ).orderId();
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when: 같은 주문을 동시에 취소
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    orderService.cancelOrder(orderId);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // 다른 스레드가 먼저 취소했다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then: 취소는 한 번, 재고는 정확히 100
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(productService.getProduct(product.productId()).stock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("재고 부족으로 실패한 주문이 품절을 기록하고, 주문 취소로 재고가 복구되면 게이트가 풀린다")
+    void soldOutGate_tracksCommittedStock() {
+        // given: 재고 1개 상품
+        CreateUserResponse user = userService.registerUser(
+                new CreateUserRequest("품절게이트유저", "sold-out-gate@example.com", "pass1234")
+        );
+        ProductResponse product = productService.addProduct(
+                new CreateProductRequest("품절게이트상품", 10000, 1)
+        );
+
+        // when: 마지막 1개는 조건부 UPDATE로 차감되어 잔여 재고를 모른다 → 아직 기록 없음
+        Long orderId = orderService.placeOrder(
+                new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시 강남구")
+        ).orderId();
+
+        assertThat(soldOutRegistry.isObviouslyUnavailable(product.productId(), 1)).isFalse();
+
+        // when: 다음 주문이 상품 행을 잠그고 재고 0을 확인하면 → 품절로 기록
+        assertThatThrownBy(() -> orderService.placeOrder(
+                new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시 강남구")
+        )).isInstanceOf(InsufficientStockException.class);
+
+        assertThat(soldOutRegistry.isObviouslyUnavailable(product.productId(), 1)).isTrue();
+
+        // when: 주문 취소로 재고가 복구되면 → 게이트 해제
+        orderService.cancelOrder(orderId);
+
+        assertThat(soldOutRegistry.isObviouslyUnavailable(product.productId(), 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("단건 주문 → 단계별 시간(lookup/transaction/stock-lock)이 한 번씩 기록되고, 락 구간은 트랜잭션 구간보다 짧다")
+    void placeOrder_recordsPhaseTimers() {
+        Long userId = userService.registerUser(new CreateUserRequest(
+                "단계측정유저", "phase-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+        Long productId = productService.addProduct(
+                new CreateProductRequest("단계측정상품-" + UUID.randomUUID(), 10000, 10)).productId();
+        Timer lookup = phaseTimer("lookup");
+        Timer transaction = phaseTimer("transaction");
+        Timer stockLock = phaseTimer("stock-lock");
+        long lookupCount = lookup.count();
+        long transactionCount = transaction.count();
+        long stockLockCount = stockLock.count();
+        double transactionNanos = transaction.totalTime(TimeUnit.NANOSECONDS);
+        double stockLockNanos = stockLock.totalTime(TimeUnit.NANOSECONDS);
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+
+        assertThat(lookup.count()).isEqualTo(lookupCount + 1);
+        assertThat(transaction.count()).isEqualTo(transactionCount + 1);
+        assertThat(stockLock.count()).isEqualTo(stockLockCount + 1);
+        assertThat(stockLock.totalTime(TimeUnit.NANOSECONDS) - stockLockNanos)
+                .isLessThanOrEqualTo(transaction.totalTime(TimeUnit.NANOSECONDS) - transactionNanos);
+    }
+
+    private Timer phaseTimer(String phase) {
+        return meterRegistry.get("order.place.phase").tag("phase", phase).timer();
+    }
 }
@@ -2,6 +2,9 @@ package com.demo.order.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,15 +12,20 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.demo.common.exception.InsufficientStockException;
 import com.demo.common.exception.OrderNotFoundException;
 import com.demo.common.exception.ProductNotFoundException;
 import com.demo.common.exception.UserNotFoundException;
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutRequest;
+import com.demo.order.dto.CheckoutResponse;
 import com.demo.order.dto.CreateOrderRequest;
 import com.demo.order.dto.CreateOrderResponse;
 import com.demo.order.dto.DeliveryStatusResponse;
+import com.demo.order.dto.ProductRecallResponse;
 import com.demo.order.dto.UpdateDeliveryStatusRequest;
 import com.demo.order.entity.DeliveryStatus;
 import com.demo.product.dto.CreateProductRequest;
@@ -40,6 +48,9 @@ class OrderServiceIntegrationTest {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductRecall productRecall;
+
     private Long userId;
     private Long productId;
 
@@ -92,6 +103,17 @@ class OrderServiceIntegrationTest {
                     .isInstanceOf(UserNotFoundException.class);
         }
 
+        @Test
+        @DisplayName("사용자가 있는데 다른 제약 위반(배송지 길이 초과) → UserNotFoundException으로 바꾸지 않는다")
+        void placeOrder_otherConstraintViolation_isNotUserNotFound() {
+            CreateOrderRequest request = new CreateOrderRequest(
+                    userId, productId, 1, "서".repeat(300)
+            );
+
+            assertThatThrownBy(() -> orderService.placeOrder(request))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
         @Test
         @DisplayName("존재하지 않는 상품으로 주문 → ProductNotFoundException")
         void placeOrder_productNotFound_throwsException() {
@@ -115,6 +137,104 @@ class OrderServiceIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("장바구니 주문 (checkout)")
+    class CheckoutTest {
+
+        private Long secondProductId;
+
+        @BeforeEach
+        void setUp() {
+            secondProductId = productService.addProduct(
+                    new CreateProductRequest("매직 마우스", 120000, 10)
+            ).productId();
+        }
+
+        @Test
+        @DisplayName("여러 상품 주문 → 품목별 재고 감소, 같은 상품 중복 품목은 합산")
+        void checkout_success() {
+            CheckoutRequest request = new CheckoutRequest(
+                    userId,
+                    List.of(
+                            new CheckoutItemRequest(secondProductId, 2),
+                            new CheckoutItemRequest(productId, 1),
+                            new CheckoutItemRequest(secondProductId, 1)
+                    ),
+                    "서울시 강남구"
+            );
+
+            CheckoutResponse response = orderService.checkout(request);
+
+            assertThat(response.cartOrderId()).isNotNull();
+            assertThat(response.deliveryStatus()).isEqualTo(DeliveryStatus.ORDERED);
+            assertThat(response.lines())
+                    .extracting("productId", "quantity")
+                    .containsExactly(
+                            tuple(productId, 1),
+                            tuple(secondProductId, 3)
+                    );
+            assertThat(productService.getProduct(productId).stock()).isEqualTo(99);
+            assertThat(productService.getProduct(secondProductId).stock()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("장바구니 품목 → 일반 주문처럼 주문 목록/배송 상태 조회/취소 대상이 된다")
+        void checkout_linesAreOrders() {
+            CreateOrderResponse single = orderService.placeOrder(
+                    new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+            CheckoutResponse response = orderService.checkout(new CheckoutRequest(
+                    userId,
+                    List.of(new CheckoutItemRequest(productId, 2), new CheckoutItemRequest(secondProductId, 3)),
+                    "서울시 강남구"
+            ));
+            Long lineOrderId = response.lines().get(1).orderId();
+
+            assertThat(response.lines()).extracting("orderId").doesNotContain(single.orderId());
+            assertThat(userService.getUserOrders(userId).orders())
+                    .extracting("orderId")
+                    .containsExactlyInAnyOrder(single.orderId(), response.lines().get(0).orderId(), lineOrderId);
+            assertThat(orderService.checkDeliveryStatus(lineOrderId).deliveryStatus()).isEqualTo(DeliveryStatus.ORDERED);
+
+            orderService.cancelOrder(lineOrderId);
+
+            assertThat(orderService.checkDeliveryStatus(lineOrderId).deliveryStatus()).isEqualTo(DeliveryStatus.CANCELLED);
+            assertThat(productService.getProduct(secondProductId).stock()).isEqualTo(10);
+            assertThat(productService.getProduct(productId).stock()).isEqualTo(97);
+        }
+
+        @Test
+        @DisplayName("한 품목이라도 재고 부족 → InsufficientStockException")
+        void checkout_insufficientStock_throwsException() {
+            CheckoutRequest request = new CheckoutRequest(
+                    userId,
+                    List.of(
+                            new CheckoutItemRequest(productId, 1),
+                            new CheckoutItemRequest(secondProductId, 11)
+                    ),
+                    "서울시 강남구"
+            );
+
+            assertThatThrownBy(() -> orderService.checkout(request))
+                    .isInstanceOf(InsufficientStockException.class);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품 포함 → ProductNotFoundException")
+        void checkout_productNotFound_throwsException() {
+            CheckoutRequest request = new CheckoutRequest(
+                    userId,
+                    List.of(
+                            new CheckoutItemRequest(productId, 1),
+                            new CheckoutItemRequest(999L, 1)
+                    ),
+                    "서울시 강남구"
+            );
+
+            assertThatThrownBy(() -> orderService.checkout(request))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("배송 상태 조회 (checkDeliveryStatus)")
     class CheckDeliveryStatusTest {
@@ -240,4 +360,34 @@ class OrderServiceIntegrationTest {
                     .isInstanceOf(OrderNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("상품 리콜 (ProductRecall)")
+    class RecallTest {
+
+        @Test
+        @DisplayName("ORDERED 주문만 취소 → 취소한 수량만큼 재고 복구, 배송 중 주문은 그대로")
+        void recall_cancelsOnlyOrderedOrders() {
+            Long first = orderService.placeOrder(new CreateOrderRequest(userId, productId, 2, "서울시 강남구")).orderId();
+            Long second = orderService.placeOrder(new CreateOrderRequest(userId, productId, 3, "서울시 강남구")).orderId();
+            Long shipped = orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구")).orderId();
+            orderService.updateDeliveryStatus(shipped, new UpdateDeliveryStatusRequest(DeliveryStatus.SHIPPED));
+
+            ProductRecallResponse response = productRecall.cancelAllOrdered(productId);
+
+            assertThat(response.cancelledOrders()).isEqualTo(2);
+            assertThat(response.restockedQuantity()).isEqualTo(5);
+            assertThat(orderService.checkDeliveryStatus(first).deliveryStatus()).isEqualTo(DeliveryStatus.CANCELLED);
+            assertThat(orderService.checkDeliveryStatus(second).deliveryStatus()).isEqualTo(DeliveryStatus.CANCELLED);
+            assertThat(orderService.checkDeliveryStatus(shipped).deliveryStatus()).isEqualTo(DeliveryStatus.SHIPPED);
+            assertThat(productService.getProduct(productId).stock()).isEqualTo(99);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품 → ProductNotFoundException")
+        void recall_productNotFound_throwsException() {
+            assertThatThrownBy(() -> productRecall.cancelAllOrdered(999L))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
 }
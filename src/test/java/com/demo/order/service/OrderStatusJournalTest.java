@@ -0,0 +1,133 @@
+package com.demo.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.OrderStatusEventResponse;
+import com.demo.order.dto.OrderTimelineResponse;
+import com.demo.order.dto.UpdateDeliveryStatusRequest;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/*
+ * 이력은 커밋된 뒤에 버퍼에 들어가므로 @Transactional을 붙이지 않는다.
+ * 주기 flush는 테스트 설정에서 꺼 두고 flush()를 직접 호출한다.
+ */
+@SpringBootTest
+class OrderStatusJournalTest {
+
+    @Autowired
+    private OrderStatusJournal orderStatusJournal;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("주문 → 상태 변경 → flush → 타임라인에 변경 순서대로 남는다")
+    void timeline_listsStatusChangesInOrder() {
+        Long orderId = placeOrder();
+        orderService.updateDeliveryStatus(orderId, new UpdateDeliveryStatusRequest(DeliveryStatus.PREPARING));
+        orderService.updateDeliveryStatus(orderId, new UpdateDeliveryStatusRequest(DeliveryStatus.SHIPPED));
+
+        orderStatusJournal.flush();
+        OrderTimelineResponse timeline = orderService.getTimeline(orderId);
+
+        assertThat(timeline.currentStatus()).isEqualTo(DeliveryStatus.SHIPPED);
+        assertThat(timeline.events()).extracting(OrderStatusEventResponse::status)
+                .containsExactly(DeliveryStatus.ORDERED, DeliveryStatus.PREPARING, DeliveryStatus.SHIPPED);
+    }
+
+    @Test
+    @DisplayName("취소도 이력에 남고, flush 전에는 이력이 보이지 않지만 현재 상태는 바로 보인다")
+    void timeline_recordsCancellationAfterFlush() {
+        Long orderId = placeOrder();
+        orderStatusJournal.flush();
+        orderService.cancelOrder(orderId);
+
+        OrderTimelineResponse beforeFlush = orderService.getTimeline(orderId);
+        assertThat(beforeFlush.currentStatus()).isEqualTo(DeliveryStatus.CANCELLED);
+        assertThat(beforeFlush.events()).extracting(OrderStatusEventResponse::status)
+                .containsExactly(DeliveryStatus.ORDERED);
+
+        orderStatusJournal.flush();
+        assertThat(orderService.getTimeline(orderId).events()).extracting(OrderStatusEventResponse::status)
+                .containsExactly(DeliveryStatus.ORDERED, DeliveryStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("거절된 상태 변경(취소 불가)은 이력에 남지 않는다")
+    void timeline_skipsRejectedChanges() {
+        Long orderId = placeOrder();
+        orderService.updateDeliveryStatus(orderId, new UpdateDeliveryStatusRequest(DeliveryStatus.PREPARING));
+        try {
+            orderService.cancelOrder(orderId);
+        } catch (IllegalStateException expected) {
+            // PREPARING 주문은 취소할 수 없다
+        }
+
+        orderStatusJournal.flush();
+        assertThat(orderService.getTimeline(orderId).events()).extracting(OrderStatusEventResponse::status)
+                .containsExactly(DeliveryStatus.ORDERED, DeliveryStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차서 커밋 콜백 안에서 flush → 이미 커밋된 트랜잭션에 묻히지 않고 따로 커밋된다")
+    void fullBuffer_flushInsideAfterCommit_isCommitted() {
+        OrderStatusJournal journal = new OrderStatusJournal(dataSource, transactionManager, 1);
+        // 이력 테이블에는 FK가 없으므로 다른 테스트와 겹치지 않는 주문 id만 고른다.
+        long orderId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            journal.record(orderId, DeliveryStatus.ORDERED, LocalDateTime.now());
+            journal.record(orderId, DeliveryStatus.PREPARING, LocalDateTime.now());
+        });
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT status FROM order_status_events WHERE order_id = ? ORDER BY id", String.class, orderId))
+                .containsExactly("ORDERED");
+        journal.flush();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT status FROM order_status_events WHERE order_id = ? ORDER BY id", String.class, orderId))
+                .containsExactly("ORDERED", "PREPARING");
+    }
+
+    private Long placeOrder() {
+        Long userId = userService.registerUser(new CreateUserRequest(
+                "이력유저", "history-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+        Long productId = productService.addProduct(
+                new CreateProductRequest("이력상품-" + UUID.randomUUID(), 10000, 10)).productId();
+        return orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구")).orderId();
+    }
+}
@@ -0,0 +1,95 @@
+package com.demo.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.demo.common.exception.OrderTicketNotFoundException;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.OrderTicketResponse;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.dto.ProductResponse;
+import com.demo.product.repository.ProductRepository;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.dto.CreateUserResponse;
+import com.demo.user.service.UserService;
+
+/*
+ * 작업자 스레드가 별도 트랜잭션으로 주문을 처리하므로 @Transactional을 붙이지 않는다.
+ * 데이터가 커밋되어 남으므로 이메일/상품명은 테스트마다 다르게 만든다.
+ */
+@SpringBootTest
+class OrderSubmissionQueueTest {
+
+    @Autowired
+    private OrderSubmissionQueue orderSubmissionQueue;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("재고 3개 상품에 5건 접수 → 3건 COMPLETED, 2건 FAILED, 재고 0개")
+    void submit_workersPlaceOrdersAndReportOutcome() throws InterruptedException {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        CreateUserResponse user = userService.registerUser(
+                new CreateUserRequest("비동기주문자", "async-" + suffix + "@example.com", "pass1234"));
+        ProductResponse product = productService.addProduct(
+                new CreateProductRequest("비동기상품-" + suffix, 10000, 3));
+
+        List<String> ticketIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            OrderTicketResponse ticket = orderSubmissionQueue.submit(
+                    new CreateOrderRequest(user.userId(), product.productId(), 1, "서울시"));
+            assertThat(ticket.status()).isIn(OrderTicketStatus.QUEUED, OrderTicketStatus.PROCESSING,
+                    OrderTicketStatus.COMPLETED);
+            ticketIds.add(ticket.ticketId());
+        }
+
+        List<OrderTicketResponse> outcomes = new ArrayList<>();
+        for (String ticketId : ticketIds) {
+            outcomes.add(awaitFinished(ticketId));
+        }
+
+        assertThat(outcomes).filteredOn(t -> t.status() == OrderTicketStatus.COMPLETED)
+                .hasSize(3)
+                .allSatisfy(t -> assertThat(t.order().userId()).isEqualTo(user.userId()));
+        assertThat(outcomes).filteredOn(t -> t.status() == OrderTicketStatus.FAILED)
+                .hasSize(2)
+                .allSatisfy(t -> assertThat(t.message()).contains("재고가 부족합니다"));
+        assertThat(productRepository.findById(product.productId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 티켓 조회 → OrderTicketNotFoundException")
+    void getTicket_unknown_throws() {
+        assertThatThrownBy(() -> orderSubmissionQueue.getTicket("missing"))
+                .isInstanceOf(OrderTicketNotFoundException.class);
+    }
+
+    private OrderTicketResponse awaitFinished(String ticketId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            OrderTicketResponse ticket = orderSubmissionQueue.getTicket(ticketId);
+            if (ticket.status() == OrderTicketStatus.COMPLETED || ticket.status() == OrderTicketStatus.FAILED) {
+                return ticket;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("ticket not finished: " + ticketId);
+    }
+}
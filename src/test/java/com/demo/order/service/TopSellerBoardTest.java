@@ -0,0 +1,158 @@
+package com.demo.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutRequest;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.TopSellerResponse;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductSearchIndex;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/*
+ * 판매 수량은 커밋 이후에 반영되므로 @Transactional을 붙이지 않는다.
+ * 다른 테스트의 주문보다 확실히 많이 팔리도록 큰 수량으로 주문한다.
+ */
+@SpringBootTest
+class TopSellerBoardTest {
+
+    @Autowired
+    private TopSellerBoard topSellerBoard;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("단건 주문 + 장바구니 주문 → 판매 수량에 더해지고, 취소하면 빠진다")
+    void top_tracksSalesAndCancellations() {
+        Long productId = productService.addProduct(
+                new CreateProductRequest("판매순위상품-" + UUID.randomUUID(), 1000, 3_000_000)).productId();
+        Long userId = userService.registerUser(new CreateUserRequest(
+                "판매순위유저", "top-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+
+        Long orderId = orderService.placeOrder(
+                new CreateOrderRequest(userId, productId, 1_000_000, "서울시 강남구")).orderId();
+        orderService.checkout(new CheckoutRequest(userId,
+                List.of(new CheckoutItemRequest(productId, 500_000)), "서울시 강남구"));
+        topSellerBoard.refresh();
+
+        assertThat(topSellerBoard.top(TopSellerBoard.MAX_SIZE))
+                .filteredOn(entry -> entry.productId().equals(productId))
+                .extracting(TopSellerResponse::soldQuantity)
+                .containsExactly(1_500_000L);
+
+        orderService.cancelOrder(orderId);
+        topSellerBoard.refresh();
+
+        assertThat(topSellerBoard.top(TopSellerBoard.MAX_SIZE))
+                .filteredOn(entry -> entry.productId().equals(productId))
+                .extracting(TopSellerResponse::soldQuantity)
+                .containsExactly(500_000L);
+    }
+
+    @Test
+    @DisplayName("판매 수량 내림차순으로 정렬되고 limit만큼 자른다")
+    void top_isSortedAndLimited() {
+        topSellerBoard.refresh();
+
+        List<TopSellerResponse> top = topSellerBoard.top(TopSellerBoard.MAX_SIZE);
+        assertThat(top).extracting(TopSellerResponse::soldQuantity)
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(topSellerBoard.top(1)).hasSizeLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 추가된 상품 → 발행된 id나 순위 갱신 시 DB에서 색인되어 빠지지 않는다")
+    void top_includesProductsAddedOnOtherNodes() {
+        Long announced = insertProductBehindIndex("다른노드상품-" + UUID.randomUUID());
+        Long silent = insertProductBehindIndex("메시지유실상품-" + UUID.randomUUID());
+        Long userId = newUser();
+
+        invalidationBus.publish("product-index", announced);
+        assertThat(productSearchIndex.name(announced)).isPresent();
+        assertThat(productSearchIndex.name(silent)).isEmpty();
+
+        insertOrderOnOtherNode(userId, announced, 2_000_000);
+        insertOrderOnOtherNode(userId, silent, 2_000_000);
+        topSellerBoard.refresh();
+
+        assertThat(topSellerBoard.top(TopSellerBoard.MAX_SIZE))
+                .extracting(TopSellerResponse::productId)
+                .contains(announced, silent);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 주문/취소 → 발행된 상품 id의 판매 수량을 다시 읽어 반영한다")
+    void top_followsSalesCommittedOnOtherNodes() {
+        Long productId = productService.addProduct(
+                new CreateProductRequest("원격판매상품-" + UUID.randomUUID(), 1000, 10)).productId();
+        Long userId = newUser();
+
+        Long orderId = insertOrderOnOtherNode(userId, productId, 3_000_000);
+        topSellerBoard.refresh();
+        assertThat(topSellerBoard.top(TopSellerBoard.MAX_SIZE))
+                .filteredOn(entry -> entry.productId().equals(productId))
+                .extracting(TopSellerResponse::soldQuantity)
+                .containsExactly(3_000_000L);
+
+        jdbcTemplate.update("UPDATE orders SET delivery_status = 'CANCELLED' WHERE id = ?", orderId);
+        invalidationBus.publish(TopSellerBoard.CHANNEL, productId);
+        topSellerBoard.refresh();
+
+        assertThat(topSellerBoard.top(TopSellerBoard.MAX_SIZE))
+                .extracting(TopSellerResponse::productId)
+                .doesNotContain(productId);
+    }
+
+    /**
+     * 다른 노드의 주문처럼, 이 노드의 서비스를 거치지 않고 주문 행을 넣고 버스 메시지만 보낸다.
+     */
+    private Long insertOrderOnOtherNode(Long userId, Long productId, int quantity) {
+        jdbcTemplate.update("INSERT INTO orders (user_id, product_id, product_name, quantity, shipping_address, "
+                + "delivery_status, ordered_at) VALUES (?, ?, 'remote', ?, '서울시', 'ORDERED', CURRENT_TIMESTAMP)",
+                userId, productId, quantity);
+        invalidationBus.publish(TopSellerBoard.CHANNEL, productId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders WHERE product_id = ?", Long.class, productId);
+    }
+
+    private Long newUser() {
+        return userService.registerUser(new CreateUserRequest(
+                "판매순위유저", "top-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+    }
+
+    /**
+     * 다른 노드의 상품 추가처럼, 이 노드의 색인을 거치지 않고 상품 행만 넣는다.
+     */
+    private Long insertProductBehindIndex(String name) {
+        jdbcTemplate.update("INSERT INTO products (name, price, stock, reserved_stock) VALUES (?, 1000, 10, 0)", name);
+        return jdbcTemplate.queryForObject("SELECT id FROM products WHERE name = ?", Long.class, name);
+    }
+}
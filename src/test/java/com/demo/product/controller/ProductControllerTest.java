@@ -1,32 +1,63 @@
 package com.demo.product.controller;
 
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.demo.common.cache.LocalCacheInvalidationBus;
+import com.demo.common.web.EntityVersionRegistry;
+import com.demo.order.dto.TopSellerResponse;
+import com.demo.order.service.TopSellerBoard;
+import com.demo.product.dto.LowStockResponse;
 import com.demo.product.dto.ProductResponse;
+import com.demo.product.dto.ProductSearchHit;
+import com.demo.product.dto.ProductSearchResponse;
+import com.demo.product.service.CatalogSnapshot;
+import com.demo.product.service.LowStockBoard;
 import com.demo.product.service.ProductService;
+import com.demo.product.service.StockShardService;
 
 @WebMvcTest(ProductController.class)
+@Import({EntityVersionRegistry.class, LocalCacheInvalidationBus.class})
 class ProductControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EntityVersionRegistry entityVersionRegistry;
+
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private CatalogSnapshot catalogSnapshot;
+
+    @MockitoBean
+    private StockShardService stockShardService;
+
+    @MockitoBean
+    private TopSellerBoard topSellerBoard;
+
+    @MockitoBean
+    private LowStockBoard lowStockBoard;
+
     @Test
     void addProduct_returnsCreatedProduct() throws Exception {
         when(productService.addProduct(org.mockito.ArgumentMatchers.any()))
@@ -72,4 +103,86 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$[0].name").value("맥북 프로"))
                 .andExpect(jsonPath("$[1].name").value("키보드"));
     }
+
+    @Test
+    void getProduct_matchingEtag_returnsNotModifiedWithoutLoading() throws Exception {
+        String etag = entityVersionRegistry.productEtag(1L);
+
+        mockMvc.perform(get("/api/products/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void getAllProducts_staleEtag_returnsFullList() throws Exception {
+        when(productService.getAllProducts())
+                .thenReturn(List.of(new ProductResponse(1L, "맥북 프로", 2500000, 50)));
+
+        mockMvc.perform(get("/api/products").header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", entityVersionRegistry.catalogEtag()))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getAllProducts_withSnapshot_negotiatesGzip() throws Exception {
+        byte[] json = "[{\"productId\":1,\"name\":\"맥북 프로\",\"price\":2500000,\"stock\":50}]"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = {0x1f, (byte) 0x8b, 0x08, 0x00};
+        when(catalogSnapshot.current())
+                .thenReturn(new CatalogSnapshot.Snapshot(3L, "\"s-3\"", json, "\"s-3-gz\"", gzip));
+
+        mockMvc.perform(get("/api/products").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"s-3-gz\""))
+                .andExpect(content().bytes(gzip));
+
+        mockMvc.perform(get("/api/products").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("ETag", "\"s-3\""))
+                .andExpect(jsonPath("$[0].name").value("맥북 프로"));
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void searchProducts_clampsPageSizeAndReturnsHits() throws Exception {
+        when(productService.searchProducts("맥북", 0, 100, true))
+                .thenReturn(new ProductSearchResponse("맥북", 1, 0, 100,
+                        List.of(new ProductSearchHit(1L, "맥북 프로", 2500000, 80))));
+
+        mockMvc.perform(get("/api/products/search").param("q", "맥북").param("size", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalHits").value(1))
+                .andExpect(jsonPath("$.hits[0].productId").value(1))
+                .andExpect(jsonPath("$.hits[0].score").value(80));
+    }
+
+    @Test
+    void getTopSellers_readsBoardWithClampedLimit() throws Exception {
+        when(topSellerBoard.top(100)).thenReturn(List.of(new TopSellerResponse(1L, "맥북 프로", 120)));
+
+        mockMvc.perform(get("/api/products/top-sellers").param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productId").value(1))
+                .andExpect(jsonPath("$[0].soldQuantity").value(120));
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void getLowStock_readsBoard() throws Exception {
+        when(lowStockBoard.lowest(10)).thenReturn(List.of(new LowStockResponse(2L, "아이패드", 3)));
+
+        mockMvc.perform(get("/api/products/low-stock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("아이패드"))
+                .andExpect(jsonPath("$[0].stock").value(3));
+
+        verifyNoInteractions(productService);
+    }
 }
@@ -0,0 +1,94 @@
+package com.demo.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.dto.ProductResponse;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/*
+ * 스냅샷은 커밋 이후 이벤트로 갱신되므로 @Transactional 없이 실제로 커밋한다.
+ */
+@SpringBootTest
+class CatalogSnapshotTest {
+
+    @Autowired
+    private CatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("상품 추가/재고 변경 → 변경된 상품만 다시 직렬화되고 gzip 표현도 같은 내용")
+    void snapshot_followsCommittedChanges() throws IOException {
+        CatalogSnapshot.Snapshot before = catalogSnapshot.current();
+
+        ProductResponse product = productService.addProduct(
+                new CreateProductRequest("스냅샷테스트상품", 10000, 5)
+        );
+        CatalogSnapshot.Snapshot added = catalogSnapshot.current();
+
+        assertThat(added.version()).isGreaterThan(before.version());
+        assertThat(added.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(added.json(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"스냅샷테스트상품\",\"price\":10000,\"stock\":5");
+
+        Long userId = userService.registerUser(
+                new CreateUserRequest("스냅샷테스트유저", "snapshot@example.com", "pass1234")
+        ).userId();
+        orderService.placeOrder(new CreateOrderRequest(userId, product.productId(), 2, "서울시 강남구"));
+        CatalogSnapshot.Snapshot ordered = catalogSnapshot.current();
+
+        String json = new String(ordered.json(), StandardCharsets.UTF_8);
+        assertThat(json).contains("\"name\":\"스냅샷테스트상품\",\"price\":10000,\"stock\":3");
+        assertThat(json).startsWith("[").endsWith("]");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(ordered.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(ordered.json());
+        }
+        assertThat(catalogSnapshot.current()).isSameAs(ordered);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 상품 변경 → 이 노드의 스냅샷도 DB에서 다시 읽어 반영한다")
+    void snapshot_followsChangesPublishedByOtherNodes() {
+        ProductResponse product = productService.addProduct(
+                new CreateProductRequest("스냅샷원격상품-" + UUID.randomUUID(), 10000, 5)
+        );
+        catalogSnapshot.current();
+
+        // 다른 노드의 커밋: 이 노드에서는 ProductChangedEvent가 나지 않고 버스 메시지만 도착한다
+        jdbcTemplate.update("UPDATE products SET stock = 42 WHERE id = ?", product.productId());
+        invalidationBus.publish(CatalogSnapshot.CHANNEL, product.productId());
+
+        assertThat(new String(catalogSnapshot.current().json(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"" + product.name() + "\",\"price\":10000,\"stock\":42");
+    }
+}
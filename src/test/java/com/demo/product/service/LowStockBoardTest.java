@@ -0,0 +1,96 @@
+package com.demo.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.dto.LowStockResponse;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/*
+ * 재고 변경은 커밋 이후 이벤트로 반영되므로 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+class LowStockBoardTest {
+
+    @Autowired
+    private LowStockBoard lowStockBoard;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("주문으로 재고가 줄면 다음 refresh에 반영되고, 품절되면 목록에서 빠진다")
+    void lowest_followsCommittedStock() {
+        Long productId = productService.addProduct(
+                new CreateProductRequest("품절임박상품-" + UUID.randomUUID(), 1000, 2)).productId();
+        Long userId = userService.registerUser(new CreateUserRequest(
+                "품절임박유저", "low-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+        lowStockBoard.refresh();
+        assertThat(lowStockBoard.lowest(LowStockBoard.MAX_SIZE))
+                .filteredOn(entry -> entry.productId().equals(productId))
+                .extracting(LowStockResponse::stock)
+                .containsExactly(1);
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+        lowStockBoard.refresh();
+        assertThat(lowStockBoard.lowest(LowStockBoard.MAX_SIZE))
+                .noneMatch(entry -> entry.productId().equals(productId));
+    }
+
+    @Test
+    @DisplayName("재고 오름차순(같으면 id 순)으로 정렬되고 품절 상품은 없다")
+    void lowest_isSortedAscending() {
+        lowStockBoard.refresh();
+
+        List<LowStockResponse> lowest = lowStockBoard.lowest(LowStockBoard.MAX_SIZE);
+        assertThat(lowest).allMatch(entry -> entry.stock() > 0);
+        assertThat(lowest).isSortedAccordingTo((a, b) -> a.stock() != b.stock()
+                ? Integer.compare(a.stock(), b.stock())
+                : a.productId().compareTo(b.productId()));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 상품 변경 → 다음 refresh에 DB에서 다시 읽어 반영한다")
+    void lowest_followsChangesPublishedByOtherNodes() {
+        Long productId = productService.addProduct(
+                new CreateProductRequest("원격품절임박상품-" + UUID.randomUUID(), 1000, 50)).productId();
+        lowStockBoard.refresh();
+
+        // 다른 노드의 주문: 이 노드에서는 ProductChangedEvent가 나지 않고 버스 메시지만 도착한다
+        jdbcTemplate.update("UPDATE products SET stock = 1 WHERE id = ?", productId);
+        invalidationBus.publish(LowStockBoard.CHANNEL, productId);
+        lowStockBoard.refresh();
+
+        assertThat(lowStockBoard.lowest(LowStockBoard.MAX_SIZE))
+                .filteredOn(entry -> entry.productId().equals(productId))
+                .extracting(LowStockResponse::stock)
+                .containsExactly(1);
+    }
+}
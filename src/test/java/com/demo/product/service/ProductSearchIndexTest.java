@@ -0,0 +1,85 @@
+package com.demo.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.demo.common.cache.LocalCacheInvalidationBus;
+
+/*
+ * 색인은 메모리만 사용하므로 스프링 컨텍스트 없이 검증한다.
+ * 트랜잭션 밖에서 add하면 바로 색인된다.
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(null, new LocalCacheInvalidationBus());
+        index.add(1L, "맥북 프로 14", 2500000);
+        index.add(2L, "맥북 에어", 1500000);
+        index.add(3L, "게이밍 노트북", 1800000);
+        index.add(4L, "Magic Keyboard", 150000);
+        index.add(5L, "맥북", 1000000);
+    }
+
+    @Test
+    @DisplayName("검색어 순위 → 완전 일치 > 이름 접두어 > 부분 일치")
+    void search_ranksExactThenPrefixThenSubstring() {
+        assertThat(index.search("맥북", false))
+                .extracting(ProductSearchIndex.Hit::productId, ProductSearchIndex.Hit::score)
+                .containsExactly(
+                        tuple(5L, ProductSearchIndex.EXACT),
+                        tuple(2L, ProductSearchIndex.NAME_PREFIX),
+                        tuple(1L, ProductSearchIndex.NAME_PREFIX)
+                );
+        assertThat(index.search("북", false))
+                .extracting(ProductSearchIndex.Hit::productId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("공백/대소문자 차이 → 같은 이름으로 검색, 단어 접두어는 부분 일치보다 앞")
+    void search_normalizesSpacingAndCase() {
+        assertThat(index.search("맥북프로", false))
+                .extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(1L);
+        assertThat(index.search("KEYB", false))
+                .extracting(ProductSearchIndex.Hit::productId, ProductSearchIndex.Hit::score)
+                .containsExactly(tuple(4L, ProductSearchIndex.TOKEN_PREFIX));
+        assertThat(index.search("eyboard", false))
+                .extracting(ProductSearchIndex.Hit::score)
+                .containsExactly(ProductSearchIndex.SUBSTRING);
+    }
+
+    @Test
+    @DisplayName("오타 → 허용 시에만 편집 거리 1 이내 상품 반환")
+    void search_typoTolerance() {
+        assertThat(index.search("keybaord", false)).isEmpty();
+        assertThat(index.search("keybord", true))
+                .extracting(ProductSearchIndex.Hit::productId, ProductSearchIndex.Hit::score)
+                .containsExactly(tuple(4L, ProductSearchIndex.TYPO));
+        assertThat(index.search("노트붘", true))
+                .extracting(ProductSearchIndex.Hit::productId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("빈 검색어 → 빈 결과")
+    void search_blankQuery_returnsEmpty() {
+        assertThat(index.search("  ", true)).isEmpty();
+        assertThat(index.search(null, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부분 문자열 편집 거리")
+    void substringDistance() {
+        assertThat(ProductSearchIndex.substringDistance("abc", "xxabcxx")).isZero();
+        assertThat(ProductSearchIndex.substringDistance("abd", "xxabcxx")).isEqualTo(1);
+        assertThat(ProductSearchIndex.substringDistance("abc", "")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,61 @@
+package com.demo.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.demo.common.cache.CacheInvalidationBus;
+import com.demo.common.cache.LocalCacheInvalidationBus;
+
+/*
+ * 품절 게이트는 메모리만 사용하므로 스프링 컨텍스트 없이 검증한다.
+ * 트랜잭션 밖에서 기록하면 바로 반영된다.
+ */
+class SoldOutRegistryTest {
+
+    private CacheInvalidationBus invalidationBus;
+    private StockShardRegistry stockShardRegistry;
+    private SoldOutRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new LocalCacheInvalidationBus();
+        stockShardRegistry = new StockShardRegistry();
+        registry = new SoldOutRegistry(stockShardRegistry, invalidationBus);
+    }
+
+    @Test
+    @DisplayName("이 노드의 재고 증가 → 기록이 지워져 DB에 판단을 맡긴다")
+    void recordRestock_clearsWatermark() {
+        registry.recordObservedStock(1L, 0);
+        assertThat(registry.isObviouslyUnavailable(1L, 1)).isTrue();
+
+        registry.recordRestock(1L);
+
+        assertThat(registry.isObviouslyUnavailable(1L, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 재고 증가(버스 메시지만 도착) → 이 노드의 품절 기록도 지워진다")
+    void restockPublishedByOtherNode_clearsWatermark() {
+        registry.recordObservedStock(1L, 0);
+        registry.recordObservedStock(2L, 0);
+
+        invalidationBus.publish(SoldOutRegistry.CHANNEL, 1L);
+
+        assertThat(registry.isObviouslyUnavailable(1L, 1)).isFalse();
+        assertThat(registry.isObviouslyUnavailable(2L, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("샤딩 사실을 알기 전에 남은 풀 재고 기록 → 샤딩된 뒤에는 거절하지 않는다")
+    void shardedProduct_ignoresPoolWatermark() {
+        registry.recordObservedStock(1L, 0);
+
+        stockShardRegistry.put(1L, 4);
+
+        assertThat(registry.isObviouslyUnavailable(1L, 1)).isFalse();
+    }
+}
@@ -0,0 +1,188 @@
+package com.demo.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.demo.order.dto.CheckoutItemRequest;
+import com.demo.order.dto.CheckoutRequest;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.dto.StockShardResponse;
+import com.demo.reservation.dto.CreateReservationRequest;
+import com.demo.reservation.service.ReservationService;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+/*
+ * 샤드 차감은 각자 커밋되는 트랜잭션끼리 경합해야 의미가 있으므로 @Transactional을 붙이지 않는다.
+ * 커밋된 데이터가 남으므로 이메일/상품명은 매번 새로 만든다.
+ */
+@SpringBootTest
+class StockShardServiceTest {
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private StockShardRegistry stockShardRegistry;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Test
+    @DisplayName("샤드 4개 설정 → 풀 10%, 나머지는 샤드에 고르게, 합계는 그대로")
+    void configure_distributesStock() {
+        Long productId = newProduct(100);
+
+        StockShardResponse response = stockShardService.configure(productId, 4);
+
+        assertThat(response.poolStock()).isEqualTo(10);
+        assertThat(response.shardStocks()).containsExactly(23, 23, 22, 22);
+        assertThat(response.stock()).isEqualTo(100);
+        assertThat(stockShardRegistry.shardCount(productId)).isEqualTo(4);
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("샤딩된 상품 주문 → 샤드에서 차감되고 상품 재고 합계가 줄어든다")
+    void placeOrder_takesFromShard() {
+        Long productId = newProduct(100);
+        Long userId = newUser();
+        stockShardService.configure(productId, 4);
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 3, "서울시 강남구"));
+
+        StockShardResponse shards = stockShardService.getShards(productId);
+        assertThat(shards.poolStock()).isEqualTo(10);
+        assertThat(shards.stock()).isEqualTo(97);
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("샤딩된 재고 100개에 100명이 동시 주문 → 정확히 100개 성공, 재고 0개")
+    void concurrentOrders_shardedStock_noOversell() throws InterruptedException {
+        Long productId = newProduct(100);
+        stockShardService.configure(productId, 4);
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            Long userId = newUser();
+            executorService.submit(() -> {
+                try {
+                    orderService.placeOrder(new CreateOrderRequest(userId, productId, 1, "서울시 강남구"));
+                    successCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(productService.getProduct(productId).stock()).isZero();
+    }
+
+    @Test
+    @DisplayName("합계가 샤드당 5개 이하로 줄면 재분배 시 전부 풀로 모은다")
+    void rebalance_smallRemainder_consolidatesToPool() {
+        Long productId = newProduct(100);
+        Long userId = newUser();
+        stockShardService.configure(productId, 4);
+        // 샤드 23/23/22/22 → 20개 주문 4건이 샤드마다 한 번씩 차감된다.
+        for (int i = 0; i < 4; i++) {
+            orderService.placeOrder(new CreateOrderRequest(userId, productId, 20, "서울시 강남구"));
+        }
+
+        stockShardService.rebalance(productId);
+
+        StockShardResponse shards = stockShardService.getShards(productId);
+        assertThat(shards.stock()).isEqualTo(20);
+        assertThat(shards.poolStock()).isEqualTo(20);
+        assertThat(shards.shardStocks()).containsExactly(0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("샤드 수 0 → 샤드 재고를 모두 풀로 돌리고 샤딩 해제")
+    void configure_zero_drainsToPool() {
+        Long productId = newProduct(100);
+        stockShardService.configure(productId, 4);
+
+        StockShardResponse response = stockShardService.configure(productId, 0);
+
+        assertThat(response.poolStock()).isEqualTo(100);
+        assertThat(response.shardStocks()).isEmpty();
+        assertThat(stockShardRegistry.isSharded(productId)).isFalse();
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("풀보다 큰 장바구니 주문/예약 → 샤드에서 모자란 만큼 풀로 옮겨 와서 판매된다")
+    void checkoutAndReserve_refillPoolFromShards() {
+        Long productId = newProduct(1000);
+        Long userId = newUser();
+        stockShardService.configure(productId, 4);
+        assertThat(stockShardService.getShards(productId).poolStock()).isEqualTo(100);
+
+        orderService.checkout(new CheckoutRequest(userId,
+                List.of(new CheckoutItemRequest(productId, 150)), "서울시 강남구"));
+        StockShardResponse afterCheckout = stockShardService.getShards(productId);
+        assertThat(afterCheckout.stock()).isEqualTo(850);
+        assertThat(afterCheckout.poolStock()).isZero();
+
+        reservationService.reserve(new CreateReservationRequest(userId, productId, 200));
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(650);
+    }
+
+    @Test
+    @DisplayName("샤드 하나와 풀로는 모자라지만 합계 이내인 단건 주문 → 샤드를 풀로 모아 와서 판매된다")
+    void placeOrder_largerThanAnyShard_refillsPool() {
+        Long productId = newProduct(100);
+        Long userId = newUser();
+        stockShardService.configure(productId, 4);
+
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 50, "서울시 강남구"));
+
+        StockShardResponse shards = stockShardService.getShards(productId);
+        assertThat(shards.stock()).isEqualTo(50);
+        assertThat(shards.poolStock()).isZero();
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(50);
+    }
+
+    private Long newProduct(int stock) {
+        return productService.addProduct(
+                new CreateProductRequest("샤드상품-" + UUID.randomUUID(), 10000, stock)).productId();
+    }
+
+    private Long newUser() {
+        String suffix = UUID.randomUUID().toString();
+        return userService.registerUser(
+                new CreateUserRequest("샤드유저", "shard-" + suffix + "@example.com", "pass1234")).userId();
+    }
+}
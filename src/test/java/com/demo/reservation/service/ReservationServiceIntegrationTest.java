@@ -0,0 +1,148 @@
+package com.demo.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.common.exception.InsufficientStockException;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.CreateOrderResponse;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+import com.demo.reservation.dto.ConfirmReservationRequest;
+import com.demo.reservation.dto.CreateReservationRequest;
+import com.demo.reservation.dto.ReservationResponse;
+import com.demo.reservation.entity.ReservationStatus;
+import com.demo.user.dto.CreateUserRequest;
+import com.demo.user.service.UserService;
+
+@SpringBootTest
+@Transactional
+class ReservationServiceIntegrationTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationSweeper reservationSweeper;
+
+    @Autowired
+    private ReservationExpiryIndex expiryIndex;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.registerUser(
+                new CreateUserRequest("예약자", "reservation-test@example.com", "pass1234")
+        ).userId();
+
+        productId = productService.addProduct(
+                new CreateProductRequest("한정판 스니커즈", 200000, 5)
+        ).productId();
+    }
+
+    @Test
+    @DisplayName("예약 → 판매 가능 재고 즉시 감소, 예약분은 일반 주문으로 살 수 없음")
+    void reserve_holdsStock() {
+        ReservationResponse reservation = reservationService.reserve(
+                new CreateReservationRequest(userId, productId, 4)
+        );
+
+        assertThat(reservation.status()).isEqualTo(ReservationStatus.ACTIVE);
+        assertThat(reservation.expiresAt()).isAfter(LocalDateTime.now());
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(1);
+
+        assertThatThrownBy(() -> orderService.placeOrder(
+                new CreateOrderRequest(userId, productId, 2, "서울시 강남구")
+        )).isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("예약 확정 → 주문 생성, 판매 가능 재고는 그대로")
+    void confirm_createsOrder() {
+        ReservationResponse reservation = reservationService.reserve(
+                new CreateReservationRequest(userId, productId, 2)
+        );
+
+        CreateOrderResponse order = reservationService.confirm(
+                reservation.reservationId(), new ConfirmReservationRequest("서울시 강남구")
+        );
+
+        assertThat(order.deliveryStatus()).isEqualTo(DeliveryStatus.ORDERED);
+        assertThat(order.quantity()).isEqualTo(2);
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(3);
+        assertThat(reservationService.getReservation(reservation.reservationId()).status())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("예약 취소 → 재고 복구, 다시 취소하면 IllegalStateException")
+    void release_restoresStock() {
+        ReservationResponse reservation = reservationService.reserve(
+                new CreateReservationRequest(userId, productId, 3)
+        );
+
+        ReservationResponse released = reservationService.release(reservation.reservationId());
+
+        assertThat(released.status()).isEqualTo(ReservationStatus.RELEASED);
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(5);
+        assertThatThrownBy(() -> reservationService.release(reservation.reservationId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 스위퍼가 재고를 복구하고, 만료된 예약은 확정할 수 없음")
+    void sweeper_expiresDueReservations() {
+        ReservationResponse first = reservationService.reserve(new CreateReservationRequest(userId, productId, 2));
+        ReservationResponse second = reservationService.reserve(new CreateReservationRequest(userId, productId, 1));
+
+        int expired = reservationSweeper.sweepExpired(LocalDateTime.now().plusHours(1));
+
+        assertThat(expired).isGreaterThanOrEqualTo(2);
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(5);
+        assertThat(reservationService.getReservation(first.reservationId()).status())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(reservationService.getReservation(second.reservationId()).status())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThatThrownBy(() -> reservationService.confirm(
+                first.reservationId(), new ConfirmReservationRequest("서울시 강남구")
+        )).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("만료 인덱스에 없는 예약(다른 노드가 만든 예약) → 스위퍼가 DB에서 찾아 만료시킨다")
+    void sweeper_expiresReservationsMissingFromIndex() {
+        ReservationResponse reservation = reservationService.reserve(new CreateReservationRequest(userId, productId, 2));
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        // 예약을 만든 노드가 내려간 상황: 이 노드의 인덱스에는 항목이 없다.
+        expiryIndex.pollDue(later, Integer.MAX_VALUE);
+
+        int expired = reservationSweeper.sweepExpired(later);
+
+        assertThat(expired).isGreaterThanOrEqualTo(1);
+        assertThat(reservationService.getReservation(reservation.reservationId()).status())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(productService.getProduct(productId).stock()).isEqualTo(5);
+    }
+}
@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,6 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.demo.order.dto.UserDeliveryStatusResponse;
 import com.demo.user.dto.CreateUserResponse;
 import com.demo.user.dto.LoginResponse;
-import com.demo.user.dto.UserOrdersResponse;
 import com.demo.user.entity.Role;
 import com.demo.user.service.UserService;
 
@@ -29,6 +29,9 @@ class UserControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    private static final byte[] EMPTY_ORDERS_JSON =
+            "{\"userId\":1,\"userName\":\"홍길동\",\"totalOrders\":0,\"orders\":[]}".getBytes(StandardCharsets.UTF_8);
+
     @MockitoBean
     private UserService userService;
 
@@ -106,8 +109,7 @@ class UserControllerTest {
         session.setAttribute("userId", 1L);
         session.setAttribute("role", Role.ROLE_USER);
 
-        when(userService.getUserOrders(1L))
-                .thenReturn(new UserOrdersResponse(1L, "홍길동", 0, List.of()));
+        when(userService.getUserOrdersJson(1L)).thenReturn(EMPTY_ORDERS_JSON);
 
         mockMvc.perform(get("/api/users/1/orders").session(session))
                 .andExpect(status().isOk())
@@ -128,8 +130,7 @@ class UserControllerTest {
         session.setAttribute("userId", 99L);
         session.setAttribute("role", Role.ROLE_ADMIN);
 
-        when(userService.getUserOrders(1L))
-                .thenReturn(new UserOrdersResponse(1L, "홍길동", 0, List.of()));
+        when(userService.getUserOrdersJson(1L)).thenReturn(EMPTY_ORDERS_JSON);
 
         mockMvc.perform(get("/api/users/1/orders").session(session))
                 .andExpect(status().isOk())
@@ -0,0 +1,131 @@
+package com.demo.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.unit.DataSize;
+
+import com.demo.common.cache.LocalCacheInvalidationBus;
+import com.demo.order.dto.CreateOrderRequest;
+import com.demo.order.dto.UpdateDeliveryStatusRequest;
+import com.demo.order.entity.DeliveryStatus;
+import com.demo.order.service.OrderService;
+import com.demo.product.dto.CreateProductRequest;
+import com.demo.product.service.ProductService;
+import com.demo.user.dto.CreateUserRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/*
+ * 무효화는 커밋 이후에 일어나므로 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+class UserOrdersCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    @DisplayName("주문 생성/상태 변경/취소 → 해당 사용자의 캐시가 지워져 다음 조회에 반영된다")
+    void getUserOrdersJson_invalidatedOnOrderChanges() {
+        Long productId = productService.addProduct(
+                new CreateProductRequest("주문캐시상품-" + UUID.randomUUID(), 1000, 10)).productId();
+        Long userId = userService.registerUser(new CreateUserRequest(
+                "주문캐시유저", "orders-cache-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+
+        assertThat(read(userId).path("totalOrders").asInt()).isZero();
+
+        Long orderId = orderService.placeOrder(
+                new CreateOrderRequest(userId, productId, 1, "서울시 강남구")).orderId();
+        JsonNode placed = read(userId);
+        assertThat(placed.path("totalOrders").asInt()).isEqualTo(1);
+        assertThat(placed.path("orders").get(0).path("orderId").asLong()).isEqualTo(orderId);
+
+        orderService.updateDeliveryStatus(orderId, new UpdateDeliveryStatusRequest(DeliveryStatus.PREPARING));
+        assertThat(read(userId).path("orders").get(0).path("deliveryStatus").asString()).isEqualTo("PREPARING");
+
+        orderService.cancelOrder(orderId);
+        assertThat(read(userId).path("orders").get(0).path("deliveryStatus").asString()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    @DisplayName("캐시된 JSON은 getUserOrders를 직렬화한 결과와 같다")
+    void getUserOrdersJson_matchesSerializedResponse() {
+        Long productId = productService.addProduct(
+                new CreateProductRequest("주문캐시상품-" + UUID.randomUUID(), 1000, 10)).productId();
+        Long userId = userService.registerUser(new CreateUserRequest(
+                "주문캐시유저", "orders-cache-" + UUID.randomUUID() + "@example.com", "pass1234")).userId();
+        orderService.placeOrder(new CreateOrderRequest(userId, productId, 2, "서울시 강남구"));
+
+        byte[] first = userService.getUserOrdersJson(userId);
+        byte[] second = userService.getUserOrdersJson(userId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .isEqualTo(jsonMapper.writeValueAsString(userService.getUserOrders(userId)));
+    }
+
+    @Test
+    @DisplayName("바이트 합계가 상한을 넘으면 가장 오래 안 쓴 항목부터 내보낸다")
+    void get_evictsLeastRecentlyUsedOverByteLimit() {
+        UserOrdersCache cache = new UserOrdersCache(
+                new LocalCacheInvalidationBus(), new SimpleMeterRegistry(), DataSize.ofBytes(160));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (long userId = 1; userId <= 16; userId++) {
+            cache.get(userId, () -> load(loads));
+        }
+        cache.get(1L, () -> load(loads));
+        cache.get(17L, () -> load(loads));
+        assertThat(cache.totalBytes()).isEqualTo(160);
+        assertThat(loads).hasValue(17);
+
+        cache.get(1L, () -> load(loads));
+        assertThat(loads).as("최근에 쓴 1번은 남는다").hasValue(17);
+        cache.get(2L, () -> load(loads));
+        assertThat(loads).as("가장 오래 안 쓴 2번이 밀려났다").hasValue(18);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 그 결과는 캐시에 넣지 않는다")
+    void get_skipsResultLoadedAcrossInvalidation() {
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        UserOrdersCache cache = new UserOrdersCache(bus, new SimpleMeterRegistry(), DataSize.ofKilobytes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            bus.publish(UserOrdersCache.CHANNEL, 1L);
+            return load(loads);
+        });
+        cache.get(1L, () -> load(loads));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private JsonNode read(Long userId) {
+        return jsonMapper.readTree(userService.getUserOrdersJson(userId));
+    }
+
+    private static byte[] load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new byte[10];
+    }
+}